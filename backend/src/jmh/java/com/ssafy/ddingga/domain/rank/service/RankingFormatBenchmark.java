@@ -0,0 +1,74 @@
+package com.ssafy.ddingga.domain.rank.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ssafy.ddingga.common.util.DurationFormatter;
+import com.ssafy.ddingga.facade.rank.dto.response.TopRankingInfo;
+import com.ssafy.ddingga.facade.rank.dto.response.TopRankingInfoForPlayTime;
+
+/**
+ * 상위 랭킹 응답 조립 벤치마크
+ * size 10 은 /api/rank/top 한 항목, 100 은 리더보드 한 페이지 최대 크기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RankingFormatBenchmark {
+
+	@Param({"10", "100"})
+	private int size;
+
+	private List<TopRankingInfo> topRankingInfos;
+	private Duration[] playTimes;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		topRankingInfos = new ArrayList<>(size);
+		playTimes = new Duration[size];
+		for (int i = 0; i < size; i++) {
+			// 최대 300시간 정도의 누적 플레이 시간
+			Duration playTime = Duration.ofSeconds(random.nextInt(300 * 3600));
+			playTimes[i] = playTime;
+			topRankingInfos.add(new TopRankingInfo(i + 1, "user" + i,
+				"https://ddingga-bucket.s3.ap-northeast-2.amazonaws.com/profile/" + i + ".jpg", playTime,
+				random.nextInt(2000), random.nextFloat() * 100));
+		}
+	}
+
+	@Benchmark
+	public void durationFormatter(Blackhole blackhole) {
+		for (Duration playTime : playTimes) {
+			blackhole.consume(DurationFormatter.format(playTime));
+		}
+	}
+
+	// 기존 String.format 방식 (비교 기준)
+	@Benchmark
+	public void durationStringFormat(Blackhole blackhole) {
+		for (Duration duration : playTimes) {
+			blackhole.consume(String.format("%02d", duration.toHours()) + ":" +
+				String.format("%02d", duration.toMinutes() % 60) + ":" +
+				String.format("%02d", duration.getSeconds() % 60));
+		}
+	}
+
+	@Benchmark
+	public List<TopRankingInfoForPlayTime> topRankingAssembly() {
+		return RankingServiceImpl.toTopRankingInfos(topRankingInfos);
+	}
+}
@@ -0,0 +1,144 @@
+package com.ssafy.ddingga.facade.article.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ssafy.ddingga.domain.article.entity.Article;
+import com.ssafy.ddingga.domain.article.service.ArticleService;
+import com.ssafy.ddingga.domain.auth.entity.User;
+import com.ssafy.ddingga.domain.like.service.ArticleLikeService;
+import com.ssafy.ddingga.facade.article.dto.response.ArticleDetailResponseDto;
+import com.ssafy.ddingga.facade.article.dto.response.ArticleGetAllResponseDto;
+import com.ssafy.ddingga.facade.article.dto.response.ArticleSearchResponseDto;
+import com.ssafy.ddingga.facade.comment.service.CommentFacadeMappingBenchmark;
+import com.ssafy.ddingga.facade.comment.service.CommentFacadeServiceImpl;
+
+/**
+ * 게시글 목록/검색/상세를 DTO 로 변환하는 ArticleFacadeServiceImpl 벤치마크
+ * DB 조회와 좋아요 조회는 고정 값을 반환하는 구현으로 대체하고 변환 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ArticleFacadeMappingBenchmark {
+
+	@Param({"50", "500"})
+	private int articleCount;
+
+	private ArticleFacadeServiceImpl articleFacadeService;
+
+	@Setup
+	public void setUp() {
+		List<Article> articles = createArticles(articleCount);
+		CommentFacadeServiceImpl commentFacadeService = new CommentFacadeServiceImpl(
+			new CommentFacadeMappingBenchmark.FixedCommentService(
+				CommentFacadeMappingBenchmark.createComments(30, 2)));
+		articleFacadeService = new ArticleFacadeServiceImpl(new FixedArticleService(articles), commentFacadeService,
+			new FixedArticleLikeService());
+	}
+
+	@Benchmark
+	public List<ArticleGetAllResponseDto> allGetArticleList() {
+		return articleFacadeService.allGetArticleList(1);
+	}
+
+	@Benchmark
+	public List<ArticleSearchResponseDto> searchArticleList() {
+		return articleFacadeService.searchArticleList("연습");
+	}
+
+	@Benchmark
+	public ArticleDetailResponseDto getArticle() {
+		return articleFacadeService.getArticle(1, 1);
+	}
+
+	private static List<Article> createArticles(int count) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Article> articles = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			User user = User.builder()
+				.userId(i % 100)
+				.username("user" + i % 100)
+				.profileImage("https://ddingga-bucket.s3.ap-northeast-2.amazonaws.com/profile/" + i % 100 + ".jpg")
+				.build();
+			articles.add(Article.builder()
+				.articleId(i + 1)
+				.user(user)
+				.title("오늘의 연습 기록 " + i)
+				.content("기타 연습 후기입니다. 코드 전환이 아직 어렵네요. ".repeat(10))
+				.createdAt(now)
+				.updatedAt(now)
+				.category("free")
+				.popularPost(i % 10 == 0)
+				.recommend(i % 37)
+				.build());
+		}
+		return articles;
+	}
+
+	private static class FixedArticleService implements ArticleService {
+		private final List<Article> articles;
+
+		FixedArticleService(List<Article> articles) {
+			this.articles = articles;
+		}
+
+		@Override
+		public List<Article> allGetArticleList() {
+			return articles;
+		}
+
+		@Override
+		public Article getArticle(int articleId) {
+			return articles.get(0);
+		}
+
+		@Override
+		public void creatArticle(int userId, String title, String content, String category) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Article updateArticle(int checkUserId, int articleId, String title, String content, String category) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void deleteArticle(int checkUserId, int articleId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<Article> searchArticles(String keyword) {
+			return articles;
+		}
+	}
+
+	private static class FixedArticleLikeService implements ArticleLikeService {
+		@Override
+		public boolean checkLikeArticle(int userId, int articleId) {
+			return articleId % 3 == 0;
+		}
+
+		@Override
+		public boolean likeArticle(int userId, int articleId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean unLikeArticle(int userId, int articleId) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.ssafy.ddingga.facade.comment.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ssafy.ddingga.domain.auth.entity.User;
+import com.ssafy.ddingga.domain.comment.entity.Comment;
+import com.ssafy.ddingga.domain.comment.service.CommentService;
+import com.ssafy.ddingga.facade.comment.dto.response.GetCommentsResponseDto;
+
+/**
+ * 게시글 상세의 댓글 트리를 DTO 로 변환하는 CommentFacadeServiceImpl.getComments 벤치마크
+ * DB 조회는 제외하고 엔티티 -> DTO 변환만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommentFacadeMappingBenchmark {
+
+	@Param({"20", "200"})
+	private int commentCount;      // 원 댓글 수
+
+	@Param({"2"})
+	private int repliesPerComment; // 원 댓글당 답글 수
+
+	private CommentFacadeServiceImpl commentFacadeService;
+
+	@Setup
+	public void setUp() {
+		List<Comment> comments = createComments(commentCount, repliesPerComment);
+		commentFacadeService = new CommentFacadeServiceImpl(new FixedCommentService(comments));
+	}
+
+	@Benchmark
+	public List<GetCommentsResponseDto> getComments() {
+		return commentFacadeService.getComments(1);
+	}
+
+	/**
+	 * 리포지토리처럼 원 댓글과 답글을 한 목록으로 반환 (답글은 parentComment 로 구분)
+	 */
+	public static List<Comment> createComments(int commentCount, int repliesPerComment) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Comment> comments = new ArrayList<>();
+		int commentId = 1;
+		for (int i = 0; i < commentCount; i++) {
+			List<Comment> replies = new ArrayList<>();
+			Comment parent = Comment.builder()
+				.commentId(commentId++)
+				.user(createUser(i))
+				.content("댓글 내용입니다. 연습 영상 잘 봤어요! " + i)
+				.createdAt(now)
+				.updatedAt(now)
+				.isDeleted(false)
+				.replies(replies)
+				.build();
+			comments.add(parent);
+			for (int j = 0; j < repliesPerComment; j++) {
+				Comment reply = Comment.builder()
+					.commentId(commentId++)
+					.user(createUser(i + j + 1))
+					.content("답글 내용입니다. " + j)
+					.createdAt(now)
+					.updatedAt(now)
+					.isDeleted(false)
+					.parentComment(parent)
+					.replies(new ArrayList<>())
+					.build();
+				replies.add(reply);
+				comments.add(reply);
+			}
+		}
+		return comments;
+	}
+
+	private static User createUser(int index) {
+		return User.builder()
+			.userId(index % 100)
+			.username("user" + index % 100)
+			.profileImage("https://ddingga-bucket.s3.ap-northeast-2.amazonaws.com/profile/" + index % 100 + ".jpg")
+			.build();
+	}
+
+	/**
+	 * 항상 같은 댓글 목록을 반환하는 CommentService
+	 */
+	public static class FixedCommentService implements CommentService {
+		private final List<Comment> comments;
+
+		public FixedCommentService(List<Comment> comments) {
+			this.comments = comments;
+		}
+
+		@Override
+		public List<Comment> getComments(int articleId) {
+			return comments;
+		}
+
+		@Override
+		public boolean createComment(int userId, int articleId, String content) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean createReply(int userId, int articleId, String content, int commentId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean updateComment(int checkUserId, int commentId, String content) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean deleteComment(int checkUserId, int commentId) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.ssafy.ddingga.global.security.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ssafy.ddingga.domain.auth.entity.User;
+
+/**
+ * 요청마다 JwtAuthenticationFilter 에서 호출되는 토큰 검증, userId 추출 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+	private JwtTokenProvider jwtTokenProvider;
+	private String accessToken;
+	private String tamperedToken;
+
+	@Setup
+	public void setUp() {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecret("benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123");
+		jwtProperties.setAccessTokenExpiration(3600L);
+		jwtProperties.setRefreshTokenExpiration(1209600000L);
+		jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+
+		User user = User.builder()
+			.userId(12345)
+			.loginId("benchmark_user")
+			.username("벤치마크유저")
+			.build();
+		accessToken = jwtTokenProvider.createAccessToken(user);
+		// 서명 마지막 글자를 바꿔서 검증 실패 경로 측정
+		char last = accessToken.charAt(accessToken.length() - 1);
+		tamperedToken = accessToken.substring(0, accessToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtTokenProvider.validateToken(accessToken);
+	}
+
+	@Benchmark
+	public boolean validateTamperedToken() {
+		return jwtTokenProvider.validateToken(tamperedToken);
+	}
+
+	@Benchmark
+	public Integer getUserId() {
+		return jwtTokenProvider.getUserId(accessToken);
+	}
+}
@@ -0,0 +1,48 @@
+package com.ssafy.ddingga.websocket;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 웹소켓 메시지마다 호출되는 MyWebSocketHandler.parseJson 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParseJsonBenchmark {
+
+	private MyWebSocketHandler handler;
+	private String gesturePayload;
+	private String largePayload;
+
+	@Setup
+	public void setUp() {
+		handler = new MyWebSocketHandler();
+		gesturePayload = "{\"roomId\":\"room-1234\",\"event\":\"gesture\"}";
+
+		// 클라이언트가 부가 정보를 함께 보내는 경우 (필드 20개)
+		StringBuilder sb = new StringBuilder("{\"roomId\":\"room-1234\",\"event\":\"sound\"");
+		for (int i = 0; i < 18; i++) {
+			sb.append(",\"field").append(i).append("\":\"value").append(i).append('"');
+		}
+		largePayload = sb.append('}').toString();
+	}
+
+	@Benchmark
+	public Map<String, String> parseGesture() {
+		return handler.parseJson(gesturePayload);
+	}
+
+	@Benchmark
+	public Map<String, String> parseLarge() {
+		return handler.parseJson(largePayload);
+	}
+}
@@ -0,0 +1,67 @@
+package com.ssafy.ddingga.common.util;
+
+/**
+ * 문자열 Bloom filter (없는 값을 있다고 할 수는 있어도, 넣은 값을 없다고 하지는 않음)
+ * 예상 개수와 오탐률로 비트 수와 해시 수를 정하므로 넣는 값이 많아도 메모리가 고정됨
+ */
+public final class BloomFilter {
+	private static final long MAX_BITS = 1L << 34;  // 최대 2GB 는 넘지 않도록 (실제로는 훨씬 작게 씀)
+
+	private final long[] words;
+	private final long bitCount;
+	private final int hashCount;
+
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1, expectedInsertions);
+		double ln2 = Math.log(2);
+		long bits = (long)Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+		bits = Math.min(Math.max(bits, 64), MAX_BITS);
+
+		this.words = new long[(int)((bits + 63) / 64)];
+		this.bitCount = (long)words.length * 64;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitCount / n * ln2));
+	}
+
+	public void put(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			words[(int)(bit >>> 6)] |= 1L << bit;
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			if ((words[(int)(bit >>> 6)] & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public long sizeInBytes() {
+		return (long)words.length * Long.BYTES;
+	}
+
+	// 64비트 FNV-1a
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	// splitmix64 로 두 번째 해시를 만듦 (홀수로 만들어 모든 비트를 돌도록)
+	private static long mix(long value) {
+		long z = value + 0x9e3779b97f4a7c15L;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return (z ^ (z >>> 31)) | 1;
+	}
+}
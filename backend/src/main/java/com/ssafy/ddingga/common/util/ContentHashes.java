@@ -0,0 +1,51 @@
+package com.ssafy.ddingga.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드 파일 내용의 SHA-256 (중복 제거 키, 멱등 요청 지문에 같은 값을 씀)
+ */
+public final class ContentHashes {
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private ContentHashes() {
+	}
+
+	/**
+	 * multipart 임시 파일을 한 번 읽어 SHA-256 (hex) 계산
+	 */
+	public static String sha256(MultipartFile file) throws IOException {
+		MessageDigest digest = newDigest();
+		try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (inputStream.read(buffer) != -1) {
+				// 읽는 동안 digest 가 갱신됨
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * 문자열의 SHA-256 (hex)
+	 */
+	public static String sha256(String value) {
+		MessageDigest digest = newDigest();
+		return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+		}
+	}
+}
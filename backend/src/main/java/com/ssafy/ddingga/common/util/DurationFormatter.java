@@ -0,0 +1,34 @@
+package com.ssafy.ddingga.common.util;
+
+import java.time.Duration;
+
+/**
+ * Duration 을 프론트로 보낼 "HH:mm:ss" 문자열로 변환
+ * String.format 은 호출마다 포맷 문자열을 파싱하므로 랭킹처럼 자주 만드는 응답에서는 직접 이어붙임
+ */
+public final class DurationFormatter {
+
+	private DurationFormatter() {
+	}
+
+	// 시간은 두 자리 이상 (100시간 이상이면 그대로), 분/초는 항상 두 자리
+	public static String format(Duration duration) {
+		long seconds = duration != null ? Math.max(0, duration.getSeconds()) : 0;
+		long hours = seconds / 3600;
+		int minutes = (int)(seconds / 60 % 60);
+		int secs = (int)(seconds % 60);
+
+		StringBuilder sb = new StringBuilder(8);
+		if (hours < 10) {
+			sb.append('0');
+		}
+		sb.append(hours).append(':');
+		appendTwoDigits(sb, minutes).append(':');
+		appendTwoDigits(sb, secs);
+		return sb.toString();
+	}
+
+	private static StringBuilder appendTwoDigits(StringBuilder sb, int value) {
+		return sb.append((char)('0' + value / 10)).append((char)('0' + value % 10));
+	}
+}
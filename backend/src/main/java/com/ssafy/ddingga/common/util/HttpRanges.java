@@ -0,0 +1,51 @@
+package com.ssafy.ddingga.common.util;
+
+/**
+ * HTTP Range 헤더 해석 (단일 구간만 지원, 여러 구간 요청은 호출 쪽에서 전체 전송으로 처리)
+ */
+public final class HttpRanges {
+
+	private HttpRanges() {
+	}
+
+	/**
+	 * Range 헤더를 [시작, 끝] (끝 포함) 으로 변환
+	 * bytes=시작-끝, bytes=시작-, bytes=-마지막 길이 형식을 지원
+	 * @return 형식이 틀리거나 파일 범위를 벗어나면 null (416 응답)
+	 */
+	public static long[] parse(String range, long length) {
+		if (!range.startsWith("bytes=") || length == 0) {
+			return null;
+		}
+		String spec = range.substring("bytes=".length()).trim();
+		int dash = spec.indexOf('-');
+		if (dash < 0) {
+			return null;
+		}
+		try {
+			String from = spec.substring(0, dash).trim();
+			String to = spec.substring(dash + 1).trim();
+			if (from.isEmpty()) {
+				// 마지막 N 바이트
+				long suffix = Long.parseLong(to);
+				if (suffix <= 0) {
+					return null;
+				}
+				return new long[] {Math.max(length - suffix, 0), length - 1};
+			}
+			long start = Long.parseLong(from);
+			long end = to.isEmpty() ? length - 1 : Math.min(Long.parseLong(to), length - 1);
+			if (start < 0 || start >= length || start > end) {
+				return null;
+			}
+			return new long[] {start, end};
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	// 여러 구간 요청인지 (지원하지 않으므로 Range 를 무시하고 전체 전송)
+	public static boolean isMultiRange(String range) {
+		return range.indexOf(',') >= 0;
+	}
+}
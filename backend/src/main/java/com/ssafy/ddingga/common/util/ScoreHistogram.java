@@ -0,0 +1,77 @@
+package com.ssafy.ddingga.common.util;
+
+/**
+ * 0~100 정수 점수의 정확한 분포 (점수별 인원 수)
+ * 점수 범위가 작아서 근사 스케치 없이 101 칸이면 충분하고, 값을 빼거나(점수 변경) 다른 분포와 합칠 수 있음
+ * 스레드 안전하지 않음, 공유할 때는 호출하는 쪽에서 동기화하거나 복사해서 사용
+ */
+public final class ScoreHistogram {
+	public static final int MIN_SCORE = 0;
+	public static final int MAX_SCORE = 100;
+
+	private final long[] counts = new long[MAX_SCORE - MIN_SCORE + 1];
+
+	public void add(int score, long delta) {
+		counts[clamp(score) - MIN_SCORE] += delta;
+	}
+
+	public void merge(ScoreHistogram other) {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += other.counts[i];
+		}
+	}
+
+	public long total() {
+		long total = 0;
+		for (long count : counts) {
+			total += count;
+		}
+		return total;
+	}
+
+	// score 보다 높은 점수의 인원 수
+	public long countAbove(int score) {
+		long above = 0;
+		for (int i = clamp(score) - MIN_SCORE + 1; i < counts.length; i++) {
+			above += counts[i];
+		}
+		return above;
+	}
+
+	public boolean isEmpty() {
+		for (long count : counts) {
+			if (count != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 쉼표로 구분한 점수별 인원 수 (DB 저장용)
+	public String encode() {
+		StringBuilder builder = new StringBuilder(counts.length * 2);
+		for (int i = 0; i < counts.length; i++) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append(counts[i]);
+		}
+		return builder.toString();
+	}
+
+	public static ScoreHistogram decode(String encoded) {
+		ScoreHistogram histogram = new ScoreHistogram();
+		if (encoded == null || encoded.isBlank()) {
+			return histogram;
+		}
+		String[] parts = encoded.split(",");
+		for (int i = 0; i < parts.length && i < histogram.counts.length; i++) {
+			histogram.counts[i] = Long.parseLong(parts[i].trim());
+		}
+		return histogram;
+	}
+
+	private static int clamp(int score) {
+		return Math.max(MIN_SCORE, Math.min(MAX_SCORE, score));
+	}
+}
@@ -1,12 +1,21 @@
 package com.ssafy.ddingga.domain.auth.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ssafy.ddingga.domain.auth.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface AuthRepository extends JpaRepository<User, Integer> {
 	Optional<User> findByLoginId(String loginId);
@@ -16,4 +25,12 @@ public interface AuthRepository extends JpaRepository<User, Integer> {
 	Optional<User> findByUserId(Integer userId);
 
 	boolean existsByUserId(Integer userId);
+
+	// 저장소 정리용 전체 프로필 이미지 URL (MySQL 스트리밍 조회, 트랜잭션 안에서 사용)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+	@Query("SELECT u.profileImage FROM User u WHERE u.profileImage IS NOT NULL")
+	Stream<String> streamAllProfileImages();
+
+	@Query("SELECT u.profileImage FROM User u WHERE u.profileImage IN :profileImages")
+	List<String> findProfileImagesIn(@Param("profileImages") Collection<String> profileImages);
 }
@@ -1,12 +1,15 @@
 package com.ssafy.ddingga.domain.auth.service;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.ssafy.ddingga.domain.auth.entity.User;
@@ -16,10 +19,12 @@ import com.ssafy.ddingga.global.error.exception.FileUploadException;
 import com.ssafy.ddingga.global.error.exception.InvalidPasswordException;
 import com.ssafy.ddingga.global.error.exception.UserAlreadyDeletedException;
 import com.ssafy.ddingga.global.error.exception.UserNotFoundException;
-import com.ssafy.ddingga.global.service.S3Service;
+import com.ssafy.ddingga.global.service.ImageRenditionService;
+import com.ssafy.ddingga.global.service.StorageService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
 
 /**
  * 사용자 관련 서비스 구현체
@@ -42,10 +47,11 @@ public class AuthServiceImpl implements AuthService {
 	 */
 	private final PasswordEncoder passwordEncoder;
 
-	private final S3Service s3Service;
+	private final StorageService storageService;
 
-	@Value("${spring.cloud.aws.s3.bucket}")
-	private String bucket;
+	private final ImageRenditionService imageRenditionService;
+
+	private final TransactionTemplate transactionTemplate;
 
 	// 기본 프로필 이미지 URL 상수
 	private static final String DEFAULT_PROFILE_IMAGE_URL = "https://ddingga.s3.ap-northeast-2.amazonaws.com/basic_profile.png";
@@ -100,62 +106,117 @@ public class AuthServiceImpl implements AuthService {
 		return user;
 	}
 
+	// S3 업로드는 트랜잭션 밖에서 먼저 하고, DB 수정과 이전 이미지 삭제 예약만 짧은 트랜잭션으로 처리
+	// (업로드 시간 동안 DB 커넥션을 잡고 있지 않도록)
 	@Override
-	@Transactional
 	public User updateUser(Integer userId, String username, MultipartFile profileImage) {
 		log.info("사용자 정보 수정 요청 - userId: {}, username: {}", userId, username);
 
-		// 1. 사용자 찾기
-		User user = authRepository.findByUserId(userId)
+		// 1. 사용자 확인 (업로드 전에 없는 사용자를 걸러냄)
+		findUser(userId);
+
+		// 2. 새 프로필 이미지 업로드 (이미지가 제공된 경우에만)
+		String newImagePath = null;
+		if (profileImage != null && !profileImage.isEmpty()) {
+			log.info("프로필 이미지 수정 시작 - userId: {}", userId);
+			newImagePath = uploadProfileImage(userId, profileImage);
+		}
+
+		// 3. 이름, 이미지 반영
+		String uploadedImagePath = newImagePath;
+		try {
+			User updatedUser = transactionTemplate.execute(status -> applyUserUpdate(userId, username, uploadedImagePath));
+			log.info("사용자 정보 수정 완료 - userId: {}", userId);
+			return updatedUser;
+		} catch (RuntimeException e) {
+			// 반영에 실패하면 방금 올린 이미지는 참조되지 않으므로 삭제
+			if (uploadedImagePath != null) {
+				log.warn("사용자 정보 수정 실패, 업로드한 이미지 삭제 - userId: {}, error: {}", userId, e.getMessage());
+				deleteProfileImage(uploadedImagePath);
+			}
+			throw e;
+		}
+	}
+
+	private User findUser(Integer userId) {
+		return authRepository.findByUserId(userId)
 			.orElseThrow(() -> {
 				log.error("사용자를 찾을 수 없음 - userId: {}", userId);
 				return new UserNotFoundException("사용자를 찾을 수 없습니다.");
 			});
+	}
 
-		// 2.이름 업데이트(이름이 제공된 경우에만)
+	// 새 이미지를 크기별로 변환해서 업로드 (원본은 저장하지 않음), 기본 크기(128px) 이미지 URL 을 반환
+	// 이미지가 아니거나 너무 큰 경우(IllegalArgumentException, 400)와 변환 대기열 초과(ServiceException)는 그대로 던짐
+	private String uploadProfileImage(Integer userId, MultipartFile profileImage) {
+		Map<Integer, byte[]> renditions;
+		try {
+			renditions = imageRenditionService.createRenditions(profileImage);
+		} catch (IOException e) {
+			log.error("프로필 이미지 읽기 실패 - userId: {}, error: {}", userId, e.getMessage());
+			throw new FileUploadException("프로필 이미지 저장에 실패했습니다.", e);
+		}
+
+		String baseKey = "profile/" + userId + "/" + UUID.randomUUID();
+		String newImagePath = null;
+		boolean uploaded = false;
+		try {
+			for (Map.Entry<Integer, byte[]> rendition : renditions.entrySet()) {
+				String url = storageService.uploadBytes(rendition.getValue(), ImageRenditionService.CONTENT_TYPE,
+					ImageRenditionService.renditionKey(baseKey, rendition.getKey()));
+				uploaded = true;
+				if (rendition.getKey() == ImageRenditionService.DEFAULT_SIZE) {
+					newImagePath = url;
+				}
+			}
+			log.info("새 이미지 업로드 완료 - baseKey: {}, sizes: {}", baseKey, renditions.keySet());
+			return newImagePath;
+		} catch (IOException | UncheckedIOException | SdkException e) {
+			if (uploaded) {
+				deleteUploadedRenditions(baseKey);
+			}
+			log.error("프로필 이미지 업로드 실패 - userId: {}, error: {}", userId, e.getMessage());
+			throw new FileUploadException("프로필 이미지 저장에 실패했습니다.", e);
+		} catch (RuntimeException e) {
+			if (uploaded) {
+				deleteUploadedRenditions(baseKey);
+			}
+			throw e;
+		}
+	}
+
+	// 일부 크기만 올라간 경우 남은 파일이 없도록 모든 크기를 삭제
+	private void deleteUploadedRenditions(String baseKey) {
+		try {
+			storageService.delete(ImageRenditionService.renditionKey(baseKey, ImageRenditionService.DEFAULT_SIZE));
+		} catch (RuntimeException e) {
+			log.error("업로드 실패한 프로필 이미지 정리 실패 - baseKey: {}, error: {}", baseKey, e.getMessage());
+		}
+	}
+
+	private User applyUserUpdate(Integer userId, String username, String newImagePath) {
+		User user = findUser(userId);
+
+		// 이름 업데이트(이름이 제공된 경우에만)
 		if (username != null && !username.trim().isEmpty()) {
 			log.info("사용자 이름 수정 - userId: {}, oldName: {}, newName: {}",
 				userId, user.getUsername(), username);
 			user.setUsername(username);
 		}
 
-		// 3. 프로필 이미지 업데이트(이미지가 제공된 경우에만)
-		if (profileImage != null && !profileImage.isEmpty()) {
-			log.info("프로필 이미지 수정 시작 - userId: {}", userId);
-			try {
-				// 이전 프로필 이미지 삭제 (S3에서)
-				String previousImagePath = user.getProfileImage();
-				// 기본 프로필 이미지가 아닌 경우에만 삭제
-				if (previousImagePath != null && !previousImagePath.equals(DEFAULT_PROFILE_IMAGE_URL)) {
-					try {
-						// 이전 이미지의 파일 키 추출 (S3 URL에서 파일 키만 추출)
-						String previousFileKey = previousImagePath.replace(
-							"https://" + bucket + ".s3.ap-northeast-2.amazonaws.com/", "");
-						log.info("이전 이미지 삭제 시도 - fileKey: {}", previousFileKey);
-						s3Service.deleteFile(previousFileKey);
-					} catch (Exception e) {
-						log.error("이전 프로필 이미지 삭제 실패: {}", e.getMessage());
-					}
-				}
-
-				// S3에 새 파일 업로드
-				String uploadedFileKey = s3Service.uploadFile(profileImage, "profile");
-				log.info("새 이미지 업로드 완료 - fileKey: {}", uploadedFileKey);
-				
-				// 새 이미지 경로 저장 (S3 URL)
-				String newImagePath = "https://" + bucket + ".s3.ap-northeast-2.amazonaws.com/" + uploadedFileKey;
-				log.info("프로필 이미지 수정 완료 - userId: {}, newImagePath: {}", userId, newImagePath);
-				user.setProfileImage(newImagePath);
-			} catch (IOException e) {
-				log.error("프로필 이미지 업로드 실패 - userId: {}, error: {}", userId, e.getMessage());
-				throw new FileUploadException("프로필 이미지 저장에 실패했습니다.", e);
+		if (newImagePath != null) {
+			// 이전 프로필 이미지 삭제 (기본 프로필 이미지가 아닌 경우에만)
+			// 참조 해제와 삭제 예약은 이 트랜잭션에 함께 기록되므로 실패하면 잡지 않고 수정 전체를 롤백
+			String previousImagePath = user.getProfileImage();
+			if (previousImagePath != null && !previousImagePath.equals(DEFAULT_PROFILE_IMAGE_URL)) {
+				deleteProfileImage(previousImagePath);
 			}
+			log.info("프로필 이미지 수정 완료 - userId: {}, newImagePath: {}", userId, newImagePath);
+			user.setProfileImage(newImagePath);
 		}
 
 		// 변경사항 저장
-		User updatedUser = authRepository.save(user);
-		log.info("사용자 정보 수정 완료 - userId: {}", userId);
-		return updatedUser;
+		return authRepository.save(user);
 	}
 
 	@Override
@@ -194,4 +255,15 @@ public class AuthServiceImpl implements AuthService {
 		log.info("사용자 정보 조회 완료 - userId: {}, loginId: {}", userId, user.getLoginId());
 		return user;
 	}
+
+	// 저장소 URL 에서 파일 키를 구해 삭제 예약 (크기별 이미지면 모든 크기를 함께 삭제)
+	// 크기별 이미지는 저장소 서비스가 모두 함께 삭제함
+	private void deleteProfileImage(String imagePath) {
+		String fileKey = storageService.extractFileKey(imagePath);
+		if (fileKey == null) {
+			return;
+		}
+		log.info("이전 이미지 삭제 시도 - fileKey: {}", fileKey);
+		storageService.delete(fileKey);
+	}
 }
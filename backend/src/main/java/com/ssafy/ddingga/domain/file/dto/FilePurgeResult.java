@@ -0,0 +1,17 @@
+package com.ssafy.ddingga.domain.file.dto;
+
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 삭제 대기열 한 묶음을 저장소에서 지운 결과
+ */
+@Getter
+@AllArgsConstructor
+public class FilePurgeResult {
+	private Set<String> deletedKeys;      // 저장소에서 지운 파일 키
+	private Set<String> referencedKeys;   // 예약 후 다시 참조되어 지우지 않은 파일 키
+	private Set<String> failedKeys;       // 저장소 삭제에 실패한 파일 키 (재시도 대상)
+}
@@ -0,0 +1,30 @@
+package com.ssafy.ddingga.domain.file.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 고아 파일 정리 결과
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class OrphanReconcileReport {
+	private boolean dryRun;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private long referenceCount;        // DB 참조 수 (Bloom filter 에 넣은 수)
+	private long bloomFilterBytes;
+	private long scannedObjects;        // 저장소에서 확인한 객체 수
+	private long recentObjects;         // 유예 기간 안이라 건너뛴 객체 수
+	private long orphanObjects;         // 어디에서도 참조하지 않는 객체 수
+	private long orphanBytes;
+	private long scheduledDeletions;    // 삭제 예약한 수 (dry-run 이면 0)
+	private List<String> sampleOrphanKeys;
+}
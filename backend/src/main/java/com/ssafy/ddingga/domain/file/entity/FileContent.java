@@ -0,0 +1,56 @@
+package com.ssafy.ddingga.domain.file.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 파일 내용(SHA-256) 인덱스
+ * 같은 내용의 파일은 한 번만 저장하고 참조 수만 늘림, 참조가 0 이 되면 저장소 파일을 삭제함
+ * 참조 0 인 행은 저장소에서 실제로 지울 때까지 남겨둠 (그 사이에 같은 내용이 올라오면 행을 되살려 삭제를 막음)
+ * 삭제 작업이 저장소 파일을 지우기 시작하면 deleting 으로 표시하고, 그동안은 되살리지 않음 (새 업로드로 처리)
+ */
+@Entity
+@Table(uniqueConstraints = {
+	@UniqueConstraint(name = "uk_file_content_hash", columnNames = {"content_hash"}),
+	@UniqueConstraint(name = "uk_file_content_key", columnNames = {"file_key"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class FileContent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long fileContentId;
+
+	@Column(nullable = false, length = 64)
+	private String contentHash;     // SHA-256 (hex)
+
+	@Column(nullable = false)
+	private String fileKey;         // 저장소 파일 키
+
+	private Long size;
+	private String contentType;
+
+	@Column(nullable = false)
+	private Integer refCount;       // 이 파일을 가리키는 URL 수 (0 이면 삭제 대기 중)
+
+	@Column(nullable = false)
+	private boolean deleting;       // 저장소에서 지우는 중 (참조 수를 늘리지 않음)
+
+	private LocalDateTime lastReferencedAt;  // 마지막으로 참조 수를 늘린 시각 (고아 정리에서 진행 중인 참조를 건너뛰기 위함)
+
+	private LocalDateTime createdAt;
+}
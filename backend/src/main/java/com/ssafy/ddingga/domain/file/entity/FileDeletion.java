@@ -0,0 +1,51 @@
+package com.ssafy.ddingga.domain.file.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장소 파일 삭제 대기열 (outbox)
+ * 엔티티 변경과 같은 트랜잭션에서 기록하고, FileDeletionWorker 가 모아서 저장소에서 지움
+ * 저장소에서 지우는 동안은 claimedUntil 까지 선점해서 같은 키의 새 등록이 이 파일을 쓰지 못하게 함
+ */
+@Entity
+@Table(indexes = {
+	// 지금 처리할 항목 조회용
+	@Index(name = "idx_file_deletion_next_attempt", columnList = "next_attempt_at"),
+	// 등록 시 지우는 중인 키인지 확인용
+	@Index(name = "idx_file_deletion_file_key", columnList = "file_key")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class FileDeletion {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long fileDeletionId;
+
+	@Column(nullable = false)
+	private String fileKey;
+
+	@Column(nullable = false)
+	private Integer attempts;               // 실패한 삭제 시도 횟수
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;    // 이 시각 이후에 (다시) 시도
+
+	private LocalDateTime claimedUntil;     // 저장소 삭제 중 (이 시각까지, 작업이 죽으면 만료 후 다시 시도)
+
+	private LocalDateTime createdAt;
+}
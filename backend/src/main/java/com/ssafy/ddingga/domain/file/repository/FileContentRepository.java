@@ -0,0 +1,71 @@
+package com.ssafy.ddingga.domain.file.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ssafy.ddingga.domain.file.entity.FileContent;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface FileContentRepository extends JpaRepository<FileContent, Long> {
+
+	Optional<FileContent> findByContentHash(String contentHash);
+
+	@Query("SELECT f.fileKey FROM FileContent f WHERE f.fileKey IN :fileKeys")
+	List<String> findFileKeysIn(@Param("fileKeys") Collection<String> fileKeys);
+
+	List<FileContent> findAllByFileKeyIn(Collection<String> fileKeys);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT f FROM FileContent f WHERE f.fileKey = :fileKey")
+	Optional<FileContent> findByFileKeyForUpdate(@Param("fileKey") String fileKey);
+
+	// 삭제 선점, 완료 직전에 잠금 (없는 키도 유니크 인덱스 간격 잠금이 걸려 같은 키의 새 등록이 기다림)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT f FROM FileContent f WHERE f.fileKey IN :fileKeys")
+	List<FileContent> findAllByFileKeyInForUpdate(@Param("fileKeys") Collection<String> fileKeys);
+
+	// 참조 수 증가, 삭제 대기 중(참조 0)인 행이면 되살림 (저장소에서 지우는 중인 행은 건드리지 않음)
+	@Modifying
+	@Query("UPDATE FileContent f SET f.refCount = f.refCount + 1, f.lastReferencedAt = :now "
+		+ "WHERE f.contentHash = :contentHash AND f.deleting = false")
+	int incrementRefCount(@Param("contentHash") String contentHash, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("UPDATE FileContent f SET f.deleting = :deleting WHERE f.fileKey IN :fileKeys")
+	int updateDeleting(@Param("fileKeys") Collection<String> fileKeys, @Param("deleting") boolean deleting);
+
+	@Modifying
+	@Query("UPDATE FileContent f SET f.refCount = f.refCount - 1 WHERE f.fileContentId = :fileContentId")
+	int decrementRefCount(@Param("fileContentId") Long fileContentId);
+
+	// 아무도 가리키지 않는 파일의 참조 수를 0 으로 맞춤 (등록만 되고 저장되지 못한 참조 정리)
+	@Modifying
+	@Query("UPDATE FileContent f SET f.refCount = 0 WHERE f.fileKey IN :fileKeys")
+	int resetRefCount(@Param("fileKeys") Collection<String> fileKeys);
+
+	// 저장소에서 지운 파일의 삭제 대기 행 제거 (그 사이 되살아난 행은 남김)
+	@Modifying
+	@Query("DELETE FROM FileContent f WHERE f.fileKey IN :fileKeys AND f.refCount = 0")
+	int deleteReleased(@Param("fileKeys") Collection<String> fileKeys);
+
+	// 새로 올린 파일 등록, 동시에 같은 내용이 등록됐거나 삭제 대기 중이면 참조 수만 증가 (지우는 중인 행은 그대로 둠)
+	@Modifying
+	@Query(value = "INSERT INTO file_content "
+		+ "(content_hash, file_key, size, content_type, ref_count, deleting, last_referenced_at, created_at) "
+		+ "VALUES (:contentHash, :fileKey, :size, :contentType, 1, false, NOW(), NOW()) "
+		+ "ON DUPLICATE KEY UPDATE ref_count = IF(deleting, ref_count, ref_count + 1), "
+		+ "last_referenced_at = IF(deleting, last_referenced_at, NOW())", nativeQuery = true)
+	int register(@Param("contentHash") String contentHash, @Param("fileKey") String fileKey,
+		@Param("size") long size, @Param("contentType") String contentType);
+}
@@ -0,0 +1,62 @@
+package com.ssafy.ddingga.domain.file.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ssafy.ddingga.domain.file.entity.FileDeletion;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+	@Query("SELECT d FROM FileDeletion d WHERE d.nextAttemptAt <= :now AND d.attempts < :maxAttempts "
+		+ "ORDER BY d.fileDeletionId ASC")
+	List<FileDeletion> findReady(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts,
+		Pageable pageable);
+
+	// 저장소 정리용 전체 삭제 예약 키 (MySQL 스트리밍 조회, 트랜잭션 안에서 사용)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+	@Query("SELECT d.fileKey FROM FileDeletion d")
+	Stream<String> streamAllFileKeys();
+
+	// 이미 삭제 예약된 파일 키 (정리 작업이 다시 예약하지 않도록)
+	@Query("SELECT d.fileKey FROM FileDeletion d WHERE d.fileKey IN :fileKeys")
+	List<String> findFileKeysIn(@Param("fileKeys") Collection<String> fileKeys);
+
+	// 저장소에서 지우는 중인 키 (삭제 선점과 같은 파일 키의 새 등록이 서로 기다리도록 잠금 조회)
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("SELECT d FROM FileDeletion d WHERE d.fileKey = :fileKey AND d.claimedUntil > :now")
+	List<FileDeletion> findClaimed(@Param("fileKey") String fileKey, @Param("now") LocalDateTime now);
+
+	// 저장소 삭제 선점, 선점 중에는 다른 작업이 다시 가져가지 않도록 다음 시도 시각도 미룸
+	@Modifying
+	@Query("UPDATE FileDeletion d SET d.claimedUntil = :claimedUntil, d.nextAttemptAt = :claimedUntil "
+		+ "WHERE d.fileKey IN :fileKeys")
+	int claim(@Param("fileKeys") Collection<String> fileKeys, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+	@Query("SELECT COUNT(d) FROM FileDeletion d WHERE d.attempts < :maxAttempts")
+	long countPending(@Param("maxAttempts") int maxAttempts);
+
+	@Modifying
+	@Query("DELETE FROM FileDeletion d WHERE d.fileDeletionId IN :ids")
+	int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Modifying
+	@Query("UPDATE FileDeletion d SET d.attempts = d.attempts + 1, d.nextAttemptAt = :nextAttemptAt, "
+		+ "d.claimedUntil = NULL WHERE d.fileDeletionId IN :ids")
+	int markFailed(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
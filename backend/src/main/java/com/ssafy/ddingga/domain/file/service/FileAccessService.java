@@ -0,0 +1,19 @@
+package com.ssafy.ddingga.domain.file.service;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 저장소 파일 조회 권한 확인 (Presigned URL 발급, 로컬 저장소 파일 제공 전)
+ */
+public interface FileAccessService {
+	/**
+	 * 공개 경로, 본인 경로, 본인 리플레이 영상, 공개된 쇼츠 파일만 허용
+	 * @param toFileUrl 파일 키를 DB 에 저장된 URL 로 변환
+	 * @throws org.springframework.security.access.AccessDeniedException 하나라도 볼 수 없는 파일이 있는 경우
+	 */
+	void checkReadable(Integer userId, Collection<String> fileKeys, Function<String, String> toFileUrl);
+
+	// 누구나 볼 수 있는 경로의 파일인지 (상위 경로 이동이 들어간 키는 false)
+	boolean isPublic(String fileKey);
+}
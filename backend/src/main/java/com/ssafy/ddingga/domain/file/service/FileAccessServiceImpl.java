@@ -0,0 +1,81 @@
+package com.ssafy.ddingga.domain.file.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ssafy.ddingga.domain.replay.repository.ReplayRepository;
+import com.ssafy.ddingga.domain.uploadfile.repository.UploadFileRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FileAccessServiceImpl implements FileAccessService {
+	private final ReplayRepository replayRepository;
+	private final UploadFileRepository uploadFileRepository;
+
+	// 누구나 볼 수 있는 경로 (프로필 이미지)
+	@Value("${storage.presign.public-prefixes:profile/,profileImages/}")
+	private List<String> publicPrefixes;
+
+	@Override
+	public void checkReadable(Integer userId, Collection<String> fileKeys, Function<String, String> toFileUrl) {
+		// 경로만으로 판단할 수 없는 키는 DB 에서 참조하는 곳을 확인
+		Map<String, String> keyByUrl = new HashMap<>();
+		for (String fileKey : fileKeys) {
+			if (fileKey.contains("..") || fileKey.startsWith("/")) {
+				throw denied(userId, fileKey);
+			}
+			if (isPublic(fileKey) || fileKey.startsWith("replays/" + userId + "/")) {
+				continue;
+			}
+			keyByUrl.put(toFileUrl.apply(fileKey), fileKey);
+		}
+		if (keyByUrl.isEmpty()) {
+			return;
+		}
+
+		// 본인 리플레이 영상 (내용 기반 키라 경로에 유저 ID 가 없음)과 공개된 쇼츠 파일
+		List<String> remainingUrls = new ArrayList<>(keyByUrl.keySet());
+		remainingUrls.removeAll(replayRepository.findVideoPathsByUserIdAndVideoPathIn(userId, remainingUrls));
+		if (!remainingUrls.isEmpty()) {
+			remainingUrls.removeAll(uploadFileRepository.findFileUrlsIn(remainingUrls));
+		}
+		if (!remainingUrls.isEmpty()) {
+			throw denied(userId, keyByUrl.get(remainingUrls.get(0)));
+		}
+	}
+
+	// DB 조회가 없으므로 트랜잭션 없이 확인 (로컬 저장소 파일 요청마다 호출됨)
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public boolean isPublic(String fileKey) {
+		if (fileKey.contains("..") || fileKey.startsWith("/")) {
+			return false;
+		}
+		for (String prefix : publicPrefixes) {
+			if (!prefix.isBlank() && fileKey.startsWith(prefix.trim())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private AccessDeniedException denied(Integer userId, String fileKey) {
+		log.error("파일 조회 권한 없음: userId={}, fileKey={}", userId, fileKey);
+		return new AccessDeniedException("해당 파일을 조회할 권한이 없습니다.");
+	}
+}
@@ -0,0 +1,30 @@
+package com.ssafy.ddingga.domain.file.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface FileContentService {
+	// 같은 내용의 파일이 있으면 참조 수를 늘리고 그 파일 키를 반환, 없으면 null
+	// 삭제 대기 중인 파일은 되살리고, 저장소에서 지우는 중인 파일이면 null
+	String acquire(String contentHash);
+
+	// 새로 저장한 파일 등록 후 실제로 쓰일 파일 키 반환 (동시에 같은 내용이 등록됐으면 먼저 등록된 키)
+	// 같은 내용이나 같은 키의 파일을 저장소에서 지우는 중이면 등록하지 않고 null
+	String register(String contentHash, String fileKey, long size, String contentType);
+
+	// 참조 하나를 해제하고, 저장소에서 파일을 지워야 하면 true (마지막 참조이거나 인덱스에 없는 파일)
+	// 마지막 참조여도 행은 참조 0 으로 남겨두고, 저장소에서 지운 뒤에 삭제 작업이 제거함
+	boolean release(String fileKey);
+
+	// 쓰이지 못한 참조(호출한 쪽 트랜잭션 롤백 등)를 별도 트랜잭션에서 해제하고, 마지막 참조면 삭제 예약
+	void releaseUnused(String fileKey);
+
+	// 아무도 가리키지 않는 파일의 참조 수를 0 으로 맞추고 삭제 예약, 예약한 키 반환
+	// since 이후에 참조 수가 늘어난 파일은 저장 중인 참조가 있을 수 있으므로 건너뜀 (인덱스에 없는 키는 바로 예약)
+	List<String> releaseOrphans(Collection<String> fileKeys, LocalDateTime since);
+
+	// 인덱스에 기록된 파일 크기 (저장소 조회 없이), 인덱스에 없는 키는 빠짐
+	Map<String, Long> findSizes(Collection<String> fileKeys);
+}
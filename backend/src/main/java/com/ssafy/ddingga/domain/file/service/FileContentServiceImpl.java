@@ -0,0 +1,145 @@
+package com.ssafy.ddingga.domain.file.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import com.ssafy.ddingga.domain.file.entity.FileContent;
+import com.ssafy.ddingga.domain.file.repository.FileContentRepository;
+import com.ssafy.ddingga.domain.file.repository.FileDeletionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 내용 인덱스의 참조 수 관리
+ * 업로드 쪽은 저장소 업로드와 독립적으로 바로 커밋하고, 해제는 삭제 대기열 기록과 함께 호출한 쪽 트랜잭션에 참여함
+ * 참조 0 인 행은 FileDeletionService.purge 가 저장소 파일을 지우면서 제거하고, 그 전에 다시 참조되면 되살아남
+ * 저장소에서 지우는 중인 파일은 되살리지 않고 새 업로드로 처리하게 함 (acquire, register 가 null 반환)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileContentServiceImpl implements FileContentService {
+	private final FileContentRepository fileContentRepository;
+	private final FileDeletionService fileDeletionService;
+	private final FileDeletionRepository fileDeletionRepository;
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public String acquire(String contentHash) {
+		if (fileContentRepository.incrementRefCount(contentHash, LocalDateTime.now()) == 0) {
+			return null;
+		}
+		String fileKey = fileContentRepository.findByContentHash(contentHash)
+			.map(FileContent::getFileKey)
+			.orElse(null);
+		log.info("파일 중복 업로드 - 기존 파일 재사용: hash={}, fileKey={}", contentHash, fileKey);
+		return fileKey;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public String register(String contentHash, String fileKey, long size, String contentType) {
+		fileContentRepository.register(contentHash, fileKey, size, contentType);
+		FileContent fileContent = fileContentRepository.findByContentHash(contentHash).orElse(null);
+
+		// 같은 내용이나 같은 키의 파일을 저장소에서 지우는 중이면 등록하지 않음 (방금 올린 파일도 지워질 수 있음)
+		// 삭제 선점과는 인덱스 행(없으면 간격) 잠금으로 순서가 정해지므로, 선점이 먼저 커밋됐으면 여기서 보임
+		boolean deleting = fileContent != null && fileContent.isDeleting();
+		if (deleting || !fileDeletionRepository.findClaimed(fileKey, LocalDateTime.now()).isEmpty()) {
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+			log.warn("저장소에서 지우는 중인 파일이라 등록하지 않음: hash={}, fileKey={}", contentHash, fileKey);
+			return null;
+		}
+		return fileContent != null ? fileContent.getFileKey() : fileKey;
+	}
+
+	@Override
+	@Transactional
+	public boolean release(String fileKey) {
+		FileContent fileContent = fileContentRepository.findByFileKeyForUpdate(fileKey).orElse(null);
+		if (fileContent == null) {
+			// 인덱스 도입 전에 올라간 파일 등은 참조 관리 대상이 아니므로 바로 삭제
+			return true;
+		}
+
+		if (fileContent.getRefCount() <= 0) {
+			// 이미 삭제 대기 중이므로 다시 예약하지 않음
+			log.warn("삭제 대기 중인 파일의 참조 해제 요청: fileKey={}", fileKey);
+			return false;
+		}
+
+		fileContentRepository.decrementRefCount(fileContent.getFileContentId());
+		if (fileContent.getRefCount() > 1) {
+			return false;
+		}
+		log.info("파일 마지막 참조 해제: fileKey={}", fileKey);
+		return true;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void releaseUnused(String fileKey) {
+		if (release(fileKey)) {
+			fileDeletionService.enqueue(fileKey);
+		}
+		log.info("쓰이지 못한 파일 참조 해제: fileKey={}", fileKey);
+	}
+
+	@Override
+	@Transactional
+	public List<String> releaseOrphans(Collection<String> fileKeys, LocalDateTime since) {
+		Set<String> skippedKeys = new HashSet<>();
+		List<String> leakedKeys = new ArrayList<>();
+		for (FileContent fileContent : fileContentRepository.findAllByFileKeyInForUpdate(fileKeys)) {
+			LocalDateTime lastReferencedAt = fileContent.getLastReferencedAt();
+			if (lastReferencedAt != null && lastReferencedAt.isAfter(since)) {
+				skippedKeys.add(fileContent.getFileKey());
+			} else if (fileContent.getRefCount() > 0) {
+				leakedKeys.add(fileContent.getFileKey());
+			}
+		}
+		// 참조 수가 남아 있으면 삭제 작업이 건너뛰므로 먼저 0 으로 맞춤
+		if (!leakedKeys.isEmpty()) {
+			log.warn("가리키는 곳 없는 파일의 참조 수 정리: count={}, fileKeys={}", leakedKeys.size(), leakedKeys);
+			fileContentRepository.resetRefCount(leakedKeys);
+		}
+
+		List<String> orphanKeys = new ArrayList<>(fileKeys.size());
+		for (String fileKey : fileKeys) {
+			if (!skippedKeys.contains(fileKey)) {
+				orphanKeys.add(fileKey);
+			}
+		}
+		if (!orphanKeys.isEmpty()) {
+			fileDeletionService.enqueueAll(orphanKeys);
+		}
+		return orphanKeys;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<String, Long> findSizes(Collection<String> fileKeys) {
+		Map<String, Long> sizes = new HashMap<>();
+		if (fileKeys.isEmpty()) {
+			return sizes;
+		}
+		for (FileContent fileContent : fileContentRepository.findAllByFileKeyIn(fileKeys)) {
+			if (fileContent.getSize() != null) {
+				sizes.put(fileContent.getFileKey(), fileContent.getSize());
+			}
+		}
+		return sizes;
+	}
+}
@@ -0,0 +1,34 @@
+package com.ssafy.ddingga.domain.file.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import com.ssafy.ddingga.domain.file.dto.FilePurgeResult;
+import com.ssafy.ddingga.domain.file.entity.FileDeletion;
+
+public interface FileDeletionService {
+	// 파일 삭제 예약 (호출한 쪽 트랜잭션에 함께 기록)
+	void enqueue(String fileKey);
+
+	// 여러 파일 삭제 예약
+	void enqueueAll(Collection<String> fileKeys);
+
+	// 지금 삭제할 항목 (최대 limit 개)
+	List<FileDeletion> findReady(int limit);
+
+	// 다시 참조되지 않은 파일만 deleter 로 저장소에서 지우고 참조 0 인 인덱스 행 제거
+	// 짧은 트랜잭션으로 지울 키를 선점한 뒤 트랜잭션 밖에서 deleter 를 호출하고, 다시 짧은 트랜잭션으로 마무리함
+	// 선점한 동안에는 같은 내용의 업로드가 그 파일을 되살리거나 같은 키로 새로 등록하지 못함
+	// deleter 는 지울 파일 키를 받아 실패한 키를 반환
+	FilePurgeResult purge(Collection<String> fileKeys, Function<List<String>, List<String>> deleter);
+
+	// 처리 끝난 항목 제거
+	void complete(Collection<Long> fileDeletionIds);
+
+	// 실패한 항목은 재시도 간격을 늘려서 다시 예약
+	void fail(List<FileDeletion> deletions);
+
+	// 남은 삭제 대기 수
+	long countPending();
+}
@@ -0,0 +1,178 @@
+package com.ssafy.ddingga.domain.file.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ssafy.ddingga.domain.file.dto.FilePurgeResult;
+import com.ssafy.ddingga.domain.file.entity.FileContent;
+import com.ssafy.ddingga.domain.file.entity.FileDeletion;
+import com.ssafy.ddingga.domain.file.repository.FileContentRepository;
+import com.ssafy.ddingga.domain.file.repository.FileDeletionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileDeletionServiceImpl implements FileDeletionService {
+	private static final long MAX_BACKOFF_SECONDS = 3600;
+
+	private final FileDeletionRepository fileDeletionRepository;
+	private final FileContentRepository fileContentRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${storage.deletion.max-attempts:10}")
+	private int maxAttempts;
+
+	@Value("${storage.deletion.retry-base-seconds:30}")
+	private long retryBaseSeconds;
+
+	// 저장소 삭제 선점 유지 시간 (작업이 도중에 죽으면 이 시간이 지난 뒤 다시 시도)
+	@Value("${storage.deletion.claim-seconds:600}")
+	private long claimSeconds;
+
+	@Override
+	@Transactional
+	public void enqueue(String fileKey) {
+		LocalDateTime now = LocalDateTime.now();
+		fileDeletionRepository.save(FileDeletion.builder()
+			.fileKey(fileKey)
+			.attempts(0)
+			.nextAttemptAt(now)
+			.createdAt(now)
+			.build());
+	}
+
+	@Override
+	@Transactional
+	public void enqueueAll(Collection<String> fileKeys) {
+		LocalDateTime now = LocalDateTime.now();
+		List<FileDeletion> deletions = new ArrayList<>(fileKeys.size());
+		for (String fileKey : fileKeys) {
+			deletions.add(FileDeletion.builder()
+				.fileKey(fileKey)
+				.attempts(0)
+				.nextAttemptAt(now)
+				.createdAt(now)
+				.build());
+		}
+		fileDeletionRepository.saveAll(deletions);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<FileDeletion> findReady(int limit) {
+		return fileDeletionRepository.findReady(LocalDateTime.now(), maxAttempts, PageRequest.of(0, limit));
+	}
+
+	// 저장소 호출 동안 인덱스 행을 잠그지 않도록 선점, 저장소 삭제, 완료를 나눠서 처리
+	// 선점한 행은 deleting 으로 표시되어 그 사이의 acquire, register 가 참조 수를 늘리지 않음
+	@Override
+	public FilePurgeResult purge(Collection<String> fileKeys, Function<List<String>, List<String>> deleter) {
+		Set<String> referencedKeys = new HashSet<>();
+		List<String> targetKeys = transactionTemplate.execute(status -> claim(fileKeys, referencedKeys));
+		if (targetKeys == null || targetKeys.isEmpty()) {
+			return new FilePurgeResult(Set.of(), referencedKeys, Set.of());
+		}
+
+		// 예외로 끝나면 어디까지 지워졌는지 모르므로 deleting 을 그대로 두고, 선점이 끝난 뒤 다시 시도
+		Set<String> failedKeys = new HashSet<>(deleter.apply(targetKeys));
+		Set<String> deletedKeys = new HashSet<>(targetKeys);
+		deletedKeys.removeAll(failedKeys);
+
+		Set<String> abortedKeys = transactionTemplate.execute(status -> finish(deletedKeys, failedKeys));
+		if (abortedKeys != null && !abortedKeys.isEmpty()) {
+			deletedKeys.removeAll(abortedKeys);
+			referencedKeys.addAll(abortedKeys);
+		}
+		return new FilePurgeResult(deletedKeys, referencedKeys, failedKeys);
+	}
+
+	// 참조 0 인 키만 지우는 중으로 표시하고 삭제 예약을 선점 (인덱스에 없는 키도 선점해서 같은 키의 새 등록을 막음)
+	private List<String> claim(Collection<String> fileKeys, Set<String> referencedKeys) {
+		for (FileContent fileContent : fileContentRepository.findAllByFileKeyInForUpdate(fileKeys)) {
+			if (fileContent.getRefCount() > 0) {
+				referencedKeys.add(fileContent.getFileKey());
+			}
+		}
+
+		List<String> targetKeys = new ArrayList<>(fileKeys.size());
+		for (String fileKey : fileKeys) {
+			if (!referencedKeys.contains(fileKey)) {
+				targetKeys.add(fileKey);
+			}
+		}
+		if (!targetKeys.isEmpty()) {
+			fileContentRepository.updateDeleting(targetKeys, true);
+			fileDeletionRepository.claim(targetKeys, LocalDateTime.now().plusSeconds(claimSeconds));
+		}
+		return targetKeys;
+	}
+
+	// 지운 키의 인덱스 행 제거, 그 사이 다시 참조된 행은 남기고 (삭제 중단) 지우지 못한 키와 함께 표시를 풀어줌
+	private Set<String> finish(Set<String> deletedKeys, Set<String> failedKeys) {
+		Set<String> abortedKeys = new HashSet<>();
+		if (!deletedKeys.isEmpty()) {
+			for (FileContent fileContent : fileContentRepository.findAllByFileKeyInForUpdate(deletedKeys)) {
+				if (fileContent.getRefCount() > 0) {
+					log.error("저장소 삭제 중 다시 참조된 파일, 인덱스 행 유지: fileKey={}", fileContent.getFileKey());
+					abortedKeys.add(fileContent.getFileKey());
+				}
+			}
+			fileContentRepository.deleteReleased(deletedKeys);
+		}
+
+		Set<String> releasedKeys = new HashSet<>(failedKeys);
+		releasedKeys.addAll(abortedKeys);
+		if (!releasedKeys.isEmpty()) {
+			fileContentRepository.updateDeleting(releasedKeys, false);
+		}
+		return abortedKeys;
+	}
+
+	@Override
+	@Transactional
+	public void complete(Collection<Long> fileDeletionIds) {
+		if (!fileDeletionIds.isEmpty()) {
+			fileDeletionRepository.deleteAllByIdIn(fileDeletionIds);
+		}
+	}
+
+	@Override
+	@Transactional
+	public void fail(List<FileDeletion> deletions) {
+		// 시도 횟수가 같은 항목끼리 묶어서 한 번에 갱신
+		Map<Integer, List<Long>> idsByAttempts = deletions.stream()
+			.collect(Collectors.groupingBy(FileDeletion::getAttempts,
+				Collectors.mapping(FileDeletion::getFileDeletionId, Collectors.toList())));
+
+		LocalDateTime now = LocalDateTime.now();
+		idsByAttempts.forEach((attempts, ids) -> {
+			long backoff = Math.min(retryBaseSeconds << Math.min(attempts, 20), MAX_BACKOFF_SECONDS);
+			fileDeletionRepository.markFailed(ids, now.plusSeconds(backoff));
+			if (attempts + 1 >= maxAttempts) {
+				log.error("파일 삭제 재시도 횟수 초과, 수동 확인 필요: fileDeletionIds={}", ids);
+			}
+		});
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long countPending() {
+		return fileDeletionRepository.countPending(maxAttempts);
+	}
+}
@@ -0,0 +1,20 @@
+package com.ssafy.ddingga.domain.file.service;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * DB 에서 저장소 파일을 가리키는 곳 (리플레이 영상, 쇼츠 파일, 프로필 이미지, 삭제 대기열)
+ */
+public interface FileReferenceService {
+	// 참조 수의 상한 (Bloom filter 크기 계산용)
+	long countReferences();
+
+	// 참조 중인 파일 키를 하나씩 넘김 (URL 은 toFileKey 로 변환, 다른 저장소의 URL 이면 null 이므로 건너뜀)
+	void forEachReferencedKey(Function<String, String> toFileKey, Consumer<String> consumer);
+
+	// 주어진 파일 키 중 실제로 참조 중이거나 이미 삭제 예약된 것
+	Set<String> findReferencedKeys(Collection<String> fileKeys, Function<String, String> toFileUrl);
+}
@@ -0,0 +1,90 @@
+package com.ssafy.ddingga.domain.file.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ssafy.ddingga.domain.auth.repository.AuthRepository;
+import com.ssafy.ddingga.domain.file.repository.FileDeletionRepository;
+import com.ssafy.ddingga.domain.replay.repository.ReplayRepository;
+import com.ssafy.ddingga.domain.uploadfile.repository.UploadFileRepository;
+import com.ssafy.ddingga.global.service.ImageRenditionService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 파일 내용 인덱스(file_content)는 참조로 보지 않음
+ * 참조 수는 등록만 되고 저장되지 못한 경우에도 남아 있으므로, 실제로 파일을 가리키는 테이블만 기준으로 삼음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FileReferenceServiceImpl implements FileReferenceService {
+	private final ReplayRepository replayRepository;
+	private final UploadFileRepository uploadFileRepository;
+	private final AuthRepository authRepository;
+	private final FileDeletionRepository fileDeletionRepository;
+
+	@Override
+	public long countReferences() {
+		return replayRepository.count() + uploadFileRepository.count()
+			+ authRepository.count() * ImageRenditionService.SIZES.size() + fileDeletionRepository.count();
+	}
+
+	@Override
+	public void forEachReferencedKey(Function<String, String> toFileKey, Consumer<String> consumer) {
+		// 한 번에 하나의 결과만 스트리밍하고, 다 읽으면 닫은 뒤 다음 조회
+		try (Stream<String> urls = replayRepository.streamAllVideoPaths()) {
+			urls.map(toFileKey).filter(key -> key != null).forEach(consumer);
+		}
+		try (Stream<String> urls = uploadFileRepository.streamAllFileUrls()) {
+			urls.map(toFileKey).filter(key -> key != null).forEach(consumer);
+		}
+		// 프로필 이미지는 기본 크기 URL 만 저장되므로 다른 크기의 키도 함께 참조로 취급
+		try (Stream<String> urls = authRepository.streamAllProfileImages()) {
+			urls.map(toFileKey).filter(key -> key != null)
+				.flatMap(key -> ImageRenditionService.renditionKeysOf(key).stream())
+				.forEach(consumer);
+		}
+		// 이미 삭제 예약된 파일은 다시 예약하지 않음
+		try (Stream<String> keys = fileDeletionRepository.streamAllFileKeys()) {
+			keys.forEach(consumer);
+		}
+	}
+
+	@Override
+	public Set<String> findReferencedKeys(Collection<String> fileKeys, Function<String, String> toFileUrl) {
+		Map<String, String> keyByUrl = new HashMap<>();
+		for (String fileKey : fileKeys) {
+			keyByUrl.put(toFileUrl.apply(fileKey), fileKey);
+		}
+
+		Set<String> referenced = new HashSet<>();
+		replayRepository.findVideoPathsIn(keyByUrl.keySet()).forEach(url -> referenced.add(keyByUrl.get(url)));
+		uploadFileRepository.findFileUrlsIn(keyByUrl.keySet()).forEach(url -> referenced.add(keyByUrl.get(url)));
+
+		// 크기별 프로필 이미지는 기본 크기 URL 로 바꿔서 찾음 (한 URL 에 여러 크기의 키가 대응)
+		Map<String, List<String>> renditionKeysByUrl = new HashMap<>();
+		for (String fileKey : fileKeys) {
+			String baseKey = ImageRenditionService.baseKeyOf(fileKey);
+			String storedKey = baseKey != null
+				? ImageRenditionService.renditionKey(baseKey, ImageRenditionService.DEFAULT_SIZE) : fileKey;
+			renditionKeysByUrl.computeIfAbsent(toFileUrl.apply(storedKey), url -> new ArrayList<>()).add(fileKey);
+		}
+		authRepository.findProfileImagesIn(renditionKeysByUrl.keySet())
+			.forEach(url -> referenced.addAll(renditionKeysByUrl.get(url)));
+
+		referenced.addAll(fileDeletionRepository.findFileKeysIn(fileKeys));
+		return referenced;
+	}
+}
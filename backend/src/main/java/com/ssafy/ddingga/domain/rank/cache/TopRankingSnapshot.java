@@ -0,0 +1,19 @@
+package com.ssafy.ddingga.domain.rank.cache;
+
+import com.ssafy.ddingga.facade.rank.dto.response.TopRankingResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미리 만들어 둔 상위 랭킹 응답 (불변)
+ * 응답 객체와 함께 직렬화된 JSON 바이트, ETag 를 들고 있어서 요청마다 다시 만들거나 직렬화하지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class TopRankingSnapshot {
+	private final TopRankingResponse response;
+	private final byte[] body;          // response 를 JSON 으로 직렬화한 바이트
+	private final String etag;          // body 의 MD5 ("..." 형식)
+	private final long generation;      // 만들 당시의 무효화 세대, 현재 세대와 다르면 버림
+}
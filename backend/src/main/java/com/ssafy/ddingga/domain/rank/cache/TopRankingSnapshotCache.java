@@ -0,0 +1,113 @@
+package com.ssafy.ddingga.domain.rank.cache;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ddingga.domain.rank.entity.RankingPeriod;
+import com.ssafy.ddingga.domain.rank.event.RankingsChangedEvent;
+import com.ssafy.ddingga.facade.rank.dto.response.TopRankingResponse;
+import com.ssafy.ddingga.global.error.exception.ServiceException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기간별 상위 랭킹 응답 스냅샷 캐시
+ * 랭킹이 바뀌면 세대를 올려 스냅샷을 버리고, 다음 요청에서 한 번만 다시 만듦
+ * 백엔드가 여러 대이므로 무효화는 Redis 채널로 다른 서버에도 전달함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopRankingSnapshotCache {
+	private static final String CHANNEL = "ranking:snapshot:invalidated";
+
+	private final ObjectMapper objectMapper;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final Map<RankingPeriod, AtomicReference<TopRankingSnapshot>> snapshots = createSnapshots();
+	private final AtomicLong generation = new AtomicLong();
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(
+			(Message message, byte[] pattern) -> invalidateLocal(),
+			new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 현재 세대의 스냅샷을 반환, 없으면 loader 로 응답을 만들어 저장
+	 * 만드는 도중 무효화되면 이전 세대로 저장되어 다음 요청에서 다시 만듦
+	 */
+	public TopRankingSnapshot get(RankingPeriod period, Supplier<TopRankingResponse> loader) {
+		AtomicReference<TopRankingSnapshot> ref = snapshots.get(period);
+		long currentGeneration = generation.get();
+		TopRankingSnapshot snapshot = ref.get();
+		if (snapshot != null && snapshot.getGeneration() == currentGeneration) {
+			return snapshot;
+		}
+
+		TopRankingResponse response = loader.get();
+		try {
+			byte[] body = objectMapper.writeValueAsBytes(response);
+			String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+			TopRankingSnapshot created = new TopRankingSnapshot(response, body, etag, currentGeneration);
+			ref.set(created);
+			log.info("랭킹 스냅샷 - 생성: period={}, generation={}, bytes={}", period, currentGeneration, body.length);
+			return created;
+		} catch (JsonProcessingException e) {
+			throw new ServiceException("랭킹 응답 직렬화 중 오류가 발생했습니다.", e);
+		}
+	}
+
+	/**
+	 * 모든 기간의 스냅샷을 버리고 다른 서버에도 알림
+	 */
+	public void invalidate() {
+		invalidateLocal();
+		try {
+			redisTemplate.convertAndSend(CHANNEL, String.valueOf(generation.get()));
+		} catch (Exception e) {
+			log.error("랭킹 스냅샷 - 무효화 전파 실패: error={}", e.getMessage());
+		}
+	}
+
+	// 리더보드 반영이 끝난 뒤에 무효화, 누적분 일괄 반영이면 유저 수와 관계없이 한 번만 전파됨
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleRankingsChanged(RankingsChangedEvent event) {
+		invalidate();
+	}
+
+	private void invalidateLocal() {
+		generation.incrementAndGet();
+		for (AtomicReference<TopRankingSnapshot> ref : snapshots.values()) {
+			ref.set(null);
+		}
+	}
+
+	private static Map<RankingPeriod, AtomicReference<TopRankingSnapshot>> createSnapshots() {
+		Map<RankingPeriod, AtomicReference<TopRankingSnapshot>> map = new EnumMap<>(RankingPeriod.class);
+		for (RankingPeriod period : RankingPeriod.values()) {
+			map.put(period, new AtomicReference<>());
+		}
+		return map;
+	}
+}
@@ -0,0 +1,21 @@
+package com.ssafy.ddingga.domain.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 유저의 랭킹에 더해질 누적 변화량 (불변)
+ * 짧은 시간 안에 들어온 여러 리플레이는 plus 로 합쳐서 한 번에 반영함
+ */
+@Getter
+@AllArgsConstructor
+public class RankingDelta {
+	private long playTimeSeconds;   // 추가된 플레이 시간(초)
+	private int tryCount;           // 추가된 시도 횟수
+	private long scoreSum;          // 추가된 점수 합계
+
+	public RankingDelta plus(RankingDelta other) {
+		return new RankingDelta(playTimeSeconds + other.playTimeSeconds, tryCount + other.tryCount,
+			scoreSum + other.scoreSum);
+	}
+}
@@ -0,0 +1,41 @@
+package com.ssafy.ddingga.domain.rank.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 랭킹에 반영되지 않은 리플레이 결과 (outbox)
+ * 리플레이 저장과 같은 트랜잭션에서 기록하므로 서버가 재시작되거나 DB 가 잠시 내려가도 유실되지 않음
+ * RankingAccumulatorService 가 모아서 랭킹에 더하고, 같은 트랜잭션에서 행을 지움
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PendingRankingDelta {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long pendingRankingDeltaId;
+
+	@Column(nullable = false)
+	private Integer userId;
+
+	@Column(nullable = false)
+	private Long playTimeSeconds;
+
+	@Column(nullable = false)
+	private Integer score;
+
+	private LocalDateTime createdAt;
+}
@@ -11,8 +11,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +24,15 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(uniqueConstraints = {
+	// 유저당 랭킹은 하나 (INSERT ... ON DUPLICATE KEY UPDATE 누적의 기준 키)
+	@UniqueConstraint(name = "uk_ranking_user_id", columnNames = "user_id")
+}, indexes = {
+	// 리더보드 키셋 페이지네이션용 (항목 값, rankingId)
+	@Index(name = "idx_ranking_play_time", columnList = "play_time, ranking_id"),
+	@Index(name = "idx_ranking_total_try", columnList = "total_try, ranking_id"),
+	@Index(name = "idx_ranking_score", columnList = "score, ranking_id")
+})
 @Getter
 @Setter
 @Builder
@@ -40,6 +52,7 @@ public class Ranking {
 
 	@Convert(converter = DurationConverter.class)
 	private Duration playTime;
-	private Float score;
+	private Float score;        // 평균 점수 (scoreSum / totalTry)
 	private Integer totalTry;
+	private Long scoreSum;      // 점수 합계, 평균을 다시 계산하지 않고 증분으로 누적하기 위함
 }
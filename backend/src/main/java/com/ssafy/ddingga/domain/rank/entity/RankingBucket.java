@@ -0,0 +1,68 @@
+package com.ssafy.ddingga.domain.rank.entity;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import com.ssafy.ddingga.common.converter.DurationConverter;
+import com.ssafy.ddingga.domain.auth.entity.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기간별(일간/주간/월간) 랭킹 집계
+ * 일간 버킷은 리플레이 누적 시 함께 증가하고, 주간/월간 버킷은 스케줄러가 일간 버킷을 합산해서 만듦
+ */
+@Entity
+@Table(uniqueConstraints = {
+	// 유저, 기간, 버킷 시작일당 하나 (upsert 기준 키)
+	@UniqueConstraint(name = "uk_ranking_bucket", columnNames = {"user_id", "period_type", "bucket_start"})
+}, indexes = {
+	// 기간별 상위 랭킹 조회용
+	@Index(name = "idx_ranking_bucket_play_time", columnList = "period_type, bucket_start, play_time"),
+	@Index(name = "idx_ranking_bucket_total_try", columnList = "period_type, bucket_start, total_try"),
+	@Index(name = "idx_ranking_bucket_score", columnList = "period_type, bucket_start, score")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RankingBucket {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long bucketId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private RankingPeriod periodType;
+
+	@Column(nullable = false)
+	private LocalDate bucketStart;  // 버킷 시작일 (일간: 해당 일, 주간: 월요일, 월간: 1일)
+
+	@Convert(converter = DurationConverter.class)
+	private Duration playTime;
+	private Integer totalTry;
+	private Long scoreSum;
+	private Float score;            // 평균 점수 (scoreSum / totalTry)
+}
@@ -0,0 +1,36 @@
+package com.ssafy.ddingga.domain.rank.entity;
+
+public enum RankingMetric {
+	PLAY_TIME("playTime"),   // 총 플레이 시간(초)
+	TOTAL_TRY("totalTry"),   // 총 시도 횟수
+	SCORE("score");          // 평균 점수
+
+	private final String key;
+
+	RankingMetric(String key) {
+		this.key = key;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	// API 경로에 쓰는 키(playTime, totalTry, score)로 항목 조회
+	public static RankingMetric fromKey(String key) {
+		for (RankingMetric metric : values()) {
+			if (metric.key.equals(key)) {
+				return metric;
+			}
+		}
+		throw new IllegalArgumentException("존재하지 않는 랭킹 항목입니다: " + key);
+	}
+
+	// 랭킹 엔티티에서 해당 항목의 값을 정렬 가능한 숫자로 꺼냄
+	public double extract(Ranking ranking) {
+		return switch (this) {
+			case PLAY_TIME -> ranking.getPlayTime() != null ? ranking.getPlayTime().getSeconds() : 0;
+			case TOTAL_TRY -> ranking.getTotalTry() != null ? ranking.getTotalTry() : 0;
+			case SCORE -> ranking.getScore() != null ? ranking.getScore() : 0;
+		};
+	}
+}
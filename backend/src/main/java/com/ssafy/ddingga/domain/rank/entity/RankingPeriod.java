@@ -0,0 +1,52 @@
+package com.ssafy.ddingga.domain.rank.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum RankingPeriod {
+	DAILY("daily"),       // 일간
+	WEEKLY("weekly"),     // 주간 (월요일 시작)
+	MONTHLY("monthly"),   // 월간
+	ALL("all");           // 전체 기간 (Ranking 테이블)
+
+	private final String key;
+
+	RankingPeriod(String key) {
+		this.key = key;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	// API 파라미터로 쓰는 키(daily, weekly, monthly, all)로 기간 조회
+	public static RankingPeriod fromKey(String key) {
+		for (RankingPeriod period : values()) {
+			if (period.key.equals(key)) {
+				return period;
+			}
+		}
+		throw new IllegalArgumentException("존재하지 않는 랭킹 기간입니다: " + key);
+	}
+
+	// 해당 날짜가 속한 버킷의 시작일
+	public LocalDate bucketStart(LocalDate date) {
+		return switch (this) {
+			case DAILY -> date;
+			case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+			case MONTHLY -> date.withDayOfMonth(1);
+			case ALL -> throw new IllegalStateException("전체 기간은 버킷이 없습니다.");
+		};
+	}
+
+	// 다음 버킷의 시작일 (롤업 범위의 끝, 미포함)
+	public LocalDate nextBucketStart(LocalDate bucketStart) {
+		return switch (this) {
+			case DAILY -> bucketStart.plusDays(1);
+			case WEEKLY -> bucketStart.plusWeeks(1);
+			case MONTHLY -> bucketStart.plusMonths(1);
+			case ALL -> throw new IllegalStateException("전체 기간은 버킷이 없습니다.");
+		};
+	}
+}
@@ -0,0 +1,37 @@
+package com.ssafy.ddingga.domain.rank.event;
+
+import com.ssafy.ddingga.domain.rank.entity.Ranking;
+import com.ssafy.ddingga.domain.rank.entity.RankingMetric;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 랭킹 정보가 생성되거나 수정되었을 때 발행되는 이벤트
+ * 리더보드 등 랭킹 캐시들이 이 이벤트를 받아 갱신됨
+ */
+@Getter
+@AllArgsConstructor
+public class RankingUpdatedEvent {
+	private Integer userId;
+	private long playTimeSeconds;
+	private int totalTry;
+	private float score;
+
+	// 랭킹 항목별 값 (리더보드 정렬 기준)
+	public double getMetricValue(RankingMetric metric) {
+		return switch (metric) {
+			case PLAY_TIME -> playTimeSeconds;
+			case TOTAL_TRY -> totalTry;
+			case SCORE -> score;
+		};
+	}
+
+	public static RankingUpdatedEvent from(Ranking ranking) {
+		return new RankingUpdatedEvent(
+			ranking.getUser().getUserId(),
+			ranking.getPlayTime() != null ? ranking.getPlayTime().getSeconds() : 0L,
+			ranking.getTotalTry() != null ? ranking.getTotalTry() : 0,
+			ranking.getScore() != null ? ranking.getScore() : 0f);
+	}
+}
@@ -0,0 +1,14 @@
+package com.ssafy.ddingga.domain.rank.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 랭킹 반영 한 번(유저 한 명 수정 또는 누적분 일괄 반영)이 끝났을 때 한 번만 발행되는 이벤트
+ * 유저별 RankingUpdatedEvent 뒤에 발행되며, 상위 랭킹 스냅샷처럼 전체를 한 번에 무효화하는 캐시가 받음
+ */
+@Getter
+@AllArgsConstructor
+public class RankingsChangedEvent {
+	private int userCount;
+}
@@ -0,0 +1,184 @@
+package com.ssafy.ddingga.domain.rank.index;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회용 Order-Statistic Tree (서브트리 크기를 가진 Treap)
+ * (값 내림차순, 유저 ID 오름차순)으로 정렬되며 삽입/삭제/순위 계산이 모두 O(log n)
+ * 동기화는 하지 않으므로 호출하는 쪽에서 락을 잡아야 함
+ */
+class OrderStatisticTree {
+
+	private static final class Node {
+		final double value;
+		final int id;
+		final int priority;
+		int size = 1;
+		Node left;
+		Node right;
+
+		Node(double value, int id) {
+			this.value = value;
+			this.id = id;
+			this.priority = ThreadLocalRandom.current().nextInt();
+		}
+	}
+
+	private Node root;
+
+	int size() {
+		return size(root);
+	}
+
+	void insert(double value, int id) {
+		root = insert(root, new Node(value, id));
+	}
+
+	void remove(double value, int id) {
+		root = remove(root, value, id);
+	}
+
+	/**
+	 * value 보다 큰 값의 개수 (동점은 세지 않음)
+	 * 순위 = countGreater + 1 로 기존 SQL 의 COUNT(r2) + 1 과 같은 기준
+	 */
+	int countGreater(double value) {
+		int count = 0;
+		Node node = root;
+		while (node != null) {
+			if (node.value > value) {
+				count += size(node.left) + 1;
+				node = node.right;
+			} else {
+				node = node.left;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 정렬 순서상 위치 (0부터 시작), 없으면 -1
+	 */
+	int indexOf(double value, int id) {
+		int index = 0;
+		Node node = root;
+		while (node != null) {
+			int cmp = compare(value, id, node.value, node.id);
+			if (cmp == 0) {
+				return index + size(node.left);
+			}
+			if (cmp < 0) {
+				node = node.left;
+			} else {
+				index += size(node.left) + 1;
+				node = node.right;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 정렬 순서상 index 번째 유저 ID (0부터 시작)
+	 */
+	int idAt(int index) {
+		Node node = root;
+		while (node != null) {
+			int leftSize = size(node.left);
+			if (index < leftSize) {
+				node = node.left;
+			} else if (index == leftSize) {
+				return node.id;
+			} else {
+				index -= leftSize + 1;
+				node = node.right;
+			}
+		}
+		throw new IndexOutOfBoundsException("index: " + index);
+	}
+
+	private Node insert(Node node, Node item) {
+		if (node == null) {
+			return item;
+		}
+		if (item.priority > node.priority) {
+			Node[] parts = split(node, item.value, item.id);
+			item.left = parts[0];
+			item.right = parts[1];
+			updateSize(item);
+			return item;
+		}
+		if (compare(item.value, item.id, node.value, node.id) < 0) {
+			node.left = insert(node.left, item);
+		} else {
+			node.right = insert(node.right, item);
+		}
+		updateSize(node);
+		return node;
+	}
+
+	private Node remove(Node node, double value, int id) {
+		if (node == null) {
+			return null;
+		}
+		int cmp = compare(value, id, node.value, node.id);
+		if (cmp == 0) {
+			return merge(node.left, node.right);
+		}
+		if (cmp < 0) {
+			node.left = remove(node.left, value, id);
+		} else {
+			node.right = remove(node.right, value, id);
+		}
+		updateSize(node);
+		return node;
+	}
+
+	// [키보다 앞에 오는 노드들, 나머지 노드들] 로 나눔
+	private Node[] split(Node node, double value, int id) {
+		if (node == null) {
+			return new Node[] {null, null};
+		}
+		if (compare(node.value, node.id, value, id) < 0) {
+			Node[] parts = split(node.right, value, id);
+			node.right = parts[0];
+			updateSize(node);
+			return new Node[] {node, parts[1]};
+		}
+		Node[] parts = split(node.left, value, id);
+		node.left = parts[1];
+		updateSize(node);
+		return new Node[] {parts[0], node};
+	}
+
+	// left 의 모든 노드가 right 보다 앞에 온다고 가정
+	private Node merge(Node left, Node right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			updateSize(left);
+			return left;
+		}
+		right.left = merge(left, right.left);
+		updateSize(right);
+		return right;
+	}
+
+	// 값이 큰 쪽이 앞, 같으면 유저 ID 가 작은 쪽이 앞
+	private static int compare(double value1, int id1, double value2, int id2) {
+		int cmp = Double.compare(value2, value1);
+		return cmp != 0 ? cmp : Integer.compare(id1, id2);
+	}
+
+	private static int size(Node node) {
+		return node == null ? 0 : node.size;
+	}
+
+	private static void updateSize(Node node) {
+		node.size = size(node.left) + size(node.right) + 1;
+	}
+}
@@ -0,0 +1,244 @@
+package com.ssafy.ddingga.domain.rank.index;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ssafy.ddingga.domain.rank.entity.Ranking;
+import com.ssafy.ddingga.domain.rank.entity.RankingMetric;
+import com.ssafy.ddingga.domain.rank.event.RankingUpdatedEvent;
+import com.ssafy.ddingga.domain.rank.repository.RankingRepository;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingInfo;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유저별 항목 순위를 메모리에서 O(log n) 으로 계산하기 위한 인덱스
+ * 서버 시작 시 DB에서 적재하고, 랭킹이 바뀔 때마다 해당 유저만 갱신함
+ * 백엔드가 여러 대이므로 변경 내용은 Redis 채널로 다른 서버에도 전달하고, 주기적으로 DB에서 다시 적재해 어긋남을 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingIndex {
+	private static final String CHANNEL = "ranking:index:updated";
+
+	private final RankingRepository rankingRepository;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private Map<RankingMetric, OrderStatisticTree> trees = createTrees();
+	private Map<Integer, double[]> userValues = new HashMap<>();    // userId -> 항목별 값 (RankingMetric 순서)
+	private volatile boolean loaded = false;
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(
+			(Message message, byte[] pattern) -> handleRemoteUpdate(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(CHANNEL));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		reload();
+	}
+
+	// 다른 서버의 변경을 놓쳤을 경우를 대비해 주기적으로 다시 적재
+	@Scheduled(fixedDelayString = "${ranking.index.reload-interval-ms:600000}",
+		initialDelayString = "${ranking.index.reload-interval-ms:600000}")
+	public void scheduledReload() {
+		reload();
+	}
+
+	/**
+	 * DB의 Ranking 테이블 전체로 인덱스를 새로 구성
+	 */
+	public void reload() {
+		try {
+			List<Ranking> rankings = rankingRepository.findAll();
+			Map<RankingMetric, OrderStatisticTree> newTrees = createTrees();
+			Map<Integer, double[]> newUserValues = new HashMap<>(rankings.size() * 2);
+			for (Ranking ranking : rankings) {
+				double[] values = new double[RankingMetric.values().length];
+				for (RankingMetric metric : RankingMetric.values()) {
+					values[metric.ordinal()] = metric.extract(ranking);
+				}
+				Integer userId = ranking.getUser().getUserId();
+				newUserValues.put(userId, values);
+				for (RankingMetric metric : RankingMetric.values()) {
+					newTrees.get(metric).insert(values[metric.ordinal()], userId);
+				}
+			}
+
+			lock.writeLock().lock();
+			try {
+				trees = newTrees;
+				userValues = newUserValues;
+				loaded = true;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			log.info("랭킹 인덱스 - 적재 완료: rankingCount={}", rankings.size());
+		} catch (Exception e) {
+			log.error("랭킹 인덱스 - 적재 실패: error={}", e.getMessage());
+		}
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * 유저의 항목별 값과 순위 조회
+	 * @return 랭킹 정보가 없는 유저면 null
+	 */
+	public RankingInfo getRankingInfo(Integer userId) {
+		lock.readLock().lock();
+		try {
+			double[] values = userValues.get(userId);
+			if (values == null) {
+				return null;
+			}
+			return new RankingInfo(
+				Duration.ofSeconds((long)values[RankingMetric.PLAY_TIME.ordinal()]),
+				(int)values[RankingMetric.TOTAL_TRY.ordinal()],
+				(float)values[RankingMetric.SCORE.ordinal()],
+				rankOfValue(RankingMetric.PLAY_TIME, values[RankingMetric.PLAY_TIME.ordinal()]),
+				rankOfValue(RankingMetric.TOTAL_TRY, values[RankingMetric.TOTAL_TRY.ordinal()]),
+				rankOfValue(RankingMetric.SCORE, values[RankingMetric.SCORE.ordinal()]));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 해당 값을 가진 유저의 순위 (동점은 같은 순위)
+	 */
+	public int rankOf(RankingMetric metric, double value) {
+		lock.readLock().lock();
+		try {
+			return rankOfValue(metric, value);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 해당 항목 순서에서 유저 위아래 k명씩의 유저 ID (본인 포함, 순위 순)
+	 * @return 랭킹 정보가 없는 유저면 빈 목록
+	 */
+	public List<Integer> userIdsAround(RankingMetric metric, Integer userId, int k) {
+		lock.readLock().lock();
+		try {
+			double[] values = userValues.get(userId);
+			if (values == null) {
+				return List.of();
+			}
+			OrderStatisticTree tree = trees.get(metric);
+			int position = tree.indexOf(values[metric.ordinal()], userId);
+			int from = Math.max(0, position - k);
+			int to = Math.min(tree.size() - 1, position + k);
+			List<Integer> result = new ArrayList<>(to - from + 1);
+			for (int i = from; i <= to; i++) {
+				result.add(tree.idAt(i));
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 인덱스에 들어있는 유저 ID 중 최대 limit 개 (정합성 검사용)
+	 */
+	public List<Integer> sampleUserIds(int limit) {
+		lock.readLock().lock();
+		try {
+			List<Integer> result = new ArrayList<>(Math.min(limit, userValues.size()));
+			for (Integer userId : userValues.keySet()) {
+				if (result.size() >= limit) {
+					break;
+				}
+				result.add(userId);
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public void update(Integer userId, double playTimeSeconds, double totalTry, double score) {
+		double[] values = new double[RankingMetric.values().length];
+		values[RankingMetric.PLAY_TIME.ordinal()] = playTimeSeconds;
+		values[RankingMetric.TOTAL_TRY.ordinal()] = totalTry;
+		values[RankingMetric.SCORE.ordinal()] = score;
+
+		lock.writeLock().lock();
+		try {
+			if (!loaded) {
+				return;
+			}
+			double[] previous = userValues.put(userId, values);
+			for (RankingMetric metric : RankingMetric.values()) {
+				OrderStatisticTree tree = trees.get(metric);
+				if (previous != null) {
+					tree.remove(previous[metric.ordinal()], userId);
+				}
+				tree.insert(values[metric.ordinal()], userId);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleRankingUpdated(RankingUpdatedEvent event) {
+		update(event.getUserId(), event.getPlayTimeSeconds(), event.getTotalTry(), event.getScore());
+		try {
+			redisTemplate.convertAndSend(CHANNEL, event.getUserId() + "," + event.getPlayTimeSeconds() + ","
+				+ event.getTotalTry() + "," + event.getScore());
+		} catch (Exception e) {
+			log.error("랭킹 인덱스 - 변경 전파 실패: userId={}, error={}", event.getUserId(), e.getMessage());
+		}
+	}
+
+	private void handleRemoteUpdate(String payload) {
+		try {
+			String[] parts = payload.split(",");
+			update(Integer.parseInt(parts[0]), Long.parseLong(parts[1]), Integer.parseInt(parts[2]),
+				Float.parseFloat(parts[3]));
+		} catch (Exception e) {
+			log.error("랭킹 인덱스 - 변경 메시지 처리 실패: payload={}, error={}", payload, e.getMessage());
+		}
+	}
+
+	private int rankOfValue(RankingMetric metric, double value) {
+		return trees.get(metric).countGreater(value) + 1;
+	}
+
+	private static Map<RankingMetric, OrderStatisticTree> createTrees() {
+		Map<RankingMetric, OrderStatisticTree> map = new EnumMap<>(RankingMetric.class);
+		for (RankingMetric metric : RankingMetric.values()) {
+			map.put(metric, new OrderStatisticTree());
+		}
+		return map;
+	}
+}
@@ -0,0 +1,30 @@
+package com.ssafy.ddingga.domain.rank.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ssafy.ddingga.domain.rank.entity.PendingRankingDelta;
+
+@Repository
+public interface PendingRankingDeltaRepository extends JpaRepository<PendingRankingDelta, Long> {
+
+	// 오래된 것부터 limit 개를 잠금, 다른 서버가 잠근 행은 건너뛰어 서버끼리 같은 행을 두 번 반영하지 않음
+	@Query(value = "SELECT * FROM pending_ranking_delta ORDER BY pending_ranking_delta_id LIMIT :limit "
+		+ "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<PendingRankingDelta> lockNextBatch(@Param("limit") int limit);
+
+	// 유저별 재시도용, 이미 다른 서버가 반영해서 지운 행은 빠짐
+	@Query(value = "SELECT * FROM pending_ranking_delta WHERE pending_ranking_delta_id IN (:ids) "
+		+ "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<PendingRankingDelta> lockAllByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Modifying
+	@Query("DELETE FROM PendingRankingDelta d WHERE d.pendingRankingDeltaId IN :ids")
+	int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
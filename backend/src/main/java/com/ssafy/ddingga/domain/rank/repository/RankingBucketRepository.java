@@ -0,0 +1,67 @@
+package com.ssafy.ddingga.domain.rank.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ssafy.ddingga.domain.rank.entity.RankingBucket;
+import com.ssafy.ddingga.domain.rank.entity.RankingPeriod;
+
+@Repository
+public interface RankingBucketRepository extends JpaRepository<RankingBucket, Long> {
+
+	// 일간 버킷에 누적분을 더함 (없으면 생성)
+	@Modifying
+	@Query(value = "INSERT INTO ranking_bucket "
+		+ "(user_id, period_type, bucket_start, play_time, total_try, score_sum, score) "
+		+ "VALUES (:userId, 'DAILY', :bucketStart, :playTimeSeconds, :tryCount, :scoreSum, :scoreSum / :tryCount) "
+		+ "ON DUPLICATE KEY UPDATE "
+		+ "play_time = play_time + VALUES(play_time), "
+		+ "total_try = total_try + VALUES(total_try), "
+		+ "score_sum = score_sum + VALUES(score_sum), "
+		+ "score = score_sum / total_try", nativeQuery = true)
+	int accumulateDaily(@Param("userId") Integer userId, @Param("bucketStart") LocalDate bucketStart,
+		@Param("playTimeSeconds") long playTimeSeconds, @Param("tryCount") int tryCount,
+		@Param("scoreSum") long scoreSum);
+
+	// [from, to) 범위의 일간 버킷을 합산해서 주간/월간 버킷을 다시 계산 (덮어쓰기라 여러 번 실행해도 결과가 같음)
+	@Modifying
+	@Query(value = "INSERT INTO ranking_bucket "
+		+ "(user_id, period_type, bucket_start, play_time, total_try, score_sum, score) "
+		+ "SELECT d.user_id, :periodType, :bucketStart, SUM(d.play_time), SUM(d.total_try), SUM(d.score_sum), "
+		+ "SUM(d.score_sum) / SUM(d.total_try) "
+		+ "FROM ranking_bucket d "
+		+ "WHERE d.period_type = 'DAILY' AND d.bucket_start >= :fromDate AND d.bucket_start < :toDate "
+		+ "GROUP BY d.user_id "
+		+ "ON DUPLICATE KEY UPDATE "
+		+ "play_time = VALUES(play_time), "
+		+ "total_try = VALUES(total_try), "
+		+ "score_sum = VALUES(score_sum), "
+		+ "score = VALUES(score)", nativeQuery = true)
+	int rollup(@Param("periodType") String periodType, @Param("bucketStart") LocalDate bucketStart,
+		@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+	@Query("SELECT b FROM RankingBucket b JOIN FETCH b.user "
+		+ "WHERE b.periodType = :periodType AND b.bucketStart = :bucketStart "
+		+ "ORDER BY b.playTime DESC, b.bucketId ASC")
+	List<RankingBucket> findTopByPlayTime(@Param("periodType") RankingPeriod periodType,
+		@Param("bucketStart") LocalDate bucketStart, Pageable pageable);
+
+	@Query("SELECT b FROM RankingBucket b JOIN FETCH b.user "
+		+ "WHERE b.periodType = :periodType AND b.bucketStart = :bucketStart "
+		+ "ORDER BY b.totalTry DESC, b.bucketId ASC")
+	List<RankingBucket> findTopByTotalTry(@Param("periodType") RankingPeriod periodType,
+		@Param("bucketStart") LocalDate bucketStart, Pageable pageable);
+
+	@Query("SELECT b FROM RankingBucket b JOIN FETCH b.user "
+		+ "WHERE b.periodType = :periodType AND b.bucketStart = :bucketStart "
+		+ "ORDER BY b.score DESC, b.bucketId ASC")
+	List<RankingBucket> findTopByScore(@Param("periodType") RankingPeriod periodType,
+		@Param("bucketStart") LocalDate bucketStart, Pageable pageable);
+}
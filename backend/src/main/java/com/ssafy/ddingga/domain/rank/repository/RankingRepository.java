@@ -1,10 +1,13 @@
 package com.ssafy.ddingga.domain.rank.repository;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -59,4 +62,65 @@ public interface RankingRepository extends JpaRepository<Ranking, Integer> {  //
 	List<TopRankingInfo> findTop10ByScore(Pageable pageable);
 
 	Optional<Ranking> findByUser_UserId(Integer userId);
+
+	// 랭킹 누적을 SELECT 없이 한 번의 upsert 로 처리 (동시 요청에도 증분이 유실되지 않음)
+	// MySQL 은 SET 절을 왼쪽부터 평가하므로 score 는 갱신된 score_sum, total_try 로 계산됨
+	// score_sum 이 없는 기존 행은 평균 * 횟수로 합계를 복원
+	@Modifying(clearAutomatically = true)
+	@Query(value = "INSERT INTO ranking (user_id, play_time, total_try, score_sum, score) "
+		+ "VALUES (:userId, :playTimeSeconds, :tryCount, :scoreSum, :scoreSum / :tryCount) "
+		+ "ON DUPLICATE KEY UPDATE "
+		+ "score_sum = COALESCE(score_sum, ROUND(score * total_try)) + VALUES(score_sum), "
+		+ "total_try = total_try + VALUES(total_try), "
+		+ "play_time = play_time + VALUES(play_time), "
+		+ "score = score_sum / total_try", nativeQuery = true)
+	int accumulate(@Param("userId") Integer userId, @Param("playTimeSeconds") long playTimeSeconds,
+		@Param("tryCount") int tryCount, @Param("scoreSum") long scoreSum);
+
+	// 리더보드 페이지 조회 (키셋 페이지네이션: 이전 페이지 마지막 행의 (값, rankingId) 다음부터)
+	@Query("SELECT r FROM Ranking r JOIN FETCH r.user ORDER BY r.playTime DESC, r.rankingId DESC")
+	List<Ranking> findFirstPageByPlayTime(Pageable pageable);
+
+	@Query("SELECT r FROM Ranking r JOIN FETCH r.user "
+		+ "WHERE r.playTime < :playTime OR (r.playTime = :playTime AND r.rankingId < :rankingId) "
+		+ "ORDER BY r.playTime DESC, r.rankingId DESC")
+	List<Ranking> findNextPageByPlayTime(@Param("playTime") Duration playTime, @Param("rankingId") Integer rankingId,
+		Pageable pageable);
+
+	@Query("SELECT r FROM Ranking r JOIN FETCH r.user ORDER BY r.totalTry DESC, r.rankingId DESC")
+	List<Ranking> findFirstPageByTotalTry(Pageable pageable);
+
+	@Query("SELECT r FROM Ranking r JOIN FETCH r.user "
+		+ "WHERE r.totalTry < :totalTry OR (r.totalTry = :totalTry AND r.rankingId < :rankingId) "
+		+ "ORDER BY r.totalTry DESC, r.rankingId DESC")
+	List<Ranking> findNextPageByTotalTry(@Param("totalTry") Integer totalTry, @Param("rankingId") Integer rankingId,
+		Pageable pageable);
+
+	// 평균 점수는 FLOAT 컬럼(score) 대신 scoreSum / totalTry 를 정확한 값으로 비교
+	// (FLOAT 를 문자열 커서로 주고받으면 같은 값끼리도 = 비교가 어긋나 페이지 경계의 동점자가 누락/중복됨)
+	// score_sum 이 없는 기존 행은 평균 * 횟수를 반올림한 값으로 취급 (RankingServiceImpl 커서 계산과 같은 식)
+	String EXACT_SCORE_SUM = "COALESCE(score_sum, CAST(FLOOR(score * total_try + 0.5) AS SIGNED))";
+
+	// 정렬은 소수 30자리 나눗셈 (totalTry 가 int 범위인 한 서로 다른 평균이 같은 값으로 합쳐지지 않음)
+	// 커서 이후 조건은 정수 교차곱 (sum * :totalTry 와 :scoreSum * total_try 비교)
+	// 유저를 함께 가져오기 위해 ID 만 조회하고 findAllWithUserByRankingIdIn 으로 채움
+	@Query(value = "SELECT ranking_id FROM ranking "
+		+ "ORDER BY CAST(" + EXACT_SCORE_SUM + " AS DECIMAL(65, 30)) / total_try DESC, ranking_id DESC "
+		+ "LIMIT :limit", nativeQuery = true)
+	List<Integer> findFirstPageIdsByScore(@Param("limit") int limit);
+
+	@Query(value = "SELECT ranking_id FROM ranking "
+		+ "WHERE " + EXACT_SCORE_SUM + " * :totalTry < :scoreSum * total_try "
+		+ "OR (" + EXACT_SCORE_SUM + " * :totalTry = :scoreSum * total_try AND ranking_id < :rankingId) "
+		+ "ORDER BY CAST(" + EXACT_SCORE_SUM + " AS DECIMAL(65, 30)) / total_try DESC, ranking_id DESC "
+		+ "LIMIT :limit", nativeQuery = true)
+	List<Integer> findNextPageIdsByScore(@Param("scoreSum") long scoreSum, @Param("totalTry") int totalTry,
+		@Param("rankingId") Integer rankingId, @Param("limit") int limit);
+
+	@Query("SELECT r FROM Ranking r JOIN FETCH r.user WHERE r.rankingId IN :rankingIds")
+	List<Ranking> findAllWithUserByRankingIdIn(@Param("rankingIds") Collection<Integer> rankingIds);
+
+	// 리더보드에서 뽑은 유저들의 랭킹 정보를 유저와 함께 한 번에 조회
+	@Query("SELECT r FROM Ranking r JOIN FETCH r.user WHERE r.user.userId IN :userIds")
+	List<Ranking> findAllWithUserByUserIdIn(@Param("userIds") Collection<Integer> userIds);
 }
@@ -0,0 +1,24 @@
+package com.ssafy.ddingga.domain.rank.service;
+
+import java.time.Duration;
+
+/**
+ * 리플레이 결과를 랭킹에 누적하는 서비스
+ * 같은 유저의 연속된 요청은 짧은 시간 동안 모았다가 한 번의 쓰기로 반영함
+ */
+public interface RankingAccumulatorService {
+
+	/**
+	 * 리플레이 한 번의 결과를 누적 대기열(PendingRankingDelta)에 기록
+	 * 리플레이 저장 트랜잭션 안에서 ReplayCreatedEvent 로 호출되어 리플레이와 함께 커밋됨
+	 * @param userId 유저 ID
+	 * @param playTime 리플레이 재생 시간
+	 * @param score 리플레이 점수
+	 */
+	void accumulate(Integer userId, Duration playTime, int score);
+
+	/**
+	 * 대기 중인 누적분을 DB에 반영
+	 */
+	void flush();
+}
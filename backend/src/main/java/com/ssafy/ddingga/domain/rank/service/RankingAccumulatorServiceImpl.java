@@ -0,0 +1,183 @@
+package com.ssafy.ddingga.domain.rank.service;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ssafy.ddingga.domain.rank.dto.RankingDelta;
+import com.ssafy.ddingga.domain.rank.entity.PendingRankingDelta;
+import com.ssafy.ddingga.domain.rank.repository.PendingRankingDeltaRepository;
+import com.ssafy.ddingga.domain.replay.event.ReplayCreatedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리플레이 결과를 PendingRankingDelta 에 기록하고, 주기적으로 유저별로 합쳐서 랭킹에 한 번에 반영함
+ * 반영과 기록 삭제를 한 트랜잭션에서 하므로 서버가 중간에 죽어도 누적분이 빠지거나 두 번 더해지지 않음
+ * DB 연결 끊김, 잠금 대기 초과 같은 일시적인 오류는 간격을 늘려가며 계속 재시도하고,
+ * 다시 해도 실패할 오류(제약 조건 위반 등)만 해당 유저의 누적분을 로그로 남기고 버림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingAccumulatorServiceImpl implements RankingAccumulatorService {
+	private static final int BATCH_SIZE = 1000;
+	private static final int MAX_BATCHES_PER_RUN = 10;
+	private static final long MAX_BACKOFF_MS = 60_000;
+
+	private final RankingService rankingService;
+	private final PendingRankingDeltaRepository pendingRankingDeltaRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${ranking.accumulator.retry-base-ms:1000}")
+	private long retryBaseMs;
+
+	// 연속된 일시적 실패 횟수와 다음 반영 시각 (flush 스레드에서만 사용)
+	private int consecutiveFailures;
+	private long nextAttemptAtMillis;
+
+	// 호출한 쪽 트랜잭션에 함께 기록 (트랜잭션 밖이면 바로 저장)
+	@Override
+	public void accumulate(Integer userId, Duration playTime, int score) {
+		pendingRankingDeltaRepository.save(PendingRankingDelta.builder()
+			.userId(userId)
+			.playTimeSeconds(playTime.getSeconds())
+			.score(score)
+			.createdAt(LocalDateTime.now())
+			.build());
+	}
+
+	// 리플레이 저장 트랜잭션이 커밋되기 직전에 같은 트랜잭션으로 기록 (롤백된 리플레이는 랭킹에 반영되지 않음)
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	public void handleReplayCreated(ReplayCreatedEvent event) {
+		accumulate(event.getUserId(), Duration.ofSeconds(event.getPlayTimeSeconds()),
+			event.getScore() != null ? event.getScore() : 0);
+	}
+
+	@Override
+	@Scheduled(fixedDelayString = "${ranking.accumulator.flush-interval-ms:1000}")
+	public synchronized void flush() {
+		if (System.currentTimeMillis() < nextAttemptAtMillis) {
+			return;
+		}
+		try {
+			for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+				if (flushBatch() < BATCH_SIZE) {
+					break;
+				}
+			}
+			if (consecutiveFailures > 0) {
+				log.info("랭킹 누적 - 반영 재개: failures={}", consecutiveFailures);
+			}
+			consecutiveFailures = 0;
+		} catch (RuntimeException e) {
+			// 누적분은 DB 에 그대로 남아 있으므로 간격을 늘려서 다시 시도
+			consecutiveFailures++;
+			long backoff = Math.min(retryBaseMs << Math.min(consecutiveFailures - 1, 16), MAX_BACKOFF_MS);
+			nextAttemptAtMillis = System.currentTimeMillis() + backoff;
+			log.warn("랭킹 누적 - 반영 실패, {}ms 뒤 재시도: failures={}, error={}", backoff, consecutiveFailures,
+				e.getMessage());
+		}
+	}
+
+	// 오래된 누적분부터 한 묶음 반영, 처리한 행 수를 반환
+	private int flushBatch() {
+		List<PendingRankingDelta> locked = new ArrayList<>();
+		try {
+			Integer count = transactionTemplate.execute(status -> {
+				locked.addAll(pendingRankingDeltaRepository.lockNextBatch(BATCH_SIZE));
+				apply(locked);
+				return locked.size();
+			});
+			return count != null ? count : 0;
+		} catch (RuntimeException e) {
+			if (isRetryable(e) || locked.isEmpty()) {
+				throw e;
+			}
+			// 한 유저 때문에 전체가 막히지 않도록 유저별로 나눠서 다시 반영
+			log.warn("랭킹 누적 - 일괄 반영 실패, 유저별로 재시도: rowCount={}, error={}", locked.size(), e.getMessage());
+			Map<Integer, List<PendingRankingDelta>> rowsByUser = new LinkedHashMap<>();
+			for (PendingRankingDelta row : locked) {
+				rowsByUser.computeIfAbsent(row.getUserId(), userId -> new ArrayList<>()).add(row);
+			}
+			rowsByUser.forEach(this::applyOne);
+			return locked.size();
+		}
+	}
+
+	private void applyOne(Integer userId, List<PendingRankingDelta> rows) {
+		List<Long> ids = idsOf(rows);
+		try {
+			transactionTemplate.executeWithoutResult(
+				status -> apply(pendingRankingDeltaRepository.lockAllByIdIn(ids)));
+		} catch (RuntimeException e) {
+			if (isRetryable(e)) {
+				throw e;
+			}
+			// 다시 해도 실패할 누적분은 로그로 남기고 버림 (값을 보고 수동으로 반영)
+			RankingDelta delta = sum(rows).get(userId);
+			log.error("랭킹 누적 - 반영할 수 없는 누적분 제외: userId={}, playTimeSeconds={}, tryCount={}, scoreSum={}, error={}",
+				userId, delta.getPlayTimeSeconds(), delta.getTryCount(), delta.getScoreSum(), e.getMessage());
+			transactionTemplate.executeWithoutResult(status -> pendingRankingDeltaRepository.deleteAllByIdIn(ids));
+		}
+	}
+
+	// 유저별로 합쳐서 랭킹에 더하고, 같은 트랜잭션에서 반영한 행을 지움
+	private void apply(List<PendingRankingDelta> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		rankingService.applyRankingDeltas(sum(rows));
+		pendingRankingDeltaRepository.deleteAllByIdIn(idsOf(rows));
+	}
+
+	private Map<Integer, RankingDelta> sum(List<PendingRankingDelta> rows) {
+		Map<Integer, RankingDelta> deltas = new HashMap<>();
+		for (PendingRankingDelta row : rows) {
+			deltas.merge(row.getUserId(), new RankingDelta(row.getPlayTimeSeconds(), 1, row.getScore()),
+				RankingDelta::plus);
+		}
+		return deltas;
+	}
+
+	private List<Long> idsOf(List<PendingRankingDelta> rows) {
+		List<Long> ids = new ArrayList<>(rows.size());
+		for (PendingRankingDelta row : rows) {
+			ids.add(row.getPendingRankingDeltaId());
+		}
+		return ids;
+	}
+
+	// DB 연결 실패, 잠금 대기 초과, 교착 상태처럼 다시 시도하면 성공할 수 있는 오류인지 (감싼 예외의 원인까지 확인)
+	private boolean isRetryable(Throwable error) {
+		for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+			if (cause instanceof TransientDataAccessException
+				|| cause instanceof RecoverableDataAccessException
+				|| cause instanceof DataAccessResourceFailureException
+				|| cause instanceof CannotCreateTransactionException
+				|| cause instanceof SQLTransientException
+				|| cause instanceof SQLRecoverableException) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,33 @@
+package com.ssafy.ddingga.domain.rank.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import com.ssafy.ddingga.domain.rank.dto.RankingDelta;
+import com.ssafy.ddingga.domain.rank.entity.RankingPeriod;
+import com.ssafy.ddingga.facade.rank.dto.response.TopRankingResponse;
+
+/**
+ * 기간별(일간/주간/월간) 랭킹 집계 서비스
+ */
+public interface RankingBucketService {
+
+	/**
+	 * 유저별 누적분을 해당 날짜의 일간 버킷에 더함
+	 * @param deltas 유저 ID별 누적 변화량
+	 * @param date 누적할 날짜
+	 */
+	void applyDailyDeltas(Map<Integer, RankingDelta> deltas, LocalDate date);
+
+	/**
+	 * 해당 날짜가 속한 주간/월간 버킷을 일간 버킷으로 다시 계산
+	 * @param date 기준 날짜
+	 */
+	void rollup(LocalDate date);
+
+	/**
+	 * 현재 기간 버킷의 항목별 상위 10명 조회
+	 * @param period 조회할 기간 (ALL 제외)
+	 */
+	TopRankingResponse getTopRankings(RankingPeriod period);
+}
@@ -0,0 +1,135 @@
+package com.ssafy.ddingga.domain.rank.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ssafy.ddingga.common.util.DurationFormatter;
+import com.ssafy.ddingga.domain.rank.cache.TopRankingSnapshotCache;
+import com.ssafy.ddingga.domain.rank.dto.RankingDelta;
+import com.ssafy.ddingga.domain.rank.entity.RankingBucket;
+import com.ssafy.ddingga.domain.rank.entity.RankingMetric;
+import com.ssafy.ddingga.domain.rank.entity.RankingPeriod;
+import com.ssafy.ddingga.domain.rank.repository.RankingBucketRepository;
+import com.ssafy.ddingga.facade.rank.dto.response.TopRankingInfoForPlayTime;
+import com.ssafy.ddingga.facade.rank.dto.response.TopRankingResponse;
+import com.ssafy.ddingga.global.error.exception.DatabaseException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingBucketServiceImpl implements RankingBucketService {
+	private final RankingBucketRepository rankingBucketRepository;
+	private final TopRankingSnapshotCache topRankingSnapshotCache;
+
+	private static final int TOP_RANKING_SIZE = 10;
+
+	@Override
+	@Transactional
+	public void applyDailyDeltas(Map<Integer, RankingDelta> deltas, LocalDate date) {
+		for (Map.Entry<Integer, RankingDelta> entry : deltas.entrySet()) {
+			RankingDelta delta = entry.getValue();
+			rankingBucketRepository.accumulateDaily(entry.getKey(), date, delta.getPlayTimeSeconds(),
+				delta.getTryCount(), delta.getScoreSum());
+		}
+	}
+
+	@Override
+	@Transactional
+	public void rollup(LocalDate date) {
+		for (RankingPeriod period : List.of(RankingPeriod.WEEKLY, RankingPeriod.MONTHLY)) {
+			LocalDate bucketStart = period.bucketStart(date);
+			int affected = rankingBucketRepository.rollup(period.name(), bucketStart, bucketStart,
+				period.nextBucketStart(bucketStart));
+			log.info("랭킹 버킷 - 롤업 완료: period={}, bucketStart={}, affected={}", period, bucketStart, affected);
+		}
+	}
+
+	// 주기적으로 일간 버킷을 주간/월간 버킷으로 합산
+	// 자정 직후에는 전날이 속한 주/월도 마지막으로 한 번 더 합산해서 마감
+	@Scheduled(fixedDelayString = "${ranking.bucket.rollup-interval-ms:300000}")
+	@Transactional
+	public void scheduledRollup() {
+		LocalDate today = LocalDate.now();
+		rollup(today);
+		LocalDate yesterday = today.minusDays(1);
+		if (!RankingPeriod.WEEKLY.bucketStart(yesterday).equals(RankingPeriod.WEEKLY.bucketStart(today))
+			|| !RankingPeriod.MONTHLY.bucketStart(yesterday).equals(RankingPeriod.MONTHLY.bucketStart(today))) {
+			rollup(yesterday);
+		}
+		// 주간/월간 버킷이 바뀌었으므로 상위 랭킹 스냅샷 무효화
+		topRankingSnapshotCache.invalidate();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public TopRankingResponse getTopRankings(RankingPeriod period) {
+		log.info("랭킹 버킷 - 기간별 상위 10명 조회 요청: period={}", period);
+		if (period == RankingPeriod.ALL) {
+			throw new IllegalArgumentException("전체 기간은 버킷으로 조회할 수 없습니다.");
+		}
+
+		try {
+			LocalDate bucketStart = period.bucketStart(LocalDate.now());
+			Pageable pageable = PageRequest.of(0, TOP_RANKING_SIZE);
+
+			TopRankingResponse response = TopRankingResponse.builder()
+				.playTimeTop10(toRankingInfos(RankingMetric.PLAY_TIME,
+					rankingBucketRepository.findTopByPlayTime(period, bucketStart, pageable)))
+				.totalTryTop10(toRankingInfos(RankingMetric.TOTAL_TRY,
+					rankingBucketRepository.findTopByTotalTry(period, bucketStart, pageable)))
+				.scoreTop10(toRankingInfos(RankingMetric.SCORE,
+					rankingBucketRepository.findTopByScore(period, bucketStart, pageable)))
+				.build();
+
+			log.info("랭킹 버킷 - 기간별 상위 10명 조회 완료: period={}, bucketStart={}", period, bucketStart);
+			return response;
+		} catch (Exception e) {
+			log.error("랭킹 버킷 - 기간별 상위 10명 조회 실패: period={}, error={}", period, e.getMessage());
+			throw new DatabaseException("기간별 랭킹 조회 중 오류가 발생했습니다.", e);
+		}
+	}
+
+	// 정렬된 버킷 목록을 응답 형태로 변환, 동점자는 같은 순위
+	private List<TopRankingInfoForPlayTime> toRankingInfos(RankingMetric metric, List<RankingBucket> buckets) {
+		List<TopRankingInfoForPlayTime> result = new ArrayList<>(buckets.size());
+		int rank = 0;
+		double previousValue = 0;
+		for (int i = 0; i < buckets.size(); i++) {
+			RankingBucket bucket = buckets.get(i);
+			double value = valueOf(metric, bucket);
+			if (i == 0 || value != previousValue) {
+				rank = i + 1;
+			}
+			previousValue = value;
+
+			result.add(TopRankingInfoForPlayTime.builder()
+				.rank(rank)
+				.username(bucket.getUser().getUsername())
+				.profileImage(bucket.getUser().getProfileImage())
+				.playTime(DurationFormatter.format(bucket.getPlayTime()))
+				.totalTry(bucket.getTotalTry())
+				.score(bucket.getScore())
+				.build());
+		}
+		return result;
+	}
+
+	private double valueOf(RankingMetric metric, RankingBucket bucket) {
+		return switch (metric) {
+			case PLAY_TIME -> bucket.getPlayTime() != null ? bucket.getPlayTime().getSeconds() : 0;
+			case TOTAL_TRY -> bucket.getTotalTry() != null ? bucket.getTotalTry() : 0;
+			case SCORE -> bucket.getScore() != null ? bucket.getScore() : 0;
+		};
+	}
+}
@@ -0,0 +1,32 @@
+package com.ssafy.ddingga.domain.rank.service;
+
+import java.util.List;
+
+import com.ssafy.ddingga.domain.rank.entity.RankingMetric;
+import com.ssafy.ddingga.domain.rank.event.RankingUpdatedEvent;
+
+/**
+ * Redis Sorted Set 기반 랭킹 리더보드
+ * 항목(플레이 시간, 시도 횟수, 점수)별로 Sorted Set 하나씩 유지함
+ */
+public interface RankingLeaderboardService {
+
+	/**
+	 * 항목별 상위 유저 ID 조회 (ZREVRANGE)
+	 * 리더보드가 비어있으면(콜드 스타트) DB에서 다시 적재한 뒤 조회함
+	 * @param metric 랭킹 항목
+	 * @param count 조회할 인원 수
+	 * @return 순위 순으로 정렬된 유저 ID 목록
+	 */
+	List<Integer> getTopUserIds(RankingMetric metric, int count);
+
+	/**
+	 * 한 유저의 세 항목 값을 리더보드에 반영 (ZADD)
+	 */
+	void update(RankingUpdatedEvent event);
+
+	/**
+	 * DB의 Ranking 테이블로 리더보드 전체를 다시 구성
+	 */
+	void rebuild();
+}
@@ -0,0 +1,109 @@
+package com.ssafy.ddingga.domain.rank.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ssafy.ddingga.domain.rank.entity.Ranking;
+import com.ssafy.ddingga.domain.rank.entity.RankingMetric;
+import com.ssafy.ddingga.domain.rank.event.RankingUpdatedEvent;
+import com.ssafy.ddingga.domain.rank.repository.RankingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingLeaderboardServiceImpl implements RankingLeaderboardService {
+	private static final String KEY_PREFIX = "ranking:leaderboard:";
+	private static final int REBUILD_CHUNK_SIZE = 1000;
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final RankingRepository rankingRepository;
+
+	@Override
+	public List<Integer> getTopUserIds(RankingMetric metric, int count) {
+		String key = keyOf(metric);
+		if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+			log.info("랭킹 리더보드 - 캐시가 비어있어 DB에서 다시 적재: metric={}", metric);
+			rebuild();
+		}
+
+		Set<Object> members = redisTemplate.opsForZSet().reverseRange(key, 0, count - 1);
+		List<Integer> userIds = new ArrayList<>();
+		if (members != null) {
+			for (Object member : members) {
+				userIds.add(Integer.parseInt(member.toString()));
+			}
+		}
+		return userIds;
+	}
+
+	@Override
+	public void update(RankingUpdatedEvent event) {
+		String member = String.valueOf(event.getUserId());
+		for (RankingMetric metric : RankingMetric.values()) {
+			String key = keyOf(metric);
+			// 아직 적재되지 않은 리더보드에 한 명만 넣으면 재적재 대상에서 빠지므로 건너뜀 (다음 조회 때 DB에서 전체 적재)
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+				redisTemplate.opsForZSet().add(key, member, event.getMetricValue(metric));
+			}
+		}
+	}
+
+	@Override
+	public void rebuild() {
+		List<Ranking> rankings = rankingRepository.findAll();
+
+		for (RankingMetric metric : RankingMetric.values()) {
+			String key = keyOf(metric);
+			if (rankings.isEmpty()) {
+				redisTemplate.delete(key);
+				continue;
+			}
+
+			// 임시 키에 채운 뒤 RENAME 으로 교체해서 조회 중에 빈 리더보드가 보이지 않게 함
+			String tempKey = key + ":rebuild";
+			redisTemplate.delete(tempKey);
+			Set<ZSetOperations.TypedTuple<Object>> chunk = new HashSet<>();
+			for (Ranking ranking : rankings) {
+				chunk.add(new DefaultTypedTuple<>(String.valueOf(ranking.getUser().getUserId()), metric.extract(ranking)));
+				if (chunk.size() >= REBUILD_CHUNK_SIZE) {
+					redisTemplate.opsForZSet().add(tempKey, chunk);
+					chunk = new HashSet<>();
+				}
+			}
+			if (!chunk.isEmpty()) {
+				redisTemplate.opsForZSet().add(tempKey, chunk);
+			}
+			redisTemplate.rename(tempKey, key);
+		}
+		log.info("랭킹 리더보드 - 재적재 완료: rankingCount={}", rankings.size());
+	}
+
+	// 랭킹이 커밋된 뒤에 리더보드 반영, Redis 장애가 랭킹 저장을 실패시키지 않도록 예외는 로그만 남김
+	// 상위 랭킹 스냅샷 무효화보다 먼저 반영해야 다시 만든 스냅샷에 변경이 포함됨
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleRankingUpdated(RankingUpdatedEvent event) {
+		try {
+			update(event);
+		} catch (Exception e) {
+			log.error("랭킹 리더보드 - 갱신 실패: userId={}, error={}", event.getUserId(), e.getMessage());
+		}
+	}
+
+	private String keyOf(RankingMetric metric) {
+		return KEY_PREFIX + metric.getKey();
+	}
+}
@@ -1,9 +1,15 @@
 package com.ssafy.ddingga.domain.rank.service;
 
 import java.time.Duration;
+import java.util.Map;
 
+import com.ssafy.ddingga.domain.rank.dto.RankingDelta;
 import com.ssafy.ddingga.domain.rank.entity.Ranking;
+import com.ssafy.ddingga.domain.rank.entity.RankingMetric;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingAroundResponse;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingIndexVerifyResponse;
 import com.ssafy.ddingga.facade.rank.dto.response.RankingInfo;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingPageResponse;
 import com.ssafy.ddingga.facade.rank.dto.response.TopRankingResponse;
 
 public interface RankingService {
@@ -11,7 +17,19 @@ public interface RankingService {
 
 	TopRankingResponse getTop10Rankings();
 
+	// 항목별 리더보드 페이지 조회 (키셋 커서)
+	RankingPageResponse getRankingPage(RankingMetric metric, String cursor, int size);
+
+	// 항목별로 내 위아래 k명 조회
+	RankingAroundResponse getRankingsAroundUser(RankingMetric metric, Integer userId, int k);
+
+	// 메모리 랭킹 인덱스와 SQL 순위 계산 결과 비교 (배포 후 검증용)
+	RankingIndexVerifyResponse verifyRankingIndex(int sampleSize);
+
 	Ranking createRankingInfo(int userId, Duration playtime, float score, int totalTry);
 
 	Ranking updateRankingInfo(int userId, Duration playtime, float score, int totalTry);
+
+	// 유저별 누적 변화량을 upsert 로 한 트랜잭션에 반영
+	void applyRankingDeltas(Map<Integer, RankingDelta> deltas);
 }
@@ -1,23 +1,39 @@
 package com.ssafy.ddingga.domain.rank.service;
 
 import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.ssafy.ddingga.common.util.DurationFormatter;
 import com.ssafy.ddingga.domain.auth.entity.User;
 import com.ssafy.ddingga.domain.auth.repository.AuthRepository;
+import com.ssafy.ddingga.domain.rank.dto.RankingDelta;
 import com.ssafy.ddingga.domain.rank.entity.Ranking;
+import com.ssafy.ddingga.domain.rank.entity.RankingMetric;
+import com.ssafy.ddingga.domain.rank.event.RankingUpdatedEvent;
+import com.ssafy.ddingga.domain.rank.event.RankingsChangedEvent;
+import com.ssafy.ddingga.domain.rank.index.RankingIndex;
 import com.ssafy.ddingga.domain.rank.repository.RankingRepository;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingAroundResponse;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingIndexVerifyResponse;
 import com.ssafy.ddingga.facade.rank.dto.response.RankingInfo;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingPageResponse;
 import com.ssafy.ddingga.facade.rank.dto.response.TopRankingInfo;
 import com.ssafy.ddingga.facade.rank.dto.response.TopRankingInfoForPlayTime;
 import com.ssafy.ddingga.facade.rank.dto.response.TopRankingResponse;
 import com.ssafy.ddingga.global.error.exception.DatabaseException;
 import com.ssafy.ddingga.global.error.exception.NotFoundException;
+import com.ssafy.ddingga.global.error.exception.ServiceException;
 import com.ssafy.ddingga.global.error.exception.UserNotFoundException;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +45,15 @@ import lombok.extern.slf4j.Slf4j;
 public class RankingServiceImpl implements RankingService {
 	private final RankingRepository rankingRepository;
 	private final AuthRepository authRepository;
+	private final RankingLeaderboardService rankingLeaderboardService;
+	private final RankingIndex rankingIndex;
+	private final RankingBucketService rankingBucketService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private static final int TOP_RANKING_SIZE = 10;
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final int MAX_AROUND_RANGE = 50;
+	private static final int MAX_VERIFY_SAMPLE_SIZE = 1000;  // 검사 1건마다 SQL 순위 계산이 한 번씩 나감
 
 	@Override
 	public RankingInfo getRankingInfo(Integer userId) {
@@ -38,6 +63,13 @@ public class RankingServiceImpl implements RankingService {
 			throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
 		}
 
+		// 메모리 인덱스가 적재되어 있으면 O(log n) 으로 순위 계산, 아니면 기존 서브쿼리로 조회
+		if (rankingIndex.isLoaded()) {
+			RankingInfo result = rankingIndex.getRankingInfo(userId);
+			log.info("랭킹 - 랭킹 정보 조회 완료(인덱스): userId={}, result={}", userId, result);
+			return result;
+		}
+
 		try {
 			RankingInfo result = rankingRepository.findRankingByUserId(userId);
 			log.info("랭킹 - 랭킹 정보 조회 완료: userId={}, result={}", userId, result);
@@ -52,98 +84,143 @@ public class RankingServiceImpl implements RankingService {
 	public TopRankingResponse getTop10Rankings() {
 		log.info("랭킹 - 상위 10명 랭킹 정보 조회 요청");
 		try {
-			Pageable pageable = PageRequest.of(0, 10);
+			Pageable pageable = PageRequest.of(0, TOP_RANKING_SIZE);
 
 			// Duration 프론트로 보낼 String 00:00:00으로 변환
-			List<TopRankingInfo> top10ByPlayTime = rankingRepository.findTop10ByPlayTime(pageable);
-			List<TopRankingInfo> top10ByTotalTry = rankingRepository.findTop10ByTotalTry(pageable);
-			List<TopRankingInfo> top10ByScore = rankingRepository.findTop10ByScore(pageable);
-
-			List<TopRankingInfoForPlayTime> topRankingInfoForPlayTimeList = new ArrayList<>();
-			List<TopRankingInfoForPlayTime> topRankingInfoForTotalTryList = new ArrayList<>();
-			List<TopRankingInfoForPlayTime> topRankingInfoForScoreList = new ArrayList<>();
-
-			// 총 플레이 시간 순위
-			for (TopRankingInfo topRankingInfo : top10ByPlayTime) {
-
-				Duration duration = Duration.ofSeconds(topRankingInfo.getPlayTime().getSeconds());
-
-				// 시간, 분, 초를 두 자리로 포맷하고 이어붙임
-				String requestTime = String.format("%02d", duration.toHours()) + ":" +
-					String.format("%02d", duration.toMinutes() % 60) + ":" +
-					String.format("%02d", duration.getSeconds() % 60);
-
-				TopRankingInfoForPlayTime topRankingInfoForPlayTime = TopRankingInfoForPlayTime.builder()
-					.playTime(requestTime)
-					.rank(topRankingInfo.getRank())
-					.username(topRankingInfo.getUsername())
-					.profileImage(topRankingInfo.getProfileImage())
-					.playTime(requestTime)
-					.totalTry(topRankingInfo.getTotalTry())
-					.score(topRankingInfo.getScore())
-					.build();
-
-				topRankingInfoForPlayTimeList.add(topRankingInfoForPlayTime);
-			}
-
-			// 총 시도 순위
-			for (TopRankingInfo topRankingInfo : top10ByTotalTry) {
+			List<TopRankingInfo> top10ByPlayTime = findTopRankings(RankingMetric.PLAY_TIME, pageable);
+			List<TopRankingInfo> top10ByTotalTry = findTopRankings(RankingMetric.TOTAL_TRY, pageable);
+			List<TopRankingInfo> top10ByScore = findTopRankings(RankingMetric.SCORE, pageable);
 
-				Duration duration = Duration.ofSeconds(topRankingInfo.getPlayTime().getSeconds());
+			TopRankingResponse response = TopRankingResponse.builder()
+				.playTimeTop10(toTopRankingInfos(top10ByPlayTime))
+				.totalTryTop10(toTopRankingInfos(top10ByTotalTry))
+				.scoreTop10(toTopRankingInfos(top10ByScore))
+				.build();
 
-				// 시간, 분, 초를 두 자리로 포맷하고 이어붙임
-				String requestTime = String.format("%02d", duration.toHours()) + ":" +
-					String.format("%02d", duration.toMinutes() % 60) + ":" +
-					String.format("%02d", duration.getSeconds() % 60);
+			log.info("랭킹 - 상위 10명 랭킹 정보 조회 완료");
+			return response;
+		} catch (Exception e) {
+			log.error("랭킹 - 상위 10명 랭킹 정보 조회 실패: error={}", e.getMessage());
+			throw new DatabaseException("상위 10명 랭킹 정보 조회 중 오류가 발생했습니다.", e);
+		}
+	}
 
-				TopRankingInfoForPlayTime topRankingInfoForPlayTime = TopRankingInfoForPlayTime.builder()
-					.playTime(requestTime)
-					.rank(topRankingInfo.getRank())
-					.username(topRankingInfo.getUsername())
-					.profileImage(topRankingInfo.getProfileImage())
-					.playTime(requestTime)
-					.totalTry(topRankingInfo.getTotalTry())
-					.score(topRankingInfo.getScore())
-					.build();
+	@Override
+	public RankingPageResponse getRankingPage(RankingMetric metric, String cursor, int size) {
+		log.info("랭킹 - 리더보드 페이지 조회 요청: metric={}, cursor={}, size={}", metric, cursor, size);
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		// 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+		Pageable pageable = PageRequest.of(0, pageSize + 1);
 
-				topRankingInfoForTotalTryList.add(topRankingInfoForPlayTime);
+		List<Ranking> rankings;
+		if (cursor == null || cursor.isBlank()) {
+			rankings = switch (metric) {
+				case PLAY_TIME -> rankingRepository.findFirstPageByPlayTime(pageable);
+				case TOTAL_TRY -> rankingRepository.findFirstPageByTotalTry(pageable);
+				case SCORE -> findRankingsByIds(rankingRepository.findFirstPageIdsByScore(pageSize + 1));
+			};
+		} else {
+			String[] parts = cursor.split("_");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
 			}
+			try {
+				Integer lastRankingId = Integer.parseInt(parts[1]);
+				rankings = switch (metric) {
+					case PLAY_TIME -> rankingRepository.findNextPageByPlayTime(
+						Duration.ofSeconds(Long.parseLong(parts[0])), lastRankingId, pageable);
+					case TOTAL_TRY -> rankingRepository.findNextPageByTotalTry(
+						Integer.parseInt(parts[0]), lastRankingId, pageable);
+					case SCORE -> findNextPageByScore(parts[0], lastRankingId, pageSize + 1);
+				};
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+			}
+		}
 
-			// 총 점수 순위
-			for (TopRankingInfo topRankingInfo : top10ByScore) {
+		boolean hasNext = rankings.size() > pageSize;
+		if (hasNext) {
+			rankings = rankings.subList(0, pageSize);
+		}
+		String nextCursor = null;
+		if (hasNext) {
+			Ranking last = rankings.get(rankings.size() - 1);
+			nextCursor = cursorValueOf(metric, last) + "_" + last.getRankingId();
+		}
 
-				Duration duration = Duration.ofSeconds(topRankingInfo.getPlayTime().getSeconds());
+		log.info("랭킹 - 리더보드 페이지 조회 완료: metric={}, count={}, hasNext={}", metric, rankings.size(), hasNext);
+		return RankingPageResponse.builder()
+			.metric(metric.getKey())
+			.rankings(toRankingInfos(metric, rankings))
+			.nextCursor(nextCursor)
+			.hasNext(hasNext)
+			.build();
+	}
 
-				// 시간, 분, 초를 두 자리로 포맷하고 이어붙임
-				String requestTime = String.format("%02d", duration.toHours()) + ":" +
-					String.format("%02d", duration.toMinutes() % 60) + ":" +
-					String.format("%02d", duration.getSeconds() % 60);
+	@Override
+	public RankingAroundResponse getRankingsAroundUser(RankingMetric metric, Integer userId, int k) {
+		log.info("랭킹 - 내 주변 랭킹 조회 요청: metric={}, userId={}, k={}", metric, userId, k);
+		if (!rankingIndex.isLoaded()) {
+			throw new ServiceException("랭킹 인덱스가 아직 적재되지 않았습니다.");
+		}
 
-				TopRankingInfoForPlayTime topRankingInfoForPlayTime = TopRankingInfoForPlayTime.builder()
-					.playTime(requestTime)
-					.rank(topRankingInfo.getRank())
-					.username(topRankingInfo.getUsername())
-					.profileImage(topRankingInfo.getProfileImage())
-					.playTime(requestTime)
-					.totalTry(topRankingInfo.getTotalTry())
-					.score(topRankingInfo.getScore())
-					.build();
+		int range = Math.max(0, Math.min(k, MAX_AROUND_RANGE));
+		List<Integer> userIds = rankingIndex.userIdsAround(metric, userId, range);
+		Map<Integer, Ranking> rankingMap = new HashMap<>();
+		for (Ranking ranking : rankingRepository.findAllWithUserByUserIdIn(userIds)) {
+			rankingMap.put(ranking.getUser().getUserId(), ranking);
+		}
 
-				topRankingInfoForScoreList.add(topRankingInfoForPlayTime);
+		// 인덱스 순서(순위 순)대로 정렬
+		List<Ranking> rankings = new ArrayList<>();
+		Integer myRank = null;
+		for (Integer id : userIds) {
+			Ranking ranking = rankingMap.get(id);
+			if (ranking == null) {
+				continue;
 			}
+			rankings.add(ranking);
+			if (id.equals(userId)) {
+				myRank = rankingIndex.rankOf(metric, metric.extract(ranking));
+			}
+		}
 
-			TopRankingResponse response = TopRankingResponse.builder()
-				.playTimeTop10(topRankingInfoForPlayTimeList)
-				.totalTryTop10(topRankingInfoForTotalTryList)
-				.scoreTop10(topRankingInfoForScoreList)
-				.build();
+		log.info("랭킹 - 내 주변 랭킹 조회 완료: metric={}, userId={}, count={}", metric, userId, rankings.size());
+		return RankingAroundResponse.builder()
+			.metric(metric.getKey())
+			.myRank(myRank)
+			.rankings(toRankingInfos(metric, rankings))
+			.build();
+	}
 
-			log.info("랭킹 - 상위 10명 랭킹 정보 조회 완료");
-			return response;
-		} catch (Exception e) {
-			log.error("랭킹 - 상위 10명 랭킹 정보 조회 실패: error={}", e.getMessage());
-			throw new DatabaseException("상위 10명 랭킹 정보 조회 중 오류가 발생했습니다.", e);
+	@Override
+	public RankingIndexVerifyResponse verifyRankingIndex(int sampleSize) {
+		log.info("랭킹 - 인덱스 정합성 검사 요청: sampleSize={}", sampleSize);
+		if (sampleSize <= 0) {
+			throw new IllegalArgumentException("sampleSize 는 1 이상이어야 합니다.");
+		}
+		sampleSize = Math.min(sampleSize, MAX_VERIFY_SAMPLE_SIZE);
+		if (!rankingIndex.isLoaded()) {
+			throw new ServiceException("랭킹 인덱스가 아직 적재되지 않았습니다.");
 		}
+
+		List<Integer> mismatchedUserIds = new ArrayList<>();
+		List<Integer> userIds = rankingIndex.sampleUserIds(sampleSize);
+		for (Integer userId : userIds) {
+			RankingInfo indexed = rankingIndex.getRankingInfo(userId);
+			RankingInfo expected = rankingRepository.findRankingByUserId(userId);
+			if (!isSameRanking(indexed, expected)) {
+				log.warn("랭킹 - 인덱스 불일치: userId={}", userId);
+				mismatchedUserIds.add(userId);
+			}
+		}
+
+		log.info("랭킹 - 인덱스 정합성 검사 완료: checked={}, mismatch={}", userIds.size(), mismatchedUserIds.size());
+		return RankingIndexVerifyResponse.builder()
+			.checkedCount(userIds.size())
+			.mismatchCount(mismatchedUserIds.size())
+			.mismatchedUserIds(mismatchedUserIds)
+			.build();
 	}
 
 	@Override
@@ -154,10 +231,14 @@ public class RankingServiceImpl implements RankingService {
 				.user(user)
 				.playTime(playtime)
 				.score(score)
+				.scoreSum((long)Math.round(score * totalTry))
 				.totalTry(totalTry)
 				.build();
 
-			return rankingRepository.save(response);
+			Ranking saved = rankingRepository.save(response);
+			eventPublisher.publishEvent(RankingUpdatedEvent.from(saved));
+			eventPublisher.publishEvent(new RankingsChangedEvent(1));
+			return saved;
 		} catch (Exception e) {
 			log.error("랭킹 생성 실패: error={}", e.getMessage());
 			throw new DatabaseException("랭킹 생성 중 오류가 발생했습니다.", e);
@@ -168,16 +249,176 @@ public class RankingServiceImpl implements RankingService {
 	public Ranking updateRankingInfo(int userId, Duration playtime, float score, int totalTry) {
 		try {
 			User user = authRepository.findByUserId(userId).orElseThrow(() -> new NotFoundException("없는 유저 id 입니다."));
-			Ranking response = rankingRepository.findById(user.getUserId())
+			Ranking response = rankingRepository.findByUser_UserId(user.getUserId())
 				.orElseThrow(() -> new NotFoundException("랭킹이 존재하지 않습니다."));
 			response.setPlayTime(playtime);
 			response.setScore(score);
+			response.setScoreSum((long)Math.round(score * totalTry));
 			response.setTotalTry(totalTry);
 
-			return rankingRepository.save(response);
+			Ranking saved = rankingRepository.save(response);
+			eventPublisher.publishEvent(RankingUpdatedEvent.from(saved));
+			eventPublisher.publishEvent(new RankingsChangedEvent(1));
+			return saved;
 		} catch (Exception e) {
 			log.error("랭킹 수정 실패: error={}", e.getMessage());
 			throw new DatabaseException("랭킹 수정 중 오류가 발생했습니다.", e);
 		}
 	}
+
+	@Override
+	@Transactional
+	public void applyRankingDeltas(Map<Integer, RankingDelta> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+		try {
+			for (Map.Entry<Integer, RankingDelta> entry : deltas.entrySet()) {
+				RankingDelta delta = entry.getValue();
+				rankingRepository.accumulate(entry.getKey(), delta.getPlayTimeSeconds(), delta.getTryCount(),
+					delta.getScoreSum());
+			}
+			// 오늘 일간 버킷에도 같은 누적분을 더함 (주간/월간은 스케줄러가 롤업)
+			rankingBucketService.applyDailyDeltas(deltas, LocalDate.now());
+			// 누적된 최종 값으로 리더보드, 인덱스 갱신 이벤트 발행 (커밋 후 반영)
+			for (Ranking ranking : rankingRepository.findAllWithUserByUserIdIn(deltas.keySet())) {
+				eventPublisher.publishEvent(RankingUpdatedEvent.from(ranking));
+			}
+			// 상위 랭킹 스냅샷은 유저 수와 관계없이 한 번만 무효화
+			eventPublisher.publishEvent(new RankingsChangedEvent(deltas.size()));
+			log.info("랭킹 - 누적 반영 완료: userCount={}", deltas.size());
+		} catch (Exception e) {
+			log.error("랭킹 누적 반영 실패: error={}", e.getMessage());
+			throw new DatabaseException("랭킹 누적 반영 중 오류가 발생했습니다.", e);
+		}
+	}
+
+	// Redis 리더보드에서 상위 유저를 뽑고 DB에서는 해당 유저들의 행만 조회
+	// Redis 장애 시에는 기존 서브쿼리 방식으로 조회
+	private List<TopRankingInfo> findTopRankings(RankingMetric metric, Pageable pageable) {
+		try {
+			List<Integer> userIds = rankingLeaderboardService.getTopUserIds(metric, TOP_RANKING_SIZE);
+			Map<Integer, Ranking> rankingMap = new HashMap<>();
+			for (Ranking ranking : rankingRepository.findAllWithUserByUserIdIn(userIds)) {
+				rankingMap.put(ranking.getUser().getUserId(), ranking);
+			}
+
+			List<TopRankingInfo> result = new ArrayList<>();
+			int rank = 0;
+			double previousValue = 0;
+			for (int i = 0; i < userIds.size(); i++) {
+				Ranking ranking = rankingMap.get(userIds.get(i));
+				if (ranking == null) {
+					continue;
+				}
+				// 동점자는 같은 순위 (기존 COUNT(r2) + 1 과 같은 기준)
+				double value = metric.extract(ranking);
+				if (result.isEmpty() || value != previousValue) {
+					rank = i + 1;
+				}
+				previousValue = value;
+
+				result.add(new TopRankingInfo(rank, ranking.getUser().getUsername(),
+					ranking.getUser().getProfileImage(), ranking.getPlayTime(), ranking.getTotalTry(),
+					ranking.getScore()));
+			}
+			return result;
+		} catch (Exception e) {
+			log.warn("랭킹 - 리더보드 조회 실패, DB 조회로 대체: metric={}, error={}", metric, e.getMessage());
+			return switch (metric) {
+				case PLAY_TIME -> rankingRepository.findTop10ByPlayTime(pageable);
+				case TOTAL_TRY -> rankingRepository.findTop10ByTotalTry(pageable);
+				case SCORE -> rankingRepository.findTop10ByScore(pageable);
+			};
+		}
+	}
+
+	// 상위 랭킹을 응답 형태로 변환 (플레이 시간은 00:00:00 문자열)
+	// 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+	static List<TopRankingInfoForPlayTime> toTopRankingInfos(List<TopRankingInfo> topRankingInfos) {
+		List<TopRankingInfoForPlayTime> result = new ArrayList<>(topRankingInfos.size());
+		for (TopRankingInfo topRankingInfo : topRankingInfos) {
+			result.add(TopRankingInfoForPlayTime.builder()
+				.rank(topRankingInfo.getRank())
+				.username(topRankingInfo.getUsername())
+				.profileImage(topRankingInfo.getProfileImage())
+				.playTime(DurationFormatter.format(topRankingInfo.getPlayTime()))
+				.totalTry(topRankingInfo.getTotalTry())
+				.score(topRankingInfo.getScore())
+				.build());
+		}
+		return result;
+	}
+
+	// 랭킹 엔티티를 응답 형태로 변환, 순위는 메모리 인덱스에서 계산 (인덱스 적재 전이면 null)
+	private List<TopRankingInfoForPlayTime> toRankingInfos(RankingMetric metric, List<Ranking> rankings) {
+		boolean indexLoaded = rankingIndex.isLoaded();
+		List<TopRankingInfoForPlayTime> result = new ArrayList<>(rankings.size());
+		for (Ranking ranking : rankings) {
+			result.add(TopRankingInfoForPlayTime.builder()
+				.rank(indexLoaded ? rankingIndex.rankOf(metric, metric.extract(ranking)) : null)
+				.username(ranking.getUser().getUsername())
+				.profileImage(ranking.getUser().getProfileImage())
+				.playTime(DurationFormatter.format(ranking.getPlayTime()))
+				.totalTry(ranking.getTotalTry())
+				.score(ranking.getScore())
+				.build());
+		}
+		return result;
+	}
+
+	// 평균 점수 커서는 FLOAT 평균 대신 정확한 합계/횟수 ("scoreSum/totalTry")
+	private String cursorValueOf(RankingMetric metric, Ranking ranking) {
+		return switch (metric) {
+			case PLAY_TIME -> String.valueOf(ranking.getPlayTime().getSeconds());
+			case TOTAL_TRY -> String.valueOf(ranking.getTotalTry());
+			case SCORE -> exactScoreSumOf(ranking) + "/" + ranking.getTotalTry();
+		};
+	}
+
+	// score_sum 이 없는 기존 행은 RankingRepository.EXACT_SCORE_SUM 과 같은 식으로 합계를 복원
+	// (FLOAT 을 double 로 올려 곱한 뒤 0.5 를 더해 내림, MySQL 과 같은 IEEE 연산)
+	private long exactScoreSumOf(Ranking ranking) {
+		if (ranking.getScoreSum() != null) {
+			return ranking.getScoreSum();
+		}
+		return (long)Math.floor((double)ranking.getScore() * ranking.getTotalTry() + 0.5);
+	}
+
+	private List<Ranking> findNextPageByScore(String cursorValue, Integer lastRankingId, int limit) {
+		String[] values = cursorValue.split("/");
+		if (values.length != 2) {
+			throw new NumberFormatException("점수 커서 형식 오류: " + cursorValue);
+		}
+		return findRankingsByIds(rankingRepository.findNextPageIdsByScore(Long.parseLong(values[0]),
+			Integer.parseInt(values[1]), lastRankingId, limit));
+	}
+
+	// ID 순서(정렬 결과)를 유지한 채 유저와 함께 조회
+	private List<Ranking> findRankingsByIds(List<Integer> rankingIds) {
+		if (rankingIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Map<Integer, Ranking> rankingMap = new HashMap<>();
+		for (Ranking ranking : rankingRepository.findAllWithUserByRankingIdIn(rankingIds)) {
+			rankingMap.put(ranking.getRankingId(), ranking);
+		}
+		List<Ranking> result = new ArrayList<>(rankingIds.size());
+		for (Integer rankingId : rankingIds) {
+			Ranking ranking = rankingMap.get(rankingId);
+			if (ranking != null) {
+				result.add(ranking);
+			}
+		}
+		return result;
+	}
+
+	private boolean isSameRanking(RankingInfo indexed, RankingInfo expected) {
+		if (indexed == null || expected == null) {
+			return indexed == expected;
+		}
+		return Objects.equals(indexed.getPlayTimeRank(), expected.getPlayTimeRank())
+			&& Objects.equals(indexed.getTotalTryRank(), expected.getTotalTryRank())
+			&& Objects.equals(indexed.getScoreRank(), expected.getScoreRank());
+	}
 }
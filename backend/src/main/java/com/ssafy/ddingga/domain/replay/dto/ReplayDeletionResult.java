@@ -0,0 +1,14 @@
+package com.ssafy.ddingga.domain.replay.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리플레이 일괄 삭제로 실제 삭제 대기열에 넘어간 영상 (다른 곳에서 참조 중인 영상은 빠짐)
+ */
+@Getter
+@AllArgsConstructor
+public class ReplayDeletionResult {
+	private long releasedFiles;
+	private long releasedBytes;     // 인덱스에 크기가 기록된 영상만 합산
+}
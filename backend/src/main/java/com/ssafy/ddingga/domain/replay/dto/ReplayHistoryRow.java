@@ -0,0 +1,20 @@
+package com.ssafy.ddingga.domain.replay.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리플레이 기록 조회용 프로젝션 (곡은 ID만, 엔티티를 만들지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class ReplayHistoryRow {
+	private Integer replayId;
+	private Integer songId;
+	private Integer score;
+	private String mode;
+	private String videoPath;
+	private LocalDateTime practiceDate;
+}
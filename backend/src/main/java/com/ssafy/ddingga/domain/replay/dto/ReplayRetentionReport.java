@@ -0,0 +1,29 @@
+package com.ssafy.ddingga.domain.replay.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 리플레이 보관 정책 적용 결과
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class ReplayRetentionReport {
+	private boolean dryRun;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private long scannedUsers;       // 확인한 유저 수
+	private long expiredReplays;     // 보관 기간이 지난 리플레이 수
+	private long deletedReplays;     // 실제로 삭제한 리플레이 수 (dry-run 이면 0)
+	private long releasedFiles;      // 삭제 대기열로 넘긴 영상 수 (다른 곳에서 참조 중인 영상은 빠짐)
+	private long releasedBytes;      // 넘긴 영상의 크기 합 (파일 인덱스에 크기가 있는 영상만)
+	private long tieringPendingObjects;  // 수명 주기 규칙이 옮길, 아직 STANDARD 인 영상 수
+	private long tieringPendingBytes;
+	private long failedBatches;
+}
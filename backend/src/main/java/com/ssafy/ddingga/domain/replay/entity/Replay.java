@@ -10,8 +10,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +22,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = {
+	// 같은 영상으로 리플레이가 두 번 등록되지 않도록 (presigned 업로드 확인 요청 동시 처리 대비)
+	@UniqueConstraint(name = "uk_replay_video_path", columnNames = "video_path")
+}, indexes = {
+	// 이주의 곡 랭킹 집계용 (곡, 기간 범위)
+	@Index(name = "idx_replay_song_practice_date", columnList = "song_id, practice_date"),
+	// 유저별 리플레이 기록 페이지 조회용 (InnoDB 보조 인덱스에 PK 가 붙으므로 replay_id 까지 정렬됨)
+	@Index(name = "idx_replay_user_practice_date", columnList = "user_id, practice_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
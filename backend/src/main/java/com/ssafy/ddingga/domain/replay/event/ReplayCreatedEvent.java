@@ -0,0 +1,20 @@
+package com.ssafy.ddingga.domain.replay.event;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리플레이가 저장된 뒤 발행되는 이벤트 (랭킹 누적, 이주의 곡 실시간 랭킹 갱신용)
+ */
+@Getter
+@AllArgsConstructor
+public class ReplayCreatedEvent {
+	private Integer userId;
+	private String username;
+	private Integer songId;
+	private Integer score;
+	private LocalDateTime practiceDate;
+	private long playTimeSeconds;
+}
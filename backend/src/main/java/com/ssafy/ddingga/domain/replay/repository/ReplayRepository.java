@@ -1,14 +1,24 @@
 package com.ssafy.ddingga.domain.replay.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.ssafy.ddingga.domain.replay.dto.ReplayHistoryRow;
 import com.ssafy.ddingga.domain.replay.entity.Replay;
+import com.ssafy.ddingga.domain.weeksong.dto.WeekSongScore;
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongUserInfo;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ReplayRepository extends JpaRepository<Replay, Integer> {
@@ -20,12 +30,90 @@ public interface ReplayRepository extends JpaRepository<Replay, Integer> {
 		@Param("weekEnd") LocalDateTime weekEnd
 	);
 
-	// 최근 1주일간의 리플레이 조회
-	@Query("SELECT r FROM Replay r WHERE r.practiceDate >= :weekStart AND r.practiceDate <= :weekEnd ORDER BY r.practiceDate DESC")
-	List<Replay> findThisWeekReplay(
-		@Param("weekStart") LocalDateTime weekStart,
-		@Param("weekEnd") LocalDateTime weekEnd
+	// 곡의 기간 내 유저별 최고 점수, 점수 내림차순 (idx_replay_song_practice_date 사용)
+	@Query("SELECT new com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongUserInfo(u.username, MAX(r.score)) "
+		+ "FROM Replay r JOIN r.user u "
+		+ "WHERE r.song.songId = :songId AND r.practiceDate >= :start AND r.practiceDate <= :end "
+		+ "GROUP BY u.userId, u.username "
+		+ "ORDER BY MAX(r.score) DESC, u.userId ASC")
+	List<WeekSongUserInfo> findTopScoresBySong(
+		@Param("songId") Integer songId,
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end,
+		Pageable pageable
+	);
+
+	// 곡의 기간 내 유저별 최고 점수 전체 (이주의 곡 실시간 랭킹 적재용)
+	@Query("SELECT new com.ssafy.ddingga.domain.weeksong.dto.WeekSongScore(u.userId, u.username, MAX(r.score)) "
+		+ "FROM Replay r JOIN r.user u "
+		+ "WHERE r.song.songId = :songId AND r.practiceDate >= :start AND r.practiceDate <= :end "
+		+ "GROUP BY u.userId, u.username")
+	List<WeekSongScore> findBestScoresBySong(
+		@Param("songId") Integer songId,
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end
 	);
 
 	List<Replay> findReplaysByUser_UserId(Integer userId);
+
+	// 유저의 리플레이 기록 최신순 (첫 페이지, idx_replay_user_practice_date 사용)
+	@Query("SELECT new com.ssafy.ddingga.domain.replay.dto.ReplayHistoryRow("
+		+ "r.replayId, r.song.songId, r.score, r.mode, r.videoPath, r.practiceDate) "
+		+ "FROM Replay r WHERE r.user.userId = :userId "
+		+ "ORDER BY r.practiceDate DESC, r.replayId DESC")
+	List<ReplayHistoryRow> findHistoryFirstPage(@Param("userId") Integer userId, Pageable pageable);
+
+	// 커서(마지막으로 받은 연습 시각, 리플레이 ID) 이후부터, 같은 시각이면 ID 로 구분
+	@Query("SELECT new com.ssafy.ddingga.domain.replay.dto.ReplayHistoryRow("
+		+ "r.replayId, r.song.songId, r.score, r.mode, r.videoPath, r.practiceDate) "
+		+ "FROM Replay r WHERE r.user.userId = :userId "
+		+ "AND (r.practiceDate < :lastPracticeDate "
+		+ "OR (r.practiceDate = :lastPracticeDate AND r.replayId < :lastReplayId)) "
+		+ "ORDER BY r.practiceDate DESC, r.replayId DESC")
+	List<ReplayHistoryRow> findHistoryNextPage(
+		@Param("userId") Integer userId,
+		@Param("lastPracticeDate") LocalDateTime lastPracticeDate,
+		@Param("lastReplayId") Integer lastReplayId,
+		Pageable pageable
+	);
+
+	boolean existsByVideoPath(String videoPath);
+
+	// 저장소 정리용 전체 영상 URL (MySQL 스트리밍 조회, 트랜잭션 안에서 사용)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+	@Query("SELECT r.videoPath FROM Replay r WHERE r.videoPath IS NOT NULL")
+	Stream<String> streamAllVideoPaths();
+
+	@Query("SELECT r.videoPath FROM Replay r WHERE r.videoPath IN :videoPaths")
+	List<String> findVideoPathsIn(@Param("videoPaths") Collection<String> videoPaths);
+
+	// 주어진 영상 경로 중 해당 유저의 리플레이가 가리키는 것
+	@Query("SELECT r.videoPath FROM Replay r WHERE r.user.userId = :userId AND r.videoPath IN :videoPaths")
+	List<String> findVideoPathsByUserIdAndVideoPathIn(@Param("userId") Integer userId,
+		@Param("videoPaths") Collection<String> videoPaths);
+
+	// 리플레이가 있는 유저 ID 를 오름차순으로 (보관 정책 적용용, idx_replay_user_practice_date 사용)
+	@Query(value = "SELECT DISTINCT r.user_id FROM replay r WHERE r.user_id > :afterUserId "
+		+ "ORDER BY r.user_id LIMIT :limit", nativeQuery = true)
+	List<Integer> findUserIdsAfter(@Param("afterUserId") Integer afterUserId, @Param("limit") int limit);
+
+	// 보관 기간이 지난 리플레이 ID (곡별 최근 keepRecent 개와 최고 점수 1개는 제외), replay_id 오름차순
+	@Query(value = "SELECT t.replay_id FROM ("
+		+ "SELECT r.replay_id, r.practice_date, "
+		+ "ROW_NUMBER() OVER (PARTITION BY r.song_id ORDER BY r.practice_date DESC, r.replay_id DESC) AS recent_rank, "
+		+ "ROW_NUMBER() OVER (PARTITION BY r.song_id ORDER BY r.score DESC, r.practice_date DESC, r.replay_id DESC) AS best_rank "
+		+ "FROM replay r WHERE r.user_id = :userId) t "
+		+ "WHERE t.recent_rank > :keepRecent AND t.best_rank > 1 AND t.practice_date < :cutoff "
+		+ "AND t.replay_id > :afterReplayId "
+		+ "ORDER BY t.replay_id LIMIT :limit", nativeQuery = true)
+	List<Integer> findExpiredReplayIds(
+		@Param("userId") Integer userId,
+		@Param("keepRecent") int keepRecent,
+		@Param("cutoff") LocalDateTime cutoff,
+		@Param("afterReplayId") Integer afterReplayId,
+		@Param("limit") int limit
+	);
+
+	@Query("SELECT r.videoPath FROM Replay r WHERE r.replayId IN :replayIds AND r.videoPath IS NOT NULL")
+	List<String> findVideoPathsByReplayIdIn(@Param("replayIds") Collection<Integer> replayIds);
 }
@@ -0,0 +1,211 @@
+package com.ssafy.ddingga.domain.replay.retention;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ssafy.ddingga.domain.replay.dto.ReplayDeletionResult;
+import com.ssafy.ddingga.domain.replay.dto.ReplayRetentionReport;
+import com.ssafy.ddingga.domain.replay.repository.ReplayRepository;
+import com.ssafy.ddingga.domain.replay.service.ReplayRetentionService;
+import com.ssafy.ddingga.global.service.RedisLockService;
+import com.ssafy.ddingga.global.service.S3Service;
+import com.ssafy.ddingga.global.service.StorageService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.StorageClass;
+import software.amazon.awssdk.services.s3.model.TransitionStorageClass;
+
+/**
+ * 리플레이 보관 정책
+ * 유저, 곡별로 최근 keep-recent 개와 최고 점수 리플레이만 남기고, min-age-days 가 지난 나머지는 삭제함
+ * 유저 단위로 batch-size 개씩 짧은 트랜잭션으로 지우고, 영상은 삭제 대기열로 넘겨 FileDeletionWorker 가 모아서 지움
+ * tiering 을 켜면 영상 접두사에 S3 수명 주기 규칙을 등록해서 오래된 영상을 저렴한 스토리지 클래스로 옮김 (storage.type=s3 일 때만)
+ * 객체를 복사하지 않고 S3 가 옮기므로 ETag, Last-Modified 가 바뀌지 않고 요청 비용도 들지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplayRetentionJob {
+	private static final String LOCK_KEY = "replay:retention:lock";
+	private static final String TIERING_RULE_ID = "replay-retention-tiering";
+	private static final String VIDEO_PREFIX = "replays/";
+	private static final int USER_PAGE_SIZE = 500;
+	private static final long MIN_TIERING_SIZE = 128 * 1024;    // STANDARD_IA 최소 과금 크기
+
+	private final ReplayRepository replayRepository;
+	private final ReplayRetentionService replayRetentionService;
+	private final StorageService storageService;
+	private final S3Service s3Service;
+	private final RedisLockService redisLockService;
+
+	@Value("${replay.retention.enabled:true}")
+	private boolean enabled;
+
+	@Value("${replay.retention.dry-run:true}")
+	private boolean dryRun;
+
+	@Value("${replay.retention.keep-recent:10}")
+	private int keepRecent;
+
+	@Value("${replay.retention.min-age-days:30}")
+	private long minAgeDays;
+
+	@Value("${replay.retention.batch-size:200}")
+	private int batchSize;
+
+	@Value("${storage.type:s3}")
+	private String storageType;
+
+	@Value("${replay.retention.tiering.enabled:false}")
+	private boolean tieringEnabled;
+
+	@Value("${replay.retention.tiering.after-days:30}")
+	private int tieringAfterDays;
+
+	@Value("${replay.retention.tiering.storage-class:STANDARD_IA}")
+	private String tieringStorageClass;
+
+	private volatile ReplayRetentionReport lastReport;
+
+	@Scheduled(cron = "${replay.retention.cron:0 0 5 * * *}")
+	public void scheduledRun() {
+		if (!enabled) {
+			return;
+		}
+		// 여러 서버 중 한 곳에서만 실행 (잠금이 만료된 뒤 다른 서버가 잡은 잠금은 풀지 않음)
+		String lockToken = redisLockService.tryLock(LOCK_KEY, Duration.ofHours(2));
+		if (lockToken == null) {
+			log.info("리플레이 보관 정책 - 다른 서버에서 실행 중이라 건너뜀");
+			return;
+		}
+		try {
+			run(dryRun);
+		} catch (Exception e) {
+			log.error("리플레이 보관 정책 실행 실패: error={}", e.getMessage());
+		} finally {
+			redisLockService.unlock(LOCK_KEY, lockToken);
+		}
+	}
+
+	public ReplayRetentionReport run(boolean dryRun) {
+		LocalDateTime startedAt = LocalDateTime.now();
+		LocalDateTime cutoff = startedAt.minusDays(minAgeDays);
+
+		long scannedUsers = 0;
+		long expired = 0;
+		long deleted = 0;
+		long releasedFiles = 0;
+		long releasedBytes = 0;
+		long failedBatches = 0;
+
+		// 유저 ID 순서로 페이지를 넘기며 유저마다 보관 기간이 지난 리플레이를 batch-size 개씩 처리
+		Integer afterUserId = 0;
+		while (true) {
+			List<Integer> userIds = replayRepository.findUserIdsAfter(afterUserId, USER_PAGE_SIZE);
+			for (Integer userId : userIds) {
+				scannedUsers++;
+				Integer afterReplayId = 0;
+				while (true) {
+					List<Integer> replayIds = replayRepository.findExpiredReplayIds(userId, keepRecent, cutoff,
+						afterReplayId, batchSize);
+					if (replayIds.isEmpty()) {
+						break;
+					}
+					expired += replayIds.size();
+					afterReplayId = replayIds.get(replayIds.size() - 1);
+
+					if (!dryRun) {
+						// 같은 영상을 여러 리플레이가 참조할 수 있으므로 키는 리플레이마다 하나씩 해제
+						List<String> fileKeys = fileKeysOf(replayIds);
+						try {
+							ReplayDeletionResult result = replayRetentionService.deleteReplays(replayIds, fileKeys);
+							deleted += replayIds.size();
+							releasedFiles += result.getReleasedFiles();
+							releasedBytes += result.getReleasedBytes();
+						} catch (Exception e) {
+							failedBatches++;
+							log.error("리플레이 보관 정책 - 삭제 실패: userId={}, replayCount={}, error={}", userId,
+								replayIds.size(), e.getMessage());
+							break;
+						}
+					}
+					if (replayIds.size() < batchSize) {
+						break;
+					}
+				}
+			}
+			if (userIds.size() < USER_PAGE_SIZE) {
+				break;
+			}
+			afterUserId = userIds.get(userIds.size() - 1);
+		}
+
+		long[] pendingTiering = tieringEnabled && "s3".equals(storageType) ? tier(dryRun) : new long[] {0, 0};
+
+		ReplayRetentionReport report = ReplayRetentionReport.builder()
+			.dryRun(dryRun)
+			.startedAt(startedAt)
+			.finishedAt(LocalDateTime.now())
+			.scannedUsers(scannedUsers)
+			.expiredReplays(expired)
+			.deletedReplays(deleted)
+			.releasedFiles(releasedFiles)
+			.releasedBytes(releasedBytes)
+			.tieringPendingObjects(pendingTiering[0])
+			.tieringPendingBytes(pendingTiering[1])
+			.failedBatches(failedBatches)
+			.build();
+		lastReport = report;
+		log.info("리플레이 보관 정책 완료: {}", report);
+		return report;
+	}
+
+	public ReplayRetentionReport getLastReport() {
+		return lastReport;
+	}
+
+	private List<String> fileKeysOf(List<Integer> replayIds) {
+		List<String> fileKeys = new ArrayList<>(replayIds.size());
+		for (String videoPath : replayRepository.findVideoPathsByReplayIdIn(replayIds)) {
+			String fileKey = storageService.extractFileKey(videoPath);
+			if (fileKey != null) {
+				fileKeys.add(fileKey);
+			}
+		}
+		return fileKeys;
+	}
+
+	// 수명 주기 규칙을 등록하고 (dry-run 이면 건너뜀), 규칙이 옮길 아직 STANDARD 인 영상을 셈, {영상 수, 크기 합}
+	// 목록 조회 결과에 크기와 스토리지 클래스가 있으므로 영상마다 따로 조회하지 않음
+	private long[] tier(boolean dryRun) {
+		if (!dryRun) {
+			boolean changed = s3Service.ensureTransitionRule(TIERING_RULE_ID, VIDEO_PREFIX, tieringAfterDays,
+				TransitionStorageClass.fromValue(tieringStorageClass), MIN_TIERING_SIZE);
+			if (changed) {
+				log.info("리플레이 보관 정책 - 수명 주기 규칙 등록: prefix={}, afterDays={}, storageClass={}", VIDEO_PREFIX,
+					tieringAfterDays, tieringStorageClass);
+			}
+		}
+
+		Instant cutoff = Instant.now().minus(Duration.ofDays(tieringAfterDays));
+		long count = 0;
+		long bytes = 0;
+		for (S3Object object : s3Service.listFiles(VIDEO_PREFIX)) {
+			if (StorageClass.STANDARD.toString().equals(object.storageClassAsString())
+				&& !object.lastModified().isAfter(cutoff) && object.size() > MIN_TIERING_SIZE) {
+				count++;
+				bytes += object.size();
+			}
+		}
+		return new long[] {count, bytes};
+	}
+}
@@ -0,0 +1,10 @@
+package com.ssafy.ddingga.domain.replay.service;
+
+import java.util.List;
+
+import com.ssafy.ddingga.domain.replay.dto.ReplayDeletionResult;
+
+public interface ReplayRetentionService {
+	// 리플레이와 영상 참조를 한 트랜잭션에서 삭제 (영상 실제 삭제는 삭제 대기열에서 처리)
+	ReplayDeletionResult deleteReplays(List<Integer> replayIds, List<String> fileKeys);
+}
@@ -0,0 +1,47 @@
+package com.ssafy.ddingga.domain.replay.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ssafy.ddingga.domain.file.service.FileContentService;
+import com.ssafy.ddingga.domain.file.service.FileDeletionService;
+import com.ssafy.ddingga.domain.replay.dto.ReplayDeletionResult;
+import com.ssafy.ddingga.domain.replay.repository.ReplayRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReplayRetentionServiceImpl implements ReplayRetentionService {
+	private final ReplayRepository replayRepository;
+	private final FileContentService fileContentService;
+	private final FileDeletionService fileDeletionService;
+
+	// 리포트에 실제로 지워질 영상만 세도록 StorageService.delete 대신 참조 해제 결과를 직접 확인
+	// 크기는 파일 인덱스에서 한 번에 조회해서 파일마다 저장소에 HEAD 요청을 보내지 않음
+	@Override
+	@Transactional
+	public ReplayDeletionResult deleteReplays(List<Integer> replayIds, List<String> fileKeys) {
+		replayRepository.deleteAllByIdInBatch(replayIds);
+
+		// 참조 해제와 삭제 예약만 DB 에 기록하므로 저장소 호출 없이 트랜잭션이 끝남
+		Map<String, Long> sizes = fileContentService.findSizes(fileKeys);
+		long releasedFiles = 0;
+		long releasedBytes = 0;
+		for (String fileKey : fileKeys) {
+			if (fileContentService.release(fileKey)) {
+				fileDeletionService.enqueue(fileKey);
+				releasedFiles++;
+				releasedBytes += sizes.getOrDefault(fileKey, 0L);
+			}
+		}
+		log.info("리플레이 보관 정책 - 삭제: replayCount={}, fileCount={}, releasedFiles={}", replayIds.size(),
+			fileKeys.size(), releasedFiles);
+		return new ReplayDeletionResult(releasedFiles, releasedBytes);
+	}
+}
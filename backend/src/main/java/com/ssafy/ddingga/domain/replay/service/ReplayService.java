@@ -1,23 +1,42 @@
 package com.ssafy.ddingga.domain.replay.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import com.ssafy.ddingga.domain.file.dto.response.PresignedUrlResponseDto;
 import com.ssafy.ddingga.domain.replay.entity.Replay;
+import com.ssafy.ddingga.facade.replay.dto.request.ReplayConfirmRequestDto;
 import com.ssafy.ddingga.facade.replay.dto.request.ReplayCreateRequestDto;
 import com.ssafy.ddingga.facade.replay.dto.response.ReplayDto;
+import com.ssafy.ddingga.facade.replay.dto.response.ReplayHistoryPageResponse;
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongUserInfo;
 
 public interface ReplayService {
 	// 특정 유저 이번주 리플레이 조회
 	List<ReplayDto> getLastWeekReplays(Integer userId);
 
-	// 이번주 리플레이 조회
-	List<Replay> getLastWeekReplays();
+	// 곡의 기간 내 유저별 최고 점수 상위 limit 명 조회
+	List<WeekSongUserInfo> getTopScoresBySong(Integer songId, LocalDateTime start, LocalDateTime end, int limit);
 
 	// 유저의 리플레이 전체 조회
 	List<ReplayDto> getAllReplays(Integer userId);
 
-	// 리플레이 생성
-	Replay createReplay(Integer userId, ReplayCreateRequestDto replayCreateRequestDto);
+	// 유저의 리플레이 기록 페이지 조회 (연습 시각, 리플레이 ID 커서)
+	ReplayHistoryPageResponse getReplayHistory(Integer userId, LocalDateTime cursorDate, Integer cursorId, int size);
+
+	// 리플레이 생성 (영상 업로드가 끝나면 완료), contentHash 는 영상 내용의 SHA-256
+	CompletableFuture<Replay> createReplay(Integer userId, ReplayCreateRequestDto replayCreateRequestDto,
+		String contentHash);
+
+	// 영상 직접 업로드용 presigned PUT URL 발급
+	PresignedUrlResponseDto createUploadSlot(Integer userId, String contentType, Long contentLength);
+
+	// 본인 리플레이 영상의 저장소 파일 키
+	String getReplayVideoKey(Integer replayId, Integer userId);
+
+	// 직접 업로드가 끝난 영상을 확인하고 리플레이 생성
+	Replay confirmReplay(Integer userId, ReplayConfirmRequestDto requestDto);
 
 	//리플레이 삭제
 	void deleteReplay(Integer replayId, Integer userId);
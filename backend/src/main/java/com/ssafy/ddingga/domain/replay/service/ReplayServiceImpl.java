@@ -1,37 +1,55 @@
 package com.ssafy.ddingga.domain.replay.service;
 
-import java.io.IOException;
-import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.github.dockerjava.api.exception.UnauthorizedException;
 import com.ssafy.ddingga.domain.auth.entity.User;
 import com.ssafy.ddingga.domain.auth.repository.AuthRepository;
-import com.ssafy.ddingga.domain.rank.entity.Ranking;
-import com.ssafy.ddingga.domain.rank.repository.RankingRepository;
-import com.ssafy.ddingga.domain.rank.service.RankingService;
+import com.ssafy.ddingga.domain.file.dto.response.PresignedUrlResponseDto;
+import com.ssafy.ddingga.domain.file.service.FileDeletionService;
+import com.ssafy.ddingga.domain.replay.dto.ReplayHistoryRow;
 import com.ssafy.ddingga.domain.replay.entity.Replay;
+import com.ssafy.ddingga.domain.replay.event.ReplayCreatedEvent;
 import com.ssafy.ddingga.domain.replay.repository.ReplayRepository;
 import com.ssafy.ddingga.domain.song.entity.Song;
 import com.ssafy.ddingga.domain.song.repository.SongRepository;
+import com.ssafy.ddingga.domain.song.service.SongService;
+import com.ssafy.ddingga.facade.replay.dto.request.ReplayConfirmRequestDto;
 import com.ssafy.ddingga.facade.replay.dto.request.ReplayCreateRequestDto;
 import com.ssafy.ddingga.facade.replay.dto.response.ReplayDto;
-import com.ssafy.ddingga.global.error.exception.FileUploadException;
+import com.ssafy.ddingga.facade.replay.dto.response.ReplayHistoryDto;
+import com.ssafy.ddingga.facade.replay.dto.response.ReplayHistoryPageResponse;
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongUserInfo;
+import com.ssafy.ddingga.global.error.exception.DuplicateException;
+import com.ssafy.ddingga.global.error.exception.NotFoundException;
 import com.ssafy.ddingga.global.error.exception.ReplayNotFoundException;
 import com.ssafy.ddingga.global.error.exception.ServiceException;
 import com.ssafy.ddingga.global.error.exception.SongNotFoundException;
 import com.ssafy.ddingga.global.error.exception.UserNotFoundException;
 import com.ssafy.ddingga.global.service.S3Service;
+import com.ssafy.ddingga.global.service.StorageService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 @Slf4j
 @Service
@@ -41,10 +59,19 @@ public class ReplayServiceImpl implements ReplayService {
 	private final ReplayRepository replayRepository;
 	private final AuthRepository authRepository;
 	private final SongRepository songRepository;
-	private final RankingRepository rankingRepository;
-	private final RankingService rankingService;
+	private final ApplicationEventPublisher eventPublisher;
 	private final S3Service service;
 	private final S3Service s3Service;
+	private final StorageService storageService;
+	private final SongService songService;
+	private final FileDeletionService fileDeletionService;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolTaskExecutor applicationTaskExecutor;  // 스프링 부트 기본 작업 실행기 (spring.task.execution)
+
+	private static final int MAX_HISTORY_PAGE_SIZE = 50;
+
+	@Value("${replay.upload.max-size-bytes:104857600}")
+	private long maxUploadSize;
 
 	@Override
 	public List<ReplayDto> getLastWeekReplays(Integer userId) {
@@ -128,26 +155,18 @@ public class ReplayServiceImpl implements ReplayService {
 	// }
 
 	@Override
-	public List<Replay> getLastWeekReplays() {
-		LocalDateTime now = LocalDateTime.now();
-
-		// 이번 주 월요일 00:00:00 시간 계산
-		// previousOrSame: 현재 날짜로부터 가장 가까운 월요일(당일 포함)을 찾음
-		LocalDateTime weekStart = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
-			.withHour(0)
-			.withMinute(0)
-			.withSecond(0);
-		LocalDateTime weekEnd = weekStart.plusWeeks(1);
-		log.debug("리플레이 - 조회 기간 설정: start={}, end={}", weekStart, weekEnd);
-
+	public List<WeekSongUserInfo> getTopScoresBySong(Integer songId, LocalDateTime start, LocalDateTime end,
+		int limit) {
+		log.info("리플레이 - 곡별 최고 점수 랭킹 조회 요청: songId={}, start={}, end={}", songId, start, end);
 		try {
-			log.info("이번 주의 재생 기록을 조회합니다.");
-			List<Replay> replays = replayRepository.findThisWeekReplay(weekStart, weekEnd);
-			log.info("이번 주의 재생 기록 {}개 조회됨", replays.size());
-			return replays;
+			// 유저별 MAX(score) 를 DB에서 집계하고 상위 limit 개만 가져옴
+			List<WeekSongUserInfo> result = replayRepository.findTopScoresBySong(songId, start, end,
+				PageRequest.of(0, limit));
+			log.info("리플레이 - 곡별 최고 점수 랭킹 조회 완료: songId={}, count={}", songId, result.size());
+			return result;
 		} catch (Exception e) {
-			log.error("이번 주의 재생 기록 조회 중 예외 발생: ", e);
-			return new ArrayList<>();
+			log.error("리플레이 - 곡별 최고 점수 랭킹 조회 실패: songId={}, error={}", songId, e.getMessage());
+			throw new ServiceException("곡별 랭킹 조회 중 오류가 발생했습니다.", e);
 		}
 	}
 
@@ -183,65 +202,229 @@ public class ReplayServiceImpl implements ReplayService {
 	}
 
 	@Override
-	public Replay createReplay(Integer userId, ReplayCreateRequestDto requestDto) {
+	@Transactional(readOnly = true)
+	public ReplayHistoryPageResponse getReplayHistory(Integer userId, LocalDateTime cursorDate, Integer cursorId,
+		int size) {
+		if ((cursorDate == null) != (cursorId == null)) {
+			throw new IllegalArgumentException("cursorDate 와 cursorId 는 함께 전달해야 합니다.");
+		}
+		int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+		// 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+		PageRequest pageable = PageRequest.of(0, pageSize + 1);
+
+		List<ReplayHistoryRow> rows = cursorDate == null
+			? replayRepository.findHistoryFirstPage(userId, pageable)
+			: replayRepository.findHistoryNextPage(userId, cursorDate, cursorId, pageable);
+
+		boolean hasNext = rows.size() > pageSize;
+		if (hasNext) {
+			rows = rows.subList(0, pageSize);
+		}
+
+		// 페이지에 나온 곡만 공용 조회로 제목을 붙임
+		Set<Integer> songIds = new HashSet<>();
+		for (ReplayHistoryRow row : rows) {
+			songIds.add(row.getSongId());
+		}
+		Map<Integer, String> songTitles = songService.getSongTitles(songIds);
+
+		List<ReplayHistoryDto> replays = new ArrayList<>(rows.size());
+		for (ReplayHistoryRow row : rows) {
+			replays.add(ReplayHistoryDto.builder()
+				.replayId(row.getReplayId())
+				.songId(row.getSongId())
+				.songTitle(songTitles.get(row.getSongId()))
+				.score(row.getScore())
+				.mode(row.getMode())
+				.videoPath(row.getVideoPath())
+				.practiceDate(row.getPracticeDate())
+				.build());
+		}
+		log.info("리플레이 - 기록 페이지 조회: userId={}, cursorDate={}, cursorId={}, count={}", userId, cursorDate,
+			cursorId, replays.size());
+
+		ReplayHistoryRow last = hasNext ? rows.get(rows.size() - 1) : null;
+		return ReplayHistoryPageResponse.builder()
+			.replays(replays)
+			.nextCursorDate(last != null ? last.getPracticeDate() : null)
+			.nextCursorId(last != null ? last.getReplayId() : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	@Override
+	public CompletableFuture<Replay> createReplay(Integer userId, ReplayCreateRequestDto requestDto,
+		String contentHash) {
 		// 1. 사용자와 곡 정보 조회
+		User user = findUser(userId);
+		Song song = findSong(requestDto.getSongId());
+
+		// 2. S3에 비디오 파일 비동기 업로드 후 3. 리플레이 저장 및 랭킹 반영
+		// 업로드 완료 콜백은 S3 클라이언트 스레드에서 실행되므로 DB 작업은 애플리케이션 실행기로 넘김
+		// 영상 SHA-256 은 퍼사드에서 한 번만 계산해서 넘겨받음 (중복 제거 키로 그대로 사용)
+		return storageService.uploadAsync(requestDto.getVideoFile(), "replays", contentHash)
+			.thenApplyAsync(videoUrl -> {
+				try {
+					return registerReplay(user, song, requestDto.getScore(), requestDto.getMode(), videoUrl,
+						requestDto.getVideoTime());
+				} catch (RuntimeException e) {
+					// 등록에 실패하면 업로드에서 잡은 파일 참조를 돌려줌
+					releaseUploadedVideo(videoUrl);
+					throw e;
+				}
+			}, applicationTaskExecutor);
+	}
+
+	private void releaseUploadedVideo(String videoUrl) {
+		try {
+			String fileKey = storageService.extractFileKey(videoUrl);
+			if (fileKey != null) {
+				storageService.delete(fileKey);
+			}
+		} catch (Exception e) {
+			log.error("리플레이 - 등록 실패한 영상 정리 실패: videoUrl={}, error={}", videoUrl, e.getMessage());
+		}
+	}
+
+	@Override
+	public PresignedUrlResponseDto createUploadSlot(Integer userId, String contentType, Long contentLength) {
+		if (contentType == null || !contentType.startsWith("video/")) {
+			throw new IllegalArgumentException("영상 파일만 업로드할 수 있습니다.");
+		}
+		if (contentLength == null || contentLength <= 0 || contentLength > maxUploadSize) {
+			throw new IllegalArgumentException("영상 크기는 " + maxUploadSize + " 바이트 이하여야 합니다.");
+		}
+		if (!authRepository.existsById(userId)) {
+			log.error("리플레이 - 사용자를 찾을 수 없음: userId={}", userId);
+			throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+		}
+
+		// 유저별 경로에 발급해서 확인 단계에서 다른 유저의 파일로 등록하지 못하게 함
+		String fileKey = replayKeyPrefix(userId) + UUID.randomUUID() + extensionOf(contentType);
+		// 크기를 서명에 넣어 발급한 크기와 다른 Content-Length 로는 올릴 수 없게 함
+		String presignedUrl = s3Service.generatePutPresignedUrl(fileKey, contentType, contentLength);
+		log.info("리플레이 - 업로드 슬롯 발급: userId={}, fileKey={}, contentLength={}", userId, fileKey, contentLength);
+		return new PresignedUrlResponseDto(presignedUrl, fileKey);
+	}
 
-		User user = authRepository.findById(userId).orElseThrow(() -> {
+	@Override
+	public Replay confirmReplay(Integer userId, ReplayConfirmRequestDto requestDto) {
+		String fileKey = requestDto.getFileKey();
+		if (fileKey == null || !fileKey.startsWith(replayKeyPrefix(userId)) || fileKey.contains("..")) {
+			log.error("리플레이 - 본인 업로드 슬롯이 아닌 파일 키: userId={}, fileKey={}", userId, fileKey);
+			throw new AccessDeniedException("해당 파일을 등록할 권한이 없습니다.");
+		}
+
+		User user = findUser(userId);
+		Song song = findSong(requestDto.getSongId());
+
+		// 실제로 업로드가 끝났는지 S3 에 HEAD 요청으로 확인
+		HeadObjectResponse head = s3Service.headFile(fileKey);
+		if (head == null) {
+			log.error("리플레이 - 업로드된 파일 없음: userId={}, fileKey={}", userId, fileKey);
+			throw new NotFoundException("업로드된 파일을 찾을 수 없습니다.");
+		}
+		// 거절한 파일은 등록될 일이 없으므로 바로 삭제 예약
+		if (head.contentLength() == null || head.contentLength() <= 0 || head.contentLength() > maxUploadSize) {
+			log.error("리플레이 - 업로드 파일 크기 오류: fileKey={}, size={}", fileKey, head.contentLength());
+			fileDeletionService.enqueue(fileKey);
+			throw new IllegalArgumentException("업로드된 파일의 크기가 올바르지 않습니다.");
+		}
+		if (head.contentType() == null || !head.contentType().startsWith("video/")) {
+			log.error("리플레이 - 업로드 파일 형식 오류: fileKey={}, contentType={}", fileKey, head.contentType());
+			fileDeletionService.enqueue(fileKey);
+			throw new IllegalArgumentException("영상 파일만 등록할 수 있습니다.");
+		}
+
+		String videoUrl = s3Service.getFileUrl(fileKey);
+		if (replayRepository.existsByVideoPath(videoUrl)) {
+			throw new DuplicateException("이미 등록된 리플레이입니다.");
+		}
+
+		return registerReplay(user, song, requestDto.getScore(), requestDto.getMode(), videoUrl,
+			requestDto.getVideoTime());
+	}
+
+	// 업로드가 끝난 영상으로 리플레이를 저장하고 랭킹에 반영 (직접 업로드, presigned 업로드 공통)
+	// 호출하는 쪽에 트랜잭션이 없으므로 저장과 이벤트 발행을 한 트랜잭션으로 묶음 (커밋 후 리스너 실행)
+	private Replay registerReplay(User user, Song song, Integer score, String mode, String videoUrl,
+		String videoTime) {
+		return transactionTemplate.execute(status -> saveReplay(user, song, score, mode, videoUrl, videoTime));
+	}
+
+	private Replay saveReplay(User user, Song song, Integer score, String mode, String videoUrl, String videoTime) {
+		String[] timeArr = videoTime.split(":");
+		Duration playTime = Duration.ofHours(Integer.parseInt(timeArr[0]))
+			.plusMinutes(Integer.parseInt(timeArr[1]))
+			.plusSeconds(Integer.parseInt(timeArr[2]));
+
+		// Replay 엔티티 생성 및 저장
+		Replay replay = Replay.builder()
+			.user(user)
+			.song(song)
+			.score(score)
+			.mode(mode)
+			.videoPath(videoUrl)
+			.practiceDate(LocalDateTime.now())
+			.build();
+
+		Replay savedReplay;
+		try {
+			savedReplay = replayRepository.saveAndFlush(replay);
+		} catch (DataIntegrityViolationException e) {
+			// 같은 영상의 확인 요청이 동시에 들어와 유니크 키에 걸린 경우
+			log.error("리플레이 - 이미 등록된 영상: userId={}, videoPath={}", user.getUserId(), videoUrl);
+			throw new DuplicateException("이미 등록된 리플레이입니다.");
+		}
+
+		// 랭킹 누적분은 이 트랜잭션에 함께 기록하고, 이주의 곡 실시간 랭킹은 커밋 후 갱신 (롤백된 리플레이는 반영되지 않음)
+		eventPublisher.publishEvent(new ReplayCreatedEvent(user.getUserId(), user.getUsername(),
+			song.getSongId(), savedReplay.getScore(), savedReplay.getPracticeDate(), playTime.getSeconds()));
+		log.info("리플레이 - 등록 완료: userId={}, replayId={}", user.getUserId(), savedReplay.getReplayId());
+		return savedReplay;
+	}
+
+	private User findUser(Integer userId) {
+		return authRepository.findById(userId).orElseThrow(() -> {
 			log.error("리플레이 - 사용자를 찾을 수 없음 : userId= {}", userId);
 			return new UserNotFoundException("사용자를 찾을 수 없습니다.");
 		});
-		Song song = songRepository.findById(requestDto.getSongId()).orElseThrow(() -> {
-			log.error("리플레이 - 곡 정보를 찾을 수 없음 : songId = {}", requestDto.getSongId());
+	}
+
+	private Song findSong(Integer songId) {
+		return songRepository.findById(songId).orElseThrow(() -> {
+			log.error("리플레이 - 곡 정보를 찾을 수 없음 : songId = {}", songId);
 			return new SongNotFoundException("곡을 찾을 수 없습니다.");
 		});
+	}
+
+	private String replayKeyPrefix(Integer userId) {
+		return "replays/" + userId + "/";
+	}
+
+	// video/mp4 -> .mp4 (영문, 숫자가 아닌 하위 타입은 확장자 없이)
+	private String extensionOf(String contentType) {
+		String subtype = contentType.substring(contentType.indexOf('/') + 1);
+		return subtype.matches("[a-zA-Z0-9]{1,10}") ? "." + subtype.toLowerCase() : "";
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public String getReplayVideoKey(Integer replayId, Integer userId) {
+		Replay replay = replayRepository.findById(replayId)
+			.orElseThrow(() -> new ReplayNotFoundException("리플레이를 찾을 수 없습니다."));
 
-		Ranking ranking = rankingRepository.findByUser_UserId(user.getUserId()).orElse(null);
-		if (ranking == null) {
-			log.info("리플레이 - 랭킹 정보가 없으므로 새로 생성 : userId={}", userId);
-			String[] timeArr = requestDto.getVideoTime().split(":");
-
-			Duration playTime = Duration.ofHours(Integer.parseInt(timeArr[0]))
-				.plusMinutes(Integer.parseInt(timeArr[1]))
-				.plusSeconds(Integer.parseInt(timeArr[2]));
-			rankingService.createRankingInfo(user.getUserId(), playTime, requestDto.getScore(), 1);
-			log.info("리플레이 - 랭킹 정보 생성 완료 : userId={}", userId);
-		} else {
-			log.info("리플레이 - 기존 랭킹 정보 존재, 점수 업데이트 시작 : userId={}", userId);
-			String[] timeArr = requestDto.getVideoTime().split(":");
-			Duration playTime = Duration.ofHours(Integer.parseInt(timeArr[0]))
-				.plusMinutes(Integer.parseInt(timeArr[1]))
-				.plusSeconds(Integer.parseInt(timeArr[2]));
-			float existingScore = ranking.getScore() * ranking.getTotalTry();
-			float resultScore = (existingScore + requestDto.getScore()) / (ranking.getTotalTry() + 1);
-
-			// 랭킹의 총 시간, 횟수, 점수 수정
-			ranking.setPlayTime(ranking.getPlayTime().plus(playTime));
-			ranking.setTotalTry(ranking.getTotalTry() + 1);
-			ranking.setScore(resultScore);
-
-			rankingRepository.save(ranking);
-			log.info("리플레이 - 기존 랭킹 정보 업데이트 완료 : userId={}", userId);
+		if (!replay.getUser().getUserId().equals(userId)) {
+			log.error("리플레이 - 다른 유저의 영상 요청: replayId={}, userId={}", replayId, userId);
+			throw new AccessDeniedException("해당 리플레이를 볼 권한이 없습니다.");
 		}
 
-		try {
-			// 2. S3에 비디오 파일 업로드
-			String videoUrl = s3Service.uploadFile(requestDto.getVideoFile(), "replays");
-
-			// 3. Replay 엔티티 생성 및 저장
-			Replay replay = Replay.builder()
-				.user(user)
-				.song(song)
-				.score(requestDto.getScore())
-				.mode(requestDto.getMode())
-				.videoPath(videoUrl)
-				.practiceDate(LocalDateTime.now())
-				.build();
-
-			return replayRepository.save(replay);
-		} catch (IOException e) {
-			log.error("리플레이 - 파일 업로드 실패 : {}", e.getMessage());
-			throw new FileUploadException("파일 업로드에 실패했습니다.", e);
+		String fileKey = storageService.extractFileKey(replay.getVideoPath());
+		if (fileKey == null) {
+			log.error("리플레이 - 저장소 파일이 아닌 영상 경로: replayId={}, videoPath={}", replayId, replay.getVideoPath());
+			throw new NotFoundException("리플레이 영상을 찾을 수 없습니다.");
 		}
+		return fileKey;
 	}
 
 	@Override
@@ -253,8 +436,11 @@ public class ReplayServiceImpl implements ReplayService {
 		if (!replay.getUser().getUserId().equals(userId)) {
 			throw new UnauthorizedException("해당 리플레이를 삭제할 권한이 없습니다.");
 		}
-		// S3에서 비디오 파일 삭제
-		s3Service.deleteFile(replay.getVideoPath());
+		// 비디오 파일 삭제 예약 (같은 트랜잭션에 기록, 실제 삭제는 FileDeletionWorker), videoPath 는 URL 이라 파일 키로 변환
+		String fileKey = storageService.extractFileKey(replay.getVideoPath());
+		if (fileKey != null) {
+			storageService.delete(fileKey);
+		}
 
 		// 리플레이 삭제
 		replayRepository.delete(replay);
@@ -0,0 +1,168 @@
+package com.ssafy.ddingga.domain.song.distribution;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ssafy.ddingga.common.util.ScoreHistogram;
+import com.ssafy.ddingga.domain.song.dto.ChordScoreDelta;
+import com.ssafy.ddingga.domain.song.event.ChordScoresChangedEvent;
+import com.ssafy.ddingga.domain.song.service.ChordScoreDistributionService;
+import com.ssafy.ddingga.global.service.RedisLockService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 코드(곡)별 유저 점수 분포로 "상위 x%" 를 계산하는 인덱스
+ * 코드 점수가 저장될 때마다 이전 점수를 빼고 새 점수를 더한 변경분만 쌓아두고, 주기적으로 DB 분포에 더한 뒤 다시 읽어옴
+ * 분포는 서로 더할 수 있어서 서버마다 쌓인 변경분을 DB 에서 합치면 되고, 조회 시 유저 점수 행을 읽지 않음
+ * 어긋남을 바로잡기 위해 하루 한 번 ChordScore 집계로 전체를 다시 계산함
+ * 변경분은 커밋된 시각별로 쌓고, DB 에 더할 때 재계산 시각 이전 것은 버려서 다른 서버의 재계산과 두 번 더해지지 않게 함
+ * (커밋과 이벤트 처리 사이의 짧은 시간, 서버 간 시각 차이만큼은 어긋날 수 있고 다음 재계산에서 바로잡힘)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChordScoreDistributionIndex {
+	private static final String REBUILD_LOCK_KEY = "chord:distribution:rebuild:lock";
+
+	private final ChordScoreDistributionService chordScoreDistributionService;
+	private final RedisLockService redisLockService;
+
+	private volatile Map<Integer, ScoreHistogram> snapshot = Map.of();  // DB 에서 읽은 분포 (교체만 하고 수정하지 않음)
+
+	// 아직 DB 에 반영되지 않은 곡별 변경분
+	private final ConcurrentHashMap<Integer, ChordScoreDelta> pendingDeltas = new ConcurrentHashMap<>();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		try {
+			if (chordScoreDistributionService.isEmpty()) {
+				rebuildWithLock();
+			}
+		} catch (Exception e) {
+			log.error("코드 점수 분포 - 초기 계산 실패: error={}", e.getMessage());
+		}
+		reload();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleChordScoresChanged(ChordScoresChangedEvent event) {
+		// 커밋 뒤에 호출되므로 지금 시각은 커밋 시각 이후
+		LocalDateTime changedAt = LocalDateTime.now();
+		for (ChordScoresChangedEvent.Change change : event.getChanges()) {
+			pendingDeltas.compute(change.getSongId(), (songId, delta) -> {
+				ChordScoreDelta next = delta != null ? delta : new ChordScoreDelta();
+				if (change.getPreviousScore() != null) {
+					next.add(changedAt, change.getPreviousScore(), -1);
+				}
+				next.add(changedAt, change.getScore(), 1);
+				return next;
+			});
+		}
+	}
+
+	/**
+	 * 해당 점수가 코드에서 상위 몇 % 인지 (동점은 같은 순위, 소수점 첫째 자리)
+	 * @return 분포가 없으면 null
+	 */
+	public Double topPercent(Integer songId, int score) {
+		ScoreHistogram histogram = new ScoreHistogram();
+		ScoreHistogram stored = snapshot.get(songId);
+		if (stored != null) {
+			histogram.merge(stored);
+		}
+		// 이 서버에서 방금 저장한 점수도 바로 반영되도록 아직 반영 전인 변경분을 더함
+		pendingDeltas.computeIfPresent(songId, (id, delta) -> {
+			histogram.merge(delta.total());
+			return delta;
+		});
+
+		long total = histogram.total();
+		if (total <= 0) {
+			return null;
+		}
+		double percent = (histogram.countAbove(score) + 1) * 100.0 / total;
+		return Math.min(100.0, Math.ceil(percent * 10) / 10);
+	}
+
+	@Scheduled(fixedDelayString = "${chord.distribution.flush-interval-ms:60000}")
+	public void flush() {
+		if (!pendingDeltas.isEmpty()) {
+			// 꺼낸 뒤에 들어오는 변경분은 새 항목으로 쌓이므로 유실되지 않음
+			Map<Integer, ChordScoreDelta> batch = new HashMap<>();
+			for (Integer songId : pendingDeltas.keySet()) {
+				ChordScoreDelta delta = pendingDeltas.remove(songId);
+				if (delta != null && !delta.isEmpty()) {
+					batch.put(songId, delta);
+				}
+			}
+
+			try {
+				if (!batch.isEmpty()) {
+					chordScoreDistributionService.applyDeltas(batch);
+				}
+			} catch (Exception e) {
+				// 실패한 변경분은 다시 대기열에 넣어 다음 주기에 재시도
+				log.error("코드 점수 분포 - 반영 실패, 다음 주기에 재시도: songCount={}, error={}", batch.size(),
+					e.getMessage());
+				batch.forEach((songId, delta) -> pendingDeltas.merge(songId, delta, (current, failed) -> {
+					current.merge(failed);
+					return current;
+				}));
+				return;
+			}
+		}
+		// 다른 서버가 반영한 변경분도 가져옴
+		reload();
+	}
+
+	// 서버 간 반영 누락이나 동시 재계산으로 생긴 어긋남을 바로잡음
+	@Scheduled(cron = "${chord.distribution.rebuild-cron:0 0 6 * * *}")
+	public void scheduledRebuild() {
+		try {
+			rebuildWithLock();
+			reload();
+		} catch (Exception e) {
+			log.error("코드 점수 분포 - 재계산 실패: error={}", e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		log.info("코드 점수 분포 - 종료 전 대기 중인 변경분 반영: songCount={}", pendingDeltas.size());
+		flush();
+	}
+
+	private void reload() {
+		try {
+			snapshot = chordScoreDistributionService.loadAll();
+		} catch (Exception e) {
+			log.error("코드 점수 분포 - 적재 실패: error={}", e.getMessage());
+		}
+	}
+
+	// 여러 서버 중 한 곳에서만 재계산 (잠금이 만료된 뒤 다른 서버가 잡은 잠금은 풀지 않음)
+	private void rebuildWithLock() {
+		String lockToken = redisLockService.tryLock(REBUILD_LOCK_KEY, Duration.ofMinutes(10));
+		if (lockToken == null) {
+			log.info("코드 점수 분포 - 다른 서버에서 재계산 중이라 건너뜀");
+			return;
+		}
+		try {
+			chordScoreDistributionService.rebuild();
+		} finally {
+			redisLockService.unlock(REBUILD_LOCK_KEY, lockToken);
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.ssafy.ddingga.domain.song.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 곡, 점수별 인원 수 (분포 재계산용)
+ */
+@Getter
+@AllArgsConstructor
+public class ChordScoreCount {
+	private Integer songId;
+	private Integer score;
+	private Long count;
+}
@@ -0,0 +1,51 @@
+package com.ssafy.ddingga.domain.song.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.ssafy.ddingga.common.util.ScoreHistogram;
+
+/**
+ * 한 곡의 아직 DB 에 반영되지 않은 분포 변경분, 변경이 반영(커밋)된 시각별로 나눠서 보관
+ * 분포를 다시 계산한 시각 이전의 변경분은 이미 재계산에 포함되어 있으므로 그 이후 것만 더할 수 있게 함
+ * 스레드 안전하지 않음, ScoreHistogram 과 마찬가지로 호출하는 쪽에서 동기화해서 사용
+ */
+public class ChordScoreDelta {
+	private final NavigableMap<LocalDateTime, ScoreHistogram> histograms = new TreeMap<>();
+
+	public void add(LocalDateTime changedAt, int score, long delta) {
+		histograms.computeIfAbsent(changedAt, time -> new ScoreHistogram()).add(score, delta);
+	}
+
+	public void merge(ChordScoreDelta other) {
+		for (Map.Entry<LocalDateTime, ScoreHistogram> entry : other.histograms.entrySet()) {
+			histograms.computeIfAbsent(entry.getKey(), time -> new ScoreHistogram()).merge(entry.getValue());
+		}
+	}
+
+	// 전체 변경분 합
+	public ScoreHistogram total() {
+		return after(null);
+	}
+
+	// since 보다 뒤의 변경분 합 (since 가 null 이면 전체)
+	public ScoreHistogram after(LocalDateTime since) {
+		ScoreHistogram sum = new ScoreHistogram();
+		Map<LocalDateTime, ScoreHistogram> range = since != null ? histograms.tailMap(since, false) : histograms;
+		for (ScoreHistogram histogram : range.values()) {
+			sum.merge(histogram);
+		}
+		return sum;
+	}
+
+	public boolean isEmpty() {
+		for (ScoreHistogram histogram : histograms.values()) {
+			if (!histogram.isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
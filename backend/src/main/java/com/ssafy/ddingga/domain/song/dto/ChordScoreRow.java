@@ -0,0 +1,16 @@
+package com.ssafy.ddingga.domain.song.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 코드 점수 한 행 (일괄 저장용, 새 행이면 chordId 가 null)
+ */
+@Getter
+@AllArgsConstructor
+public class ChordScoreRow {
+	private Integer chordId;
+	private Integer songId;
+	private Integer score;
+	private Integer count;
+}
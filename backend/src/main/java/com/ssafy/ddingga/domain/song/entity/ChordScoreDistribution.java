@@ -0,0 +1,35 @@
+package com.ssafy.ddingga.domain.song.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 코드(곡)별 유저 점수 분포, 점수별 인원 수를 ScoreHistogram 형식으로 저장
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ChordScoreDistribution {
+	@Id
+	private Integer songId;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String histogram;
+
+	private LocalDateTime updatedAt;
+
+	// 마지막으로 ChordScore 집계로 다시 계산한 시각 (이 시각 이전에 반영된 변경분은 더하지 않음)
+	private LocalDateTime rebuiltAt;
+}
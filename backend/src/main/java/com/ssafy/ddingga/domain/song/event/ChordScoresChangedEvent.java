@@ -0,0 +1,25 @@
+package com.ssafy.ddingga.domain.song.event;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유저의 코드 점수가 저장되었을 때 발행되는 이벤트
+ * 코드별 점수 분포가 이 이벤트를 받아 이전 점수를 빼고 새 점수를 더함
+ */
+@Getter
+@AllArgsConstructor
+public class ChordScoresChangedEvent {
+	private Integer userId;
+	private List<Change> changes;
+
+	@Getter
+	@AllArgsConstructor
+	public static class Change {
+		private Integer songId;
+		private Integer previousScore;  // 처음 저장된 코드면 null
+		private Integer score;
+	}
+}
@@ -0,0 +1,27 @@
+package com.ssafy.ddingga.domain.song.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ssafy.ddingga.domain.song.entity.ChordScoreDistribution;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface ChordScoreDistributionRepository extends JpaRepository<ChordScoreDistribution, Integer> {
+	// 여러 서버가 같은 곡의 변경분을 동시에 더하지 않도록 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT d FROM ChordScoreDistribution d WHERE d.songId IN :songIds")
+	List<ChordScoreDistribution> findAllForUpdate(@Param("songIds") Collection<Integer> songIds);
+
+	// 전체 재계산 중에 변경분이 더해지지 않도록 전체 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT d FROM ChordScoreDistribution d")
+	List<ChordScoreDistribution> findAllForUpdate();
+}
@@ -0,0 +1,62 @@
+package com.ssafy.ddingga.domain.song.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.ssafy.ddingga.domain.song.dto.ChordScoreRow;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 코드 점수 일괄 조회/저장 (JDBC 배치, rewriteBatchedStatements 로 한 번에 전송됨)
+ * 호출하는 쪽 트랜잭션 안에서 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChordScoreJdbcRepository {
+	private static final String SELECT_FOR_UPDATE = "SELECT chord_id, song_id, score, `count` FROM chord_score "
+		+ "WHERE user_id = :userId AND song_id IN (:songIds) ORDER BY chord_id FOR UPDATE";
+	private static final String INSERT = "INSERT INTO chord_score (user_id, song_id, score, `count`) "
+		+ "VALUES (:userId, :songId, :score, :count)";
+	private static final String UPDATE = "UPDATE chord_score SET score = :score, `count` = :count "
+		+ "WHERE chord_id = :chordId";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	// 유저의 해당 곡 코드 점수를 한 번에 조회하고 갱신이 끝날 때까지 잠금 (동시 제출이 서로 덮어쓰지 않게 함)
+	public List<ChordScoreRow> findForUpdate(Integer userId, Collection<Integer> songIds) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("userId", userId)
+			.addValue("songIds", songIds);
+		return jdbcTemplate.query(SELECT_FOR_UPDATE, params, (rs, rowNum) -> new ChordScoreRow(
+			rs.getInt("chord_id"), rs.getInt("song_id"), rs.getInt("score"), rs.getInt("count")));
+	}
+
+	public void insertAll(Integer userId, List<ChordScoreRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		SqlParameterSource[] batch = rows.stream()
+			.map(row -> new MapSqlParameterSource(Map.of(
+				"userId", userId, "songId", row.getSongId(), "score", row.getScore(), "count", row.getCount())))
+			.toArray(SqlParameterSource[]::new);
+		jdbcTemplate.batchUpdate(INSERT, batch);
+	}
+
+	public void updateAll(List<ChordScoreRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		SqlParameterSource[] batch = rows.stream()
+			.map(row -> new MapSqlParameterSource(Map.of(
+				"chordId", row.getChordId(), "score", row.getScore(), "count", row.getCount())))
+			.toArray(SqlParameterSource[]::new);
+		jdbcTemplate.batchUpdate(UPDATE, batch);
+	}
+}
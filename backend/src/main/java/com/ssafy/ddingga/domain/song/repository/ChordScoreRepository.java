@@ -3,8 +3,10 @@ package com.ssafy.ddingga.domain.song.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.ssafy.ddingga.domain.song.dto.ChordScoreCount;
 import com.ssafy.ddingga.domain.song.entity.ChordScore;
 
 @Repository
@@ -14,4 +16,9 @@ public interface ChordScoreRepository extends JpaRepository<ChordScore, Integer>
 
 	// userId와 songId로 ChordScore를 조회
 	ChordScore findByUser_UserIdAndSong_SongId(Integer userId, Integer songId);
+
+	// 곡, 점수별 인원 수 (코드별 점수 분포 재계산용, 유저 행을 하나씩 읽지 않음)
+	@Query("SELECT new com.ssafy.ddingga.domain.song.dto.ChordScoreCount(c.song.songId, c.score, COUNT(c)) "
+		+ "FROM ChordScore c WHERE c.score IS NOT NULL GROUP BY c.song.songId, c.score")
+	List<ChordScoreCount> countByScore();
 }
@@ -1,9 +1,11 @@
 package com.ssafy.ddingga.domain.song.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ssafy.ddingga.domain.song.entity.Song;
@@ -19,4 +21,8 @@ public interface SongRepository extends JpaRepository<Song, Integer> {
 	// List<Song> findBySongTitleOrSongWriterContaining(@Param("keyword") String keyword);
 
 	List<Song> findBySongIdGreaterThanEqual(Integer songId);
+
+	// 주어진 ID 중 실제로 있는 곡 ID
+	@Query("SELECT s.songId FROM Song s WHERE s.songId IN :songIds")
+	List<Integer> findSongIdsIn(@Param("songIds") Collection<Integer> songIds);
 }
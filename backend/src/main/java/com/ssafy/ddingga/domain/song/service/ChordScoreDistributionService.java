@@ -0,0 +1,19 @@
+package com.ssafy.ddingga.domain.song.service;
+
+import java.util.Map;
+
+import com.ssafy.ddingga.common.util.ScoreHistogram;
+import com.ssafy.ddingga.domain.song.dto.ChordScoreDelta;
+
+public interface ChordScoreDistributionService {
+	// 곡별 분포 변경분 중 그 곡을 마지막으로 재계산한 뒤의 것만 DB 분포에 더함 (저장된 분포가 없으면 전체 재계산)
+	void applyDeltas(Map<Integer, ChordScoreDelta> deltas);
+
+	// 저장된 곡별 분포 전체
+	Map<Integer, ScoreHistogram> loadAll();
+
+	// ChordScore 집계로 곡별 분포를 다시 계산해서 덮어씀
+	void rebuild();
+
+	boolean isEmpty();
+}
@@ -0,0 +1,128 @@
+package com.ssafy.ddingga.domain.song.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ssafy.ddingga.common.util.ScoreHistogram;
+import com.ssafy.ddingga.domain.song.dto.ChordScoreCount;
+import com.ssafy.ddingga.domain.song.dto.ChordScoreDelta;
+import com.ssafy.ddingga.domain.song.entity.ChordScoreDistribution;
+import com.ssafy.ddingga.domain.song.repository.ChordScoreDistributionRepository;
+import com.ssafy.ddingga.domain.song.repository.ChordScoreRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChordScoreDistributionServiceImpl implements ChordScoreDistributionService {
+	private final ChordScoreDistributionRepository chordScoreDistributionRepository;
+	private final ChordScoreRepository chordScoreRepository;
+
+	// 재계산은 실행 시각 기준 최신 커밋을 읽어야 하므로 READ COMMITTED (트랜잭션 시작 시점 스냅샷을 쓰지 않음)
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public void applyDeltas(Map<Integer, ChordScoreDelta> deltas) {
+		// 아직 한 번도 계산하지 않았으면 변경분만 더하면 기존 점수가 빠지므로 전체를 계산 (변경분은 이미 ChordScore 에 반영됨)
+		if (chordScoreDistributionRepository.count() == 0) {
+			rebuild();
+			return;
+		}
+
+		Map<Integer, ChordScoreDistribution> current = new HashMap<>();
+		for (ChordScoreDistribution distribution : chordScoreDistributionRepository.findAllForUpdate(deltas.keySet())) {
+			current.put(distribution.getSongId(), distribution);
+		}
+
+		// 다른 서버가 재계산하기 전에 쌓인 변경분은 재계산에 이미 포함되어 있으므로 버림 (두 번 더해지지 않게)
+		LocalDateTime now = LocalDateTime.now();
+		List<ChordScoreDistribution> changed = new ArrayList<>(deltas.size());
+		for (Map.Entry<Integer, ChordScoreDelta> entry : deltas.entrySet()) {
+			ChordScoreDistribution distribution = current.get(entry.getKey());
+			if (distribution == null) {
+				distribution = ChordScoreDistribution.builder()
+					.songId(entry.getKey())
+					.histogram(entry.getValue().total().encode())
+					.updatedAt(now)
+					.build();
+			} else {
+				ScoreHistogram delta = entry.getValue().after(distribution.getRebuiltAt());
+				if (delta.isEmpty()) {
+					continue;
+				}
+				ScoreHistogram histogram = ScoreHistogram.decode(distribution.getHistogram());
+				histogram.merge(delta);
+				distribution.setHistogram(histogram.encode());
+				distribution.setUpdatedAt(now);
+			}
+			changed.add(distribution);
+		}
+		chordScoreDistributionRepository.saveAll(changed);
+		log.debug("코드 점수 분포 - 변경분 반영: songCount={}", changed.size());
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Integer, ScoreHistogram> loadAll() {
+		Map<Integer, ScoreHistogram> result = new HashMap<>();
+		for (ChordScoreDistribution distribution : chordScoreDistributionRepository.findAll()) {
+			result.put(distribution.getSongId(), ScoreHistogram.decode(distribution.getHistogram()));
+		}
+		return result;
+	}
+
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public void rebuild() {
+		// 집계 전에 시각을 정해서, 이 시각 이전에 커밋된 변경분은 집계에 포함된 것으로 봄
+		LocalDateTime rebuiltAt = LocalDateTime.now();
+		Map<Integer, ScoreHistogram> histograms = new HashMap<>();
+		for (ChordScoreCount count : chordScoreRepository.countByScore()) {
+			histograms.computeIfAbsent(count.getSongId(), songId -> new ScoreHistogram())
+				.add(count.getScore(), count.getCount());
+		}
+
+		// 점수가 모두 사라진 곡도 빈 분포로 덮어씀
+		// 변경분 반영과 겹치지 않도록 행을 잠그고 덮어씀
+		LocalDateTime now = LocalDateTime.now();
+		Map<Integer, ChordScoreDistribution> current = new HashMap<>();
+		for (ChordScoreDistribution distribution : chordScoreDistributionRepository.findAllForUpdate()) {
+			current.put(distribution.getSongId(), distribution);
+			histograms.putIfAbsent(distribution.getSongId(), new ScoreHistogram());
+		}
+
+		List<ChordScoreDistribution> changed = new ArrayList<>(histograms.size());
+		for (Map.Entry<Integer, ScoreHistogram> entry : histograms.entrySet()) {
+			ChordScoreDistribution distribution = current.get(entry.getKey());
+			if (distribution == null) {
+				distribution = ChordScoreDistribution.builder()
+					.songId(entry.getKey())
+					.histogram(entry.getValue().encode())
+					.updatedAt(now)
+					.rebuiltAt(rebuiltAt)
+					.build();
+			} else {
+				distribution.setHistogram(entry.getValue().encode());
+				distribution.setUpdatedAt(now);
+				distribution.setRebuiltAt(rebuiltAt);
+			}
+			changed.add(distribution);
+		}
+		chordScoreDistributionRepository.saveAll(changed);
+		log.info("코드 점수 분포 - 전체 재계산 완료: songCount={}", changed.size());
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public boolean isEmpty() {
+		return chordScoreDistributionRepository.count() == 0;
+	}
+}
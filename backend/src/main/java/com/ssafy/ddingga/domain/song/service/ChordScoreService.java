@@ -14,5 +14,9 @@ public interface ChordScoreService {
 	 */
 	List<ChordScoreDto> getChordScores(Integer userId);
 
+	/**
+	 * 코드별 점수를 기존 점수와 횟수 가중 평균으로 합쳐서 저장
+	 * @throws IllegalArgumentException count 가 0 이하인 항목이 있는 경우
+	 */
 	void createChordScores(int userId, List<CreateChordScoresRequestDto> request);
 }
@@ -1,14 +1,24 @@
 package com.ssafy.ddingga.domain.song.service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.ssafy.ddingga.domain.auth.entity.User;
 import com.ssafy.ddingga.domain.auth.repository.AuthRepository;
+import com.ssafy.ddingga.domain.song.distribution.ChordScoreDistributionIndex;
+import com.ssafy.ddingga.domain.song.dto.ChordScoreRow;
 import com.ssafy.ddingga.domain.song.entity.ChordScore;
-import com.ssafy.ddingga.domain.song.entity.Song;
+import com.ssafy.ddingga.domain.song.event.ChordScoresChangedEvent;
+import com.ssafy.ddingga.domain.song.repository.ChordScoreJdbcRepository;
 import com.ssafy.ddingga.domain.song.repository.ChordScoreRepository;
 import com.ssafy.ddingga.domain.song.repository.SongRepository;
 import com.ssafy.ddingga.facade.chordscore.dto.request.CreateChordScoresRequestDto;
@@ -24,10 +34,16 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor // ChordScoreRepository 을 주입받는 생성자를 자동으로 만들어줌
 public class ChordScoreServiceImpl implements ChordScoreService {
+	private static final int MAX_ATTEMPTS = 3;
+	private static final long RETRY_BACKOFF_MS = 50;
 
 	private final ChordScoreRepository chordScoreRepository;
+	private final ChordScoreJdbcRepository chordScoreJdbcRepository;
 	private final AuthRepository authRepository;
 	private final SongRepository songRepository;
+	private final ChordScoreDistributionIndex chordScoreDistributionIndex;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
 
 	@Override
 	public List<ChordScoreDto> getChordScores(Integer userId) {
@@ -46,6 +62,9 @@ public class ChordScoreServiceImpl implements ChordScoreService {
 				.map(chordScore -> ChordScoreDto.builder()
 					.chordType(chordScore.getSong().getSongTitle())
 					.score(chordScore.getScore())
+					.topPercent(chordScore.getScore() != null
+						? chordScoreDistributionIndex.topPercent(chordScore.getSong().getSongId(), chordScore.getScore())
+						: null)
 					.build())
 				.toList();
 
@@ -57,48 +76,89 @@ public class ChordScoreServiceImpl implements ChordScoreService {
 		}
 	}
 
+	// 처음 제출하는 곡은 잠글 행이 없어 FOR UPDATE 가 간격 잠금만 걸고, 동시 제출의 INSERT 끼리 교착 상태가 될 수 있음
+	// (chord_score 에 (user_id, song_id) 유니크 키가 없어 upsert 를 쓸 수 없음)
+	// 교착 상태로 롤백된 쪽은 트랜잭션 전체를 다시 실행해서, 먼저 커밋된 행을 잠그고 갱신하게 함
 	@Override
 	public void createChordScores(int userId, List<CreateChordScoresRequestDto> request) {
+		if (request == null || request.isEmpty()) {
+			return;
+		}
 
-		List<ChordScore> chordScores = new ArrayList<>();
-
+		// 1. 같은 곡이 여러 번 오면 횟수 가중 합으로 합침 (곡 ID -> {점수 x 횟수 합, 횟수 합})
+		Map<Integer, long[]> submitted = new LinkedHashMap<>();
 		for (CreateChordScoresRequestDto chordScoreRequest : request) {
-			User user = authRepository.findByUserId(userId).orElseThrow(() -> new NotFoundException("없는 유저 id 입니다."));
-			Song song = songRepository.findById(chordScoreRequest.getSongId())
-				.orElseThrow(() -> new NotFoundException("없는 노래 id 입니다."));
-			ChordScore chordScore = ChordScore.builder()
-				.user(user)
-				.song(song)
-				.score(chordScoreRequest.getScore())
-				.count(chordScoreRequest.getCount())
-				.build();
-
-			chordScores.add(chordScore);
+			if (chordScoreRequest.getCount() <= 0) {
+				throw new IllegalArgumentException("count 는 1 이상이어야 합니다. songId=" + chordScoreRequest.getSongId());
+			}
+			long[] sum = submitted.computeIfAbsent(chordScoreRequest.getSongId(), songId -> new long[2]);
+			sum[0] += (long)chordScoreRequest.getScore() * chordScoreRequest.getCount();
+			sum[1] += chordScoreRequest.getCount();
 		}
 
-		for (ChordScore chordScore : chordScores) {
-			ChordScore currendChordScore = chordScoreRepository.findByUser_UserIdAndSong_SongId(
-				chordScore.getUser().getUserId(), chordScore.getSong().getSongId());
-
-			if (currendChordScore == null) {
-				ChordScore updateChordScore = ChordScore.builder()
-					.user(chordScore.getUser())
-					.song(chordScore.getSong())
-					.score(chordScore.getScore())
-					.count(chordScore.getCount())
-					.build();
+		for (int attempt = 1; ; attempt++) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> saveChordScores(userId, submitted));
+				return;
+			} catch (PessimisticLockingFailureException e) {
+				if (attempt >= MAX_ATTEMPTS) {
+					log.error("코드 점수 - 잠금 충돌로 저장 실패: userId={}, attempts={}, error={}", userId, attempt,
+						e.getMessage());
+					throw e;
+				}
+				log.warn("코드 점수 - 잠금 충돌, 다시 시도: userId={}, attempt={}", userId, attempt);
+				try {
+					Thread.sleep(RETRY_BACKOFF_MS * attempt);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+			}
+		}
+	}
 
-				chordScoreRepository.save(updateChordScore);
-			} else {
-				int totalCount = currendChordScore.getCount() + chordScore.getCount();
-				int updateScore = (currendChordScore.getScore() * currendChordScore.getCount()
-					+ chordScore.getScore() * chordScore.getCount()) / totalCount;
+	private void saveChordScores(int userId, Map<Integer, long[]> submitted) {
+		if (!authRepository.existsById(userId)) {
+			throw new NotFoundException("없는 유저 id 입니다.");
+		}
 
-				currendChordScore.setScore(updateScore);
-				currendChordScore.setCount(totalCount);
+		// 2. 곡 존재 여부와 기존 점수를 IN 조회 한 번씩으로 확인
+		Set<Integer> existingSongIds = new HashSet<>(songRepository.findSongIdsIn(submitted.keySet()));
+		for (Integer songId : submitted.keySet()) {
+			if (!existingSongIds.contains(songId)) {
+				throw new NotFoundException("없는 노래 id 입니다.");
+			}
+		}
+		Map<Integer, ChordScoreRow> current = new HashMap<>();
+		for (ChordScoreRow row : chordScoreJdbcRepository.findForUpdate(userId, submitted.keySet())) {
+			current.putIfAbsent(row.getSongId(), row);
+		}
 
-				chordScoreRepository.save(currendChordScore);
+		// 3. 기존 점수와 횟수 가중 평균으로 합쳐서 새 행과 갱신할 행을 나눠 배치로 저장
+		List<ChordScoreRow> inserts = new ArrayList<>();
+		List<ChordScoreRow> updates = new ArrayList<>();
+		List<ChordScoresChangedEvent.Change> changes = new ArrayList<>(submitted.size());
+		for (Map.Entry<Integer, long[]> entry : submitted.entrySet()) {
+			Integer songId = entry.getKey();
+			long scoreSum = entry.getValue()[0];
+			long countSum = entry.getValue()[1];
+			ChordScoreRow previous = current.get(songId);
+			if (previous == null) {
+				int score = (int)(scoreSum / countSum);
+				inserts.add(new ChordScoreRow(null, songId, score, (int)countSum));
+				changes.add(new ChordScoresChangedEvent.Change(songId, null, score));
+			} else {
+				long totalCount = previous.getCount() + countSum;
+				long totalScore = (long)previous.getScore() * previous.getCount() + scoreSum;
+				int score = (int)(totalScore / totalCount);
+				updates.add(new ChordScoreRow(previous.getChordId(), songId, score, (int)totalCount));
+				changes.add(new ChordScoresChangedEvent.Change(songId, previous.getScore(), score));
 			}
 		}
+		chordScoreJdbcRepository.insertAll(userId, inserts);
+		chordScoreJdbcRepository.updateAll(updates);
+		// 커밋 후 코드별 점수 분포에 반영
+		eventPublisher.publishEvent(new ChordScoresChangedEvent(userId, changes));
+		log.info("코드 점수 - 일괄 저장 완료: userId={}, inserted={}, updated={}", userId, inserts.size(), updates.size());
 	}
 }
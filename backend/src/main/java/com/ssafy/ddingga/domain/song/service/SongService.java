@@ -1,6 +1,8 @@
 package com.ssafy.ddingga.domain.song.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.ssafy.ddingga.domain.song.entity.SheetMusic;
 import com.ssafy.ddingga.domain.song.entity.Song;
@@ -12,4 +14,7 @@ public interface SongService {
 	List<SheetMusic> selectSong(int songId);
 
 	List<Song> searchSong(String keyword);
+
+	// 곡 ID -> 곡 제목 (없는 곡은 빠짐)
+	Map<Integer, String> getSongTitles(Collection<Integer> songIds);
 }
@@ -1,6 +1,12 @@
 package com.ssafy.ddingga.domain.song.service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Service;
 
@@ -19,6 +25,9 @@ public class SongServiceImpl implements SongService {
 	private final SongRepository songRepository;
 	private final SheetMusicRepository sheetMusicRepository;
 
+	// 곡 제목 공용 조회 캐시 (곡 수가 적고 제목은 거의 바뀌지 않음), 없는 ID만 DB에서 한 번에 읽음
+	private final Map<Integer, String> songTitleCache = new ConcurrentHashMap<>();
+
 	@Override
 	public List<Song> getSong() {
 		return songRepository.findAll();
@@ -38,4 +47,28 @@ public class SongServiceImpl implements SongService {
 	public List<Song> searchSong(String keyword) {
 		return songRepository.findBySongTitleOrSongWriterContaining(keyword);
 	}
+
+	@Override
+	public Map<Integer, String> getSongTitles(Collection<Integer> songIds) {
+		Map<Integer, String> titles = new HashMap<>();
+		Set<Integer> missing = new HashSet<>();
+		for (Integer songId : songIds) {
+			String title = songTitleCache.get(songId);
+			if (title != null) {
+				titles.put(songId, title);
+			} else {
+				missing.add(songId);
+			}
+		}
+
+		if (!missing.isEmpty()) {
+			for (Song song : songRepository.findAllById(missing)) {
+				String title = song.getSongTitle() != null ? song.getSongTitle() : "";
+				songTitleCache.put(song.getSongId(), title);
+				titles.put(song.getSongId(), title);
+			}
+			log.debug("곡 제목 캐시 적재: requested={}, loaded={}", missing.size(), titles.size());
+		}
+		return titles;
+	}
 }
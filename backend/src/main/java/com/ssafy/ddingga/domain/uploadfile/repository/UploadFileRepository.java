@@ -1,8 +1,25 @@
 package com.ssafy.ddingga.domain.uploadfile.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.ssafy.ddingga.domain.uploadfile.entity.UploadFile;
 
+import jakarta.persistence.QueryHint;
+
 public interface UploadFileRepository extends JpaRepository<UploadFile, Integer> {
+	// 저장소 정리용 전체 파일 URL (MySQL 스트리밍 조회, 트랜잭션 안에서 사용)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+	@Query("SELECT u.fileUrl FROM UploadFile u WHERE u.fileUrl IS NOT NULL")
+	Stream<String> streamAllFileUrls();
+
+	@Query("SELECT u.fileUrl FROM UploadFile u WHERE u.fileUrl IN :fileUrls")
+	List<String> findFileUrlsIn(@Param("fileUrls") Collection<String> fileUrls);
 }
@@ -10,7 +10,7 @@ import com.ssafy.ddingga.domain.auth.entity.User;
 import com.ssafy.ddingga.domain.auth.service.AuthService;
 import com.ssafy.ddingga.domain.uploadfile.entity.UploadFile;
 import com.ssafy.ddingga.domain.uploadfile.repository.UploadFileRepository;
-import com.ssafy.ddingga.global.service.S3Service;
+import com.ssafy.ddingga.global.service.StorageService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 public class UploadFileServiceImpl implements UploadFileService {
 	private final UploadFileRepository uploadFileRepository;
 	private final AuthService authService;
-	private final S3Service s3Service;
+	private final StorageService storageService;
 
 	@Override
 	public List<UploadFile> getUploadFile() {
@@ -32,7 +32,8 @@ public class UploadFileServiceImpl implements UploadFileService {
 	public UploadFile createUploadFile(int userId, String title, MultipartFile multipartFile) throws IOException {
 
 		User user = authService.getUser(userId);
-		String url = s3Service.uploadFile(multipartFile);
+		// 업로드는 트랜잭션 밖에서 진행 (S3 전송 동안 DB 커넥션을 잡지 않도록)
+		String url = storageService.upload(multipartFile);
 
 		UploadFile uploadFile = UploadFile.builder()
 			.user(user)
@@ -40,6 +41,23 @@ public class UploadFileServiceImpl implements UploadFileService {
 			.fileUrl(url)
 			.build();
 
-		return uploadFileRepository.save(uploadFile);
+		try {
+			return uploadFileRepository.save(uploadFile);
+		} catch (RuntimeException e) {
+			// 저장에 실패하면 업로드에서 잡은 파일 참조를 돌려줌
+			releaseUploadedFile(url);
+			throw e;
+		}
+	}
+
+	private void releaseUploadedFile(String fileUrl) {
+		try {
+			String fileKey = storageService.extractFileKey(fileUrl);
+			if (fileKey != null) {
+				storageService.delete(fileKey);
+			}
+		} catch (Exception e) {
+			log.error("쇼츠 - 저장 실패한 파일 정리 실패: fileUrl={}, error={}", fileUrl, e.getMessage());
+		}
 	}
 }
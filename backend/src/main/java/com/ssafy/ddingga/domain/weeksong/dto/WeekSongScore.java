@@ -0,0 +1,15 @@
+package com.ssafy.ddingga.domain.weeksong.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이주의 곡에서 한 유저의 최고 점수 (불변)
+ */
+@Getter
+@AllArgsConstructor
+public class WeekSongScore {
+	private Integer userId;
+	private String username;
+	private Integer score;
+}
@@ -0,0 +1,52 @@
+package com.ssafy.ddingga.domain.weeksong.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 끝난 주의 이주의 곡 최종 랭킹 (주당 한 행)
+ * 상위 N명은 JSON 으로 한 컬럼에 저장해서 지난 랭킹 조회 시 리플레이 테이블을 보지 않음
+ */
+@Entity
+@Table(uniqueConstraints = {
+	@UniqueConstraint(name = "uk_week_song_ranking_archive_week_id", columnNames = "week_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class WeekSongRankingArchive {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer archiveId;
+
+	@Column(nullable = false)
+	private Integer weekId;
+
+	// 곡 정보는 조회 시 조인하지 않도록 함께 저장
+	private Integer songId;
+	private String songTitle;
+	private String songImage;
+
+	private LocalDateTime startDate;
+	private LocalDateTime endDate;
+
+	private Integer participantCount;   // 해당 주에 이 곡을 연습한 유저 수
+
+	@Column(columnDefinition = "TEXT", nullable = false)
+	private String rankingJson;         // [{"username": ..., "score": ...}, ...] 점수 내림차순
+
+	private LocalDateTime archivedAt;
+}
@@ -0,0 +1,310 @@
+package com.ssafy.ddingga.domain.weeksong.leaderboard;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ssafy.ddingga.domain.replay.event.ReplayCreatedEvent;
+import com.ssafy.ddingga.domain.replay.repository.ReplayRepository;
+import com.ssafy.ddingga.domain.weeksong.dto.WeekSongScore;
+import com.ssafy.ddingga.domain.weeksong.entity.WeekSong;
+import com.ssafy.ddingga.domain.weeksong.repository.WeekSongRepository;
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.GetWeekSongRankingResponseDto;
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongUserInfo;
+import com.ssafy.ddingga.websocket.MyWebSocketHandler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이주의 곡 실시간 랭킹 (유저별 이번 주 최고 점수)
+ * 주간 곡이 바뀔 때 DB에서 적재하고, 이주의 곡 리플레이가 저장될 때마다 해당 유저만 갱신함
+ * 상위 10명이 바뀌면 /ws 에 연결된 클라이언트에게 변경분을 보내고, 다른 서버에는 Redis 채널로 전달함
+ * 클라이언트 전송은 전용 스레드 하나에서 순서대로 처리해 리플레이 저장 요청이 느린 소켓을 기다리지 않게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeekSongLeaderboard {
+	private static final String CHANNEL = "weeksong:leaderboard:updated";
+	private static final int TOP_SIZE = 10;
+	private static final long EMPTY_RECHECK_SECONDS = 60;  // 이주의 곡이 없을 때 다시 조회하기까지의 간격
+	private static final int BROADCAST_QUEUE_SIZE = 256;
+
+	// 점수 내림차순, 동점이면 유저 ID 오름차순
+	private static final Comparator<WeekSongScore> ORDER = Comparator
+		.comparing(WeekSongScore::getScore, Comparator.reverseOrder())
+		.thenComparing(WeekSongScore::getUserId);
+
+	private final WeekSongRepository weekSongRepository;
+	private final ReplayRepository replayRepository;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final MyWebSocketHandler webSocketHandler;
+
+	private volatile Board board;                              // 적재 전이거나 이주의 곡이 없으면 null
+	private volatile LocalDateTime nextReloadAt;               // 이주의 곡이 없을 때 이 시각 전까지는 다시 적재하지 않음
+	private List<WeekSongScore> lastBroadcastTop = List.of();  // 마지막으로 클라이언트에 보낸 상위 10명
+	private ThreadPoolExecutor broadcaster;                    // 전송 순서를 지키기 위해 스레드 하나만 사용
+
+	/**
+	 * 한 주의 랭킹 상태, 주간 곡이 바뀌면 통째로 교체함
+	 */
+	private static final class Board {
+		private final WeekSong weekSong;
+		private final Map<Integer, WeekSongScore> bestScores = new ConcurrentHashMap<>();
+		private final ConcurrentSkipListSet<WeekSongScore> ranking = new ConcurrentSkipListSet<>(ORDER);
+
+		private Board(WeekSong weekSong) {
+			this.weekSong = weekSong;
+		}
+
+		private boolean covers(LocalDateTime time) {
+			return !time.isBefore(weekSong.getStartDate()) && !time.isAfter(weekSong.getEndDate());
+		}
+
+		// 기존 최고 점수보다 높을 때만 교체, 같은 유저의 갱신은 compute 로 직렬화됨
+		private boolean offer(Integer userId, String username, int score) {
+			boolean[] changed = {false};
+			bestScores.compute(userId, (id, previous) -> {
+				if (previous != null && previous.getScore() >= score) {
+					return previous;
+				}
+				WeekSongScore next = new WeekSongScore(userId, username, score);
+				if (previous != null) {
+					ranking.remove(previous);
+				}
+				ranking.add(next);
+				changed[0] = true;
+				return next;
+			});
+			return changed[0];
+		}
+
+		private List<WeekSongScore> top(int limit) {
+			List<WeekSongScore> result = new ArrayList<>(limit);
+			Iterator<WeekSongScore> iterator = ranking.iterator();
+			while (iterator.hasNext() && result.size() < limit) {
+				result.add(iterator.next());
+			}
+			return result;
+		}
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		broadcaster = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(BROADCAST_QUEUE_SIZE),
+			runnable -> {
+				Thread thread = new Thread(runnable, "weeksong-broadcast");
+				thread.setDaemon(true);
+				return thread;
+			});
+		redisMessageListenerContainer.addMessageListener(
+			(Message message, byte[] pattern) -> handleRemoteUpdate(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(CHANNEL));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		broadcaster.shutdown();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		reload();
+	}
+
+	/**
+	 * 현재 이주의 곡의 유저별 최고 점수를 DB에서 다시 적재
+	 */
+	public synchronized void reload() {
+		try {
+			WeekSong weekSong = weekSongRepository.findByStartDateBeforeAndEndDateAfter(LocalDateTime.now());
+			if (weekSong == null) {
+				log.warn("이주의 곡 랭킹 - 현재 이주의 곡이 없어 적재하지 않음");
+				board = null;
+				nextReloadAt = LocalDateTime.now().plusSeconds(EMPTY_RECHECK_SECONDS);
+				return;
+			}
+
+			Board newBoard = new Board(weekSong);
+			List<WeekSongScore> scores = replayRepository.findBestScoresBySong(weekSong.getSong().getSongId(),
+				weekSong.getStartDate(), weekSong.getEndDate());
+			for (WeekSongScore score : scores) {
+				newBoard.offer(score.getUserId(), score.getUsername(), score.getScore());
+			}
+			board = newBoard;
+			nextReloadAt = null;
+			log.info("이주의 곡 랭킹 - 적재 완료: weekId={}, userCount={}", weekSong.getWeekId(), scores.size());
+			publishIfTopChanged(newBoard);
+		} catch (Exception e) {
+			log.error("이주의 곡 랭킹 - 적재 실패: error={}", e.getMessage());
+			nextReloadAt = LocalDateTime.now().plusSeconds(EMPTY_RECHECK_SECONDS);
+		}
+	}
+
+	/**
+	 * 메모리에 있는 이주의 곡 상위 10명
+	 * @return 적재 전이거나 이주의 곡이 없으면 null (DB 조회로 대체)
+	 */
+	public GetWeekSongRankingResponseDto getRanking() {
+		Board current = currentBoard();
+		if (current == null) {
+			return null;
+		}
+		List<WeekSongUserInfo> userInfo = new ArrayList<>(TOP_SIZE);
+		for (WeekSongScore score : current.top(TOP_SIZE)) {
+			userInfo.add(new WeekSongUserInfo(score.getUsername(), score.getScore()));
+		}
+		return new GetWeekSongRankingResponseDto(current.weekSong.getSong(), userInfo);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleReplayCreated(ReplayCreatedEvent event) {
+		Board current = currentBoard();
+		if (current == null || !current.weekSong.getSong().getSongId().equals(event.getSongId())
+			|| !current.covers(event.getPracticeDate())) {
+			return;
+		}
+		apply(current, event.getUserId(), event.getUsername(), event.getScore());
+		try {
+			// 유저 이름에 쉼표가 들어갈 수 있으므로 마지막에 둠
+			redisTemplate.convertAndSend(CHANNEL, current.weekSong.getWeekId() + "," + event.getUserId() + ","
+				+ event.getScore() + "," + event.getUsername());
+		} catch (Exception e) {
+			log.error("이주의 곡 랭킹 - 변경 전파 실패: userId={}, error={}", event.getUserId(), e.getMessage());
+		}
+	}
+
+	private void handleRemoteUpdate(String payload) {
+		try {
+			String[] parts = payload.split(",", 4);
+			Board current = currentBoard();
+			if (current == null || !current.weekSong.getWeekId().equals(Integer.parseInt(parts[0]))) {
+				return;
+			}
+			apply(current, Integer.parseInt(parts[1]), parts[3], Integer.parseInt(parts[2]));
+		} catch (Exception e) {
+			log.error("이주의 곡 랭킹 - 변경 메시지 처리 실패: payload={}, error={}", payload, e.getMessage());
+		}
+	}
+
+	private void apply(Board current, Integer userId, String username, int score) {
+		if (current.offer(userId, username, score)) {
+			publishIfTopChanged(current);
+		}
+	}
+
+	// 주간 곡 기간이 끝났으면 새 주의 곡으로 다시 적재
+	private Board currentBoard() {
+		Board current = board;
+		if (current != null && current.covers(LocalDateTime.now())) {
+			return current;
+		}
+		reloadIfStale();
+		return board;
+	}
+
+	// 기다리는 동안 다른 요청이 이미 적재했거나, 이주의 곡이 없다고 확인한 지 얼마 안 됐으면 다시 조회하지 않음
+	private synchronized void reloadIfStale() {
+		LocalDateTime now = LocalDateTime.now();
+		Board current = board;
+		if (current != null && current.covers(now)) {
+			return;
+		}
+		LocalDateTime reloadAt = nextReloadAt;
+		if (current == null && reloadAt != null && now.isBefore(reloadAt)) {
+			return;
+		}
+		reload();
+	}
+
+	// 상위 10명이 마지막으로 보낸 목록과 다르면 바뀐 항목만 클라이언트에 전송
+	private synchronized void publishIfTopChanged(Board current) {
+		List<WeekSongScore> top = current.top(TOP_SIZE);
+		if (sameTop(lastBroadcastTop, top)) {
+			return;
+		}
+
+		Map<Integer, Integer> previousRanks = new HashMap<>();
+		Map<Integer, Integer> previousScores = new HashMap<>();
+		for (int i = 0; i < lastBroadcastTop.size(); i++) {
+			previousRanks.put(lastBroadcastTop.get(i).getUserId(), i + 1);
+			previousScores.put(lastBroadcastTop.get(i).getUserId(), lastBroadcastTop.get(i).getScore());
+		}
+
+		List<Map<String, Object>> updated = new ArrayList<>();
+		Set<Integer> currentUserIds = new HashSet<>();
+		for (int i = 0; i < top.size(); i++) {
+			WeekSongScore score = top.get(i);
+			currentUserIds.add(score.getUserId());
+			if (Objects.equals(previousRanks.get(score.getUserId()), i + 1)
+				&& Objects.equals(previousScores.get(score.getUserId()), score.getScore())) {
+				continue;
+			}
+			Map<String, Object> entry = new HashMap<>();
+			entry.put("rank", i + 1);
+			entry.put("username", score.getUsername());
+			entry.put("score", score.getScore());
+			updated.add(entry);
+		}
+
+		List<String> removed = new ArrayList<>();
+		for (WeekSongScore score : lastBroadcastTop) {
+			if (!currentUserIds.contains(score.getUserId())) {
+				removed.add(score.getUsername());
+			}
+		}
+		lastBroadcastTop = top;
+
+		Map<String, Object> message = new HashMap<>();
+		message.put("event", "weekSongRanking");
+		message.put("weekId", current.weekSong.getWeekId());
+		message.put("updated", updated);
+		message.put("removed", removed);
+		try {
+			broadcaster.execute(() -> webSocketHandler.broadcast(message));
+		} catch (RejectedExecutionException e) {
+			log.warn("이주의 곡 랭킹 - 전송 대기열 초과로 변경분을 보내지 않음: weekId={}", current.weekSong.getWeekId());
+		}
+	}
+
+	private boolean sameTop(List<WeekSongScore> previous, List<WeekSongScore> next) {
+		if (previous.size() != next.size()) {
+			return false;
+		}
+		for (int i = 0; i < previous.size(); i++) {
+			if (!previous.get(i).getUserId().equals(next.get(i).getUserId())
+				|| !previous.get(i).getScore().equals(next.get(i).getScore())) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
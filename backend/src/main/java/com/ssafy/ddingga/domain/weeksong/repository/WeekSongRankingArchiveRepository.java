@@ -0,0 +1,23 @@
+package com.ssafy.ddingga.domain.weeksong.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ssafy.ddingga.domain.weeksong.entity.WeekSongRankingArchive;
+
+@Repository
+public interface WeekSongRankingArchiveRepository extends JpaRepository<WeekSongRankingArchive, Integer> {
+
+	// 최신 주부터 (첫 페이지)
+	@Query("SELECT a FROM WeekSongRankingArchive a ORDER BY a.weekId DESC")
+	List<WeekSongRankingArchive> findFirstPage(Pageable pageable);
+
+	// 커서(마지막으로 받은 weekId) 이전 주부터
+	@Query("SELECT a FROM WeekSongRankingArchive a WHERE a.weekId < :lastWeekId ORDER BY a.weekId DESC")
+	List<WeekSongRankingArchive> findNextPage(@Param("lastWeekId") Integer lastWeekId, Pageable pageable);
+}
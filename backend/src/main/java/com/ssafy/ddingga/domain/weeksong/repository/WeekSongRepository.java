@@ -1,6 +1,7 @@
 package com.ssafy.ddingga.domain.weeksong.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,4 +17,9 @@ public interface WeekSongRepository extends JpaRepository<WeekSong, Integer> {
 	// startDate 이상이고 endDate 이하인 WeekSong을 가져오는 쿼리
 	@Query("SELECT ws FROM WeekSong ws WHERE ws.startDate <= :currentDate AND ws.endDate >= :currentDate")
 	WeekSong findByStartDateBeforeAndEndDateAfter(@Param("currentDate") LocalDateTime currentDate);
+
+	// 기간이 끝났는데 아직 랭킹이 보관되지 않은 WeekSong
+	@Query("SELECT ws FROM WeekSong ws WHERE ws.endDate < :currentDate "
+		+ "AND NOT EXISTS (SELECT a FROM WeekSongRankingArchive a WHERE a.weekId = ws.weekId)")
+	List<WeekSong> findFinishedWithoutArchive(@Param("currentDate") LocalDateTime currentDate);
 }
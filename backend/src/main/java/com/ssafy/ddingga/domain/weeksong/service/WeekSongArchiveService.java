@@ -0,0 +1,11 @@
+package com.ssafy.ddingga.domain.weeksong.service;
+
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongRankingArchivePageResponse;
+
+public interface WeekSongArchiveService {
+	// 기간이 끝난 주의 이주의 곡 랭킹을 보관 (이미 보관된 주는 건너뜀)
+	int archiveFinishedWeeks();
+
+	// 보관된 지난 주 랭킹을 최신 주부터 커서 기반으로 조회
+	WeekSongRankingArchivePageResponse getArchives(Integer cursor, int size);
+}
@@ -0,0 +1,126 @@
+package com.ssafy.ddingga.domain.weeksong.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ddingga.domain.replay.repository.ReplayRepository;
+import com.ssafy.ddingga.domain.weeksong.dto.WeekSongScore;
+import com.ssafy.ddingga.domain.weeksong.entity.WeekSong;
+import com.ssafy.ddingga.domain.weeksong.entity.WeekSongRankingArchive;
+import com.ssafy.ddingga.domain.weeksong.repository.WeekSongRankingArchiveRepository;
+import com.ssafy.ddingga.domain.weeksong.repository.WeekSongRepository;
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongRankingArchiveDto;
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongRankingArchivePageResponse;
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongUserInfo;
+import com.ssafy.ddingga.global.error.exception.ServiceException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeekSongArchiveServiceImpl implements WeekSongArchiveService {
+	private final WeekSongRepository weekSongRepository;
+	private final WeekSongRankingArchiveRepository weekSongRankingArchiveRepository;
+	private final ReplayRepository replayRepository;
+	private final ObjectMapper objectMapper;
+
+	private static final int ARCHIVE_RANKING_SIZE = 10;
+	private static final int MAX_PAGE_SIZE = 50;
+
+	@Override
+	@Transactional
+	public int archiveFinishedWeeks() {
+		List<WeekSong> finishedWeeks = weekSongRepository.findFinishedWithoutArchive(LocalDateTime.now());
+		for (WeekSong weekSong : finishedWeeks) {
+			// 리플레이 테이블은 보관 시점에 한 번만 집계
+			List<WeekSongScore> scores = new ArrayList<>(replayRepository.findBestScoresBySong(
+				weekSong.getSong().getSongId(), weekSong.getStartDate(), weekSong.getEndDate()));
+			scores.sort(Comparator.comparing(WeekSongScore::getScore, Comparator.reverseOrder())
+				.thenComparing(WeekSongScore::getUserId));
+
+			List<WeekSongUserInfo> topScores = new ArrayList<>(ARCHIVE_RANKING_SIZE);
+			for (WeekSongScore score : scores.subList(0, Math.min(ARCHIVE_RANKING_SIZE, scores.size()))) {
+				topScores.add(new WeekSongUserInfo(score.getUsername(), score.getScore()));
+			}
+
+			try {
+				weekSongRankingArchiveRepository.save(WeekSongRankingArchive.builder()
+					.weekId(weekSong.getWeekId())
+					.songId(weekSong.getSong().getSongId())
+					.songTitle(weekSong.getSong().getSongTitle())
+					.songImage(weekSong.getSong().getSongImage())
+					.startDate(weekSong.getStartDate())
+					.endDate(weekSong.getEndDate())
+					.participantCount(scores.size())
+					.rankingJson(objectMapper.writeValueAsString(topScores))
+					.archivedAt(LocalDateTime.now())
+					.build());
+			} catch (JsonProcessingException e) {
+				throw new ServiceException("이주의 곡 랭킹 보관 중 오류가 발생했습니다.", e);
+			}
+			log.info("이주의 곡 랭킹 - 보관 완료: weekId={}, participantCount={}", weekSong.getWeekId(), scores.size());
+		}
+		return finishedWeeks.size();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public WeekSongRankingArchivePageResponse getArchives(Integer cursor, int size) {
+		log.info("이주의 곡 랭킹 - 지난 랭킹 조회 요청: cursor={}, size={}", cursor, size);
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		// 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+		Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+		List<WeekSongRankingArchive> archives = cursor == null
+			? weekSongRankingArchiveRepository.findFirstPage(pageable)
+			: weekSongRankingArchiveRepository.findNextPage(cursor, pageable);
+
+		boolean hasNext = archives.size() > pageSize;
+		if (hasNext) {
+			archives = archives.subList(0, pageSize);
+		}
+
+		List<WeekSongRankingArchiveDto> result = new ArrayList<>(archives.size());
+		for (WeekSongRankingArchive archive : archives) {
+			result.add(toDto(archive));
+		}
+
+		log.info("이주의 곡 랭킹 - 지난 랭킹 조회 완료: count={}, hasNext={}", result.size(), hasNext);
+		return WeekSongRankingArchivePageResponse.builder()
+			.archives(result)
+			.nextCursor(hasNext ? archives.get(archives.size() - 1).getWeekId() : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	private WeekSongRankingArchiveDto toDto(WeekSongRankingArchive archive) {
+		try {
+			return WeekSongRankingArchiveDto.builder()
+				.weekId(archive.getWeekId())
+				.songId(archive.getSongId())
+				.songTitle(archive.getSongTitle())
+				.songImage(archive.getSongImage())
+				.startDate(archive.getStartDate())
+				.endDate(archive.getEndDate())
+				.participantCount(archive.getParticipantCount())
+				.userInfo(objectMapper.readValue(archive.getRankingJson(), new TypeReference<List<WeekSongUserInfo>>() {
+				}))
+				.build();
+		} catch (JsonProcessingException e) {
+			log.error("이주의 곡 랭킹 - 보관 데이터 변환 실패: weekId={}, error={}", archive.getWeekId(), e.getMessage());
+			throw new ServiceException("지난 랭킹 조회 중 오류가 발생했습니다.", e);
+		}
+	}
+}
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import com.ssafy.ddingga.domain.song.entity.Song;
 import com.ssafy.ddingga.domain.song.repository.SongRepository;
 import com.ssafy.ddingga.domain.weeksong.entity.WeekSong;
+import com.ssafy.ddingga.domain.weeksong.leaderboard.WeekSongLeaderboard;
 import com.ssafy.ddingga.domain.weeksong.repository.WeekSongRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -23,10 +24,23 @@ import lombok.extern.slf4j.Slf4j;
 public class WeekSongSchedulerServiceImpl implements WeekSongSchedulerService {
 	private final WeekSongRepository weekSongRepository;
 	private final SongRepository songRepository;
+	private final WeekSongLeaderboard weekSongLeaderboard;
+	private final WeekSongArchiveService weekSongArchiveService;
 
 	@Scheduled(cron = "0 0 0 * * MON")
 	public void selectWeeklySong() {
 		try {
+			// 끝난 주의 최종 랭킹 보관 (이후 지난 랭킹 조회는 리플레이 테이블을 보지 않음)
+			int archivedCount = weekSongArchiveService.archiveFinishedWeeks();
+			log.info("이주의 곡 랭킹 보관 완료: {}주", archivedCount);
+		} catch (Exception e) {
+			log.error("이주의 곡 랭킹 보관 중 오류 발생: ", e);
+		}
+
+		try {
+			// 이번 주 곡으로 실시간 랭킹 다시 적재
+			weekSongLeaderboard.reload();
+
 			// 다음 주 월요일 ~ 일요일 계산
 			LocalDateTime now = LocalDateTime.now();
 			LocalDateTime nextMonday = now.with(TemporalAdjusters.next(DayOfWeek.MONDAY))
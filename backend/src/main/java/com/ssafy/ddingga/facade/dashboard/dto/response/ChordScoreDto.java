@@ -12,4 +12,5 @@ import lombok.NoArgsConstructor;
 public class ChordScoreDto {
 	private String chordType;
 	private Integer score;
+	private Double topPercent;  // 이 코드를 연습한 유저 중 상위 몇 % 인지 (분포가 없으면 null)
 }
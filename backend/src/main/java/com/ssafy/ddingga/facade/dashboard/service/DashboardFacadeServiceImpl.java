@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.ssafy.ddingga.domain.auth.entity.User;
 import com.ssafy.ddingga.domain.auth.repository.AuthRepository;
 import com.ssafy.ddingga.domain.dashboard.service.DashboardService;
+import com.ssafy.ddingga.domain.song.distribution.ChordScoreDistributionIndex;
 import com.ssafy.ddingga.domain.song.entity.ChordScore;
 import com.ssafy.ddingga.facade.dashboard.dto.response.ChordScoreDto;
 import com.ssafy.ddingga.facade.dashboard.dto.response.DashboardResponse;
@@ -24,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 public class DashboardFacadeServiceImpl implements DashboardFacadeService {
 	private final DashboardService dashboardService;
 	private final AuthRepository authRepository;
+	private final ChordScoreDistributionIndex chordScoreDistributionIndex;
 
 	@Override
 	public DashboardResponse getDashboard(Integer userId, String username) {
@@ -52,6 +54,8 @@ public class DashboardFacadeServiceImpl implements DashboardFacadeService {
 			.map(chord -> ChordScoreDto.builder()
 				.chordType(chord.getSong().getSongTitle())
 				.score(chord.getScore())
+				.topPercent(chord.getScore() != null
+					? chordScoreDistributionIndex.topPercent(chord.getSong().getSongId(), chord.getScore()) : null)
 				.build())
 			.toList();
 		// 이번주 리플레이 조회
@@ -0,0 +1,18 @@
+package com.ssafy.ddingga.facade.rank.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingAroundResponse {
+	private String metric;                             // 랭킹 항목 (playTime, totalTry, score)
+	private Integer myRank;                            // 내 순위 (랭킹 정보가 없으면 null)
+	private List<TopRankingInfoForPlayTime> rankings;  // 내 위아래 k명을 포함한 랭킹 목록
+}
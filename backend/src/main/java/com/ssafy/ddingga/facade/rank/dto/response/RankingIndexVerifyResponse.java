@@ -0,0 +1,18 @@
+package com.ssafy.ddingga.facade.rank.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingIndexVerifyResponse {
+	private Integer checkedCount;               // 검사한 유저 수
+	private Integer mismatchCount;              // SQL 결과와 순위가 다른 유저 수
+	private List<Integer> mismatchedUserIds;    // 순위가 다른 유저 ID 목록
+}
@@ -0,0 +1,19 @@
+package com.ssafy.ddingga.facade.rank.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingPageResponse {
+	private String metric;                             // 랭킹 항목 (playTime, totalTry, score)
+	private List<TopRankingInfoForPlayTime> rankings;  // 이번 페이지 랭킹 목록
+	private String nextCursor;                         // 다음 페이지 요청 시 넘길 커서 (마지막 페이지면 null)
+	private Boolean hasNext;                           // 다음 페이지 존재 여부
+}
@@ -1,8 +1,18 @@
 package com.ssafy.ddingga.facade.rank.service;
 
-import com.ssafy.ddingga.facade.rank.dto.response.TopRankingResponse;
+import com.ssafy.ddingga.domain.rank.cache.TopRankingSnapshot;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingAroundResponse;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingIndexVerifyResponse;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingPageResponse;
 
 public interface RankingFacadeService {
-	TopRankingResponse getTop10Rankings();
+	// 미리 만들어 둔 상위 10명 응답 (JSON 바이트, ETag 포함)
+	TopRankingSnapshot getTop10RankingSnapshot(String period);
+
+	RankingPageResponse getRankingPage(String metric, String cursor, int size);
+
+	RankingAroundResponse getRankingsAroundUser(String metric, Integer userId, int k);
+
+	RankingIndexVerifyResponse verifyRankingIndex(int sampleSize);
 
 }
\ No newline at end of file
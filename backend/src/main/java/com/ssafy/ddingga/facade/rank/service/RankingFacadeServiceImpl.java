@@ -3,7 +3,15 @@ package com.ssafy.ddingga.facade.rank.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ssafy.ddingga.domain.rank.cache.TopRankingSnapshot;
+import com.ssafy.ddingga.domain.rank.cache.TopRankingSnapshotCache;
+import com.ssafy.ddingga.domain.rank.entity.RankingMetric;
+import com.ssafy.ddingga.domain.rank.entity.RankingPeriod;
+import com.ssafy.ddingga.domain.rank.service.RankingBucketService;
 import com.ssafy.ddingga.domain.rank.service.RankingService;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingAroundResponse;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingIndexVerifyResponse;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingPageResponse;
 import com.ssafy.ddingga.facade.rank.dto.response.TopRankingResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -15,12 +23,41 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class RankingFacadeServiceImpl implements RankingFacadeService {
 	private final RankingService rankingService;
+	private final RankingBucketService rankingBucketService;
+	private final TopRankingSnapshotCache topRankingSnapshotCache;
 
 	@Override
-	public TopRankingResponse getTop10Rankings() {
-		log.info("랭킹 Facade - 상위 10명 랭킹 정보 조회 요청");
-		TopRankingResponse result = rankingService.getTop10Rankings();
-		log.info("랭킹 Facade - 상위 10명 랭킹 정보 조회 완료");
+	public TopRankingSnapshot getTop10RankingSnapshot(String period) {
+		RankingPeriod rankingPeriod = RankingPeriod.fromKey(period);
+		// 랭킹이 바뀐 뒤 첫 요청에서만 응답을 새로 만듦
+		return topRankingSnapshotCache.get(rankingPeriod, () -> getTop10Rankings(rankingPeriod));
+	}
+
+	// 전체 기간은 Ranking 테이블, 일간/주간/월간은 미리 집계된 버킷에서 조회
+	private TopRankingResponse getTop10Rankings(RankingPeriod period) {
+		log.info("랭킹 Facade - 상위 10명 랭킹 정보 조회 요청: period={}", period);
+		TopRankingResponse result = period == RankingPeriod.ALL
+			? rankingService.getTop10Rankings()
+			: rankingBucketService.getTopRankings(period);
+		log.info("랭킹 Facade - 상위 10명 랭킹 정보 조회 완료: period={}", period);
 		return result;
 	}
+
+	@Override
+	public RankingPageResponse getRankingPage(String metric, String cursor, int size) {
+		log.info("랭킹 Facade - 리더보드 페이지 조회 요청: metric={}", metric);
+		return rankingService.getRankingPage(RankingMetric.fromKey(metric), cursor, size);
+	}
+
+	@Override
+	public RankingAroundResponse getRankingsAroundUser(String metric, Integer userId, int k) {
+		log.info("랭킹 Facade - 내 주변 랭킹 조회 요청: metric={}, userId={}", metric, userId);
+		return rankingService.getRankingsAroundUser(RankingMetric.fromKey(metric), userId, k);
+	}
+
+	@Override
+	public RankingIndexVerifyResponse verifyRankingIndex(int sampleSize) {
+		log.info("랭킹 Facade - 랭킹 인덱스 정합성 검사 요청");
+		return rankingService.verifyRankingIndex(sampleSize);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.ssafy.ddingga.facade.replay.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplayConfirmRequestDto {
+	@Schema(description = "업로드 슬롯 발급 시 받은 파일 키", example = "replays/1/0b8c...e1.mp4")
+	private String fileKey;
+
+	@Schema(description = "노래 ID", example = "1")
+	private Integer songId;
+
+	@Schema(description = "점수", example = "77")
+	private Integer score;
+
+	@Schema(description = "게임 모드", example = "PRACTICE")
+	private String mode;
+
+	@Schema(description = "비디오 재생 시간", example = "00:03:15")
+	private String videoTime;
+}
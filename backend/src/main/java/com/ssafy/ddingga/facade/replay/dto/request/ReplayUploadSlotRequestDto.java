@@ -0,0 +1,19 @@
+package com.ssafy.ddingga.facade.replay.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplayUploadSlotRequestDto {
+	@Schema(description = "업로드할 영상의 Content-Type (presigned PUT 요청에도 같은 값을 넣어야 함)", example = "video/mp4")
+	private String contentType;
+
+	@Schema(description = "업로드할 영상의 크기 (바이트, presigned PUT 요청의 Content-Length 와 같아야 함)", example = "10485760")
+	private Long contentLength;
+}
@@ -0,0 +1,22 @@
+package com.ssafy.ddingga.facade.replay.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplayHistoryDto {
+	private Integer replayId;
+	private Integer songId;
+	private String songTitle;
+	private Integer score;
+	private String mode;
+	private String videoPath;
+	private LocalDateTime practiceDate;
+}
@@ -0,0 +1,20 @@
+package com.ssafy.ddingga.facade.replay.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayHistoryPageResponse {
+	private List<ReplayHistoryDto> replays;  // 최근 연습한 것부터 리플레이 목록
+	private LocalDateTime nextCursorDate;    // 다음 페이지 요청 시 넘길 커서 (마지막 페이지면 null)
+	private Integer nextCursorId;            // 같은 시각 리플레이를 구분하는 커서 (마지막 페이지면 null)
+	private Boolean hasNext;                 // 다음 페이지 존재 여부
+}
@@ -1,12 +1,33 @@
 package com.ssafy.ddingga.facade.replay.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import com.ssafy.ddingga.domain.file.dto.response.PresignedUrlResponseDto;
+import com.ssafy.ddingga.facade.replay.dto.request.ReplayConfirmRequestDto;
 import com.ssafy.ddingga.facade.replay.dto.request.ReplayCreateRequestDto;
+import com.ssafy.ddingga.facade.replay.dto.request.ReplayUploadSlotRequestDto;
+import com.ssafy.ddingga.facade.replay.dto.response.ReplayHistoryPageResponse;
 import com.ssafy.ddingga.facade.replay.dto.response.ReplayResponse;
+import com.ssafy.ddingga.global.service.StoredFile;
 
 public interface ReplayFacadeService {
 	ReplayResponse getReplay(Integer userId);
 
-	void createReplay(Integer userId, ReplayCreateRequestDto requestDto);
+	ReplayHistoryPageResponse getReplayHistory(Integer userId, LocalDateTime cursorDate, Integer cursorId, int size);
+
+	// idempotencyKey 가 있으면 같은 키의 재요청은 처음 결과를 그대로 돌려줌 (null 이면 매번 새로 생성)
+	CompletableFuture<Void> createReplay(Integer userId, String idempotencyKey, ReplayCreateRequestDto requestDto);
+
+	PresignedUrlResponseDto createUploadSlot(Integer userId, ReplayUploadSlotRequestDto requestDto);
+
+	void confirmReplay(Integer userId, ReplayConfirmRequestDto requestDto);
 
 	void deleteReplay(Integer replayId, Integer userId);
+
+	StoredFile getReplayVideo(Integer replayId, Integer userId);
+
+	InputStream openReplayVideo(StoredFile video, long start, long end) throws IOException;
 }
@@ -1,14 +1,30 @@
 package com.ssafy.ddingga.facade.replay.service;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.ssafy.ddingga.common.util.ContentHashes;
+import com.ssafy.ddingga.domain.file.dto.response.PresignedUrlResponseDto;
+import com.ssafy.ddingga.domain.replay.entity.Replay;
 import com.ssafy.ddingga.domain.replay.service.ReplayService;
+import com.ssafy.ddingga.facade.replay.dto.request.ReplayConfirmRequestDto;
 import com.ssafy.ddingga.facade.replay.dto.request.ReplayCreateRequestDto;
+import com.ssafy.ddingga.facade.replay.dto.request.ReplayUploadSlotRequestDto;
 import com.ssafy.ddingga.facade.replay.dto.response.ReplayDto;
+import com.ssafy.ddingga.facade.replay.dto.response.ReplayHistoryPageResponse;
 import com.ssafy.ddingga.facade.replay.dto.response.ReplayResponse;
+import com.ssafy.ddingga.global.error.exception.FileUploadException;
+import com.ssafy.ddingga.global.error.exception.NotFoundException;
+import com.ssafy.ddingga.global.service.IdempotencyService;
+import com.ssafy.ddingga.global.service.StorageService;
+import com.ssafy.ddingga.global.service.StoredFile;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,7 +32,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Transactional
 public class ReplayFacadeServiceImpl implements ReplayFacadeService {
+	private static final String IDEMPOTENCY_SCOPE = "replay:create";
+
 	private final ReplayService replayService;
+	private final StorageService storageService;
+	private final IdempotencyService idempotencyService;
 
 	@Override
 	public ReplayResponse getReplay(Integer userId) {
@@ -29,12 +49,90 @@ public class ReplayFacadeServiceImpl implements ReplayFacadeService {
 	}
 
 	@Override
-	public void createReplay(Integer userId, ReplayCreateRequestDto requestDto) {
-		replayService.createReplay(userId, requestDto);
+	@Transactional(readOnly = true)
+	public ReplayHistoryPageResponse getReplayHistory(Integer userId, LocalDateTime cursorDate, Integer cursorId,
+		int size) {
+		return replayService.getReplayHistory(userId, cursorDate, cursorId, size);
+	}
+
+	// 영상 해시 계산과 업로드는 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 진행 (등록은 ReplayService 가 따로 커밋)
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CompletableFuture<Void> createReplay(Integer userId, String idempotencyKey,
+		ReplayCreateRequestDto requestDto) {
+		// 영상은 여기서 한 번만 읽고, 그 SHA-256 을 요청 지문과 중복 제거 키에 함께 사용
+		String contentHash = contentHashOf(requestDto.getVideoFile());
+		if (idempotencyKey == null) {
+			return replayService.createReplay(userId, requestDto, contentHash).thenApply(replay -> null);
+		}
+
+		// 재시도 요청이면 업로드와 랭킹 반영 없이 첫 요청의 결과로 응답
+		String requestHash = requestHashOf(requestDto, contentHash);
+		String previousReplayId = idempotencyService.begin(IDEMPOTENCY_SCOPE, userId, idempotencyKey, requestHash);
+		if (previousReplayId != null) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		CompletableFuture<Replay> future;
+		try {
+			future = replayService.createReplay(userId, requestDto, contentHash);
+		} catch (RuntimeException e) {
+			idempotencyService.release(IDEMPOTENCY_SCOPE, userId, idempotencyKey);
+			throw e;
+		}
+		return future.whenComplete((replay, error) -> {
+			if (error != null) {
+				idempotencyService.release(IDEMPOTENCY_SCOPE, userId, idempotencyKey);
+			} else {
+				idempotencyService.complete(IDEMPOTENCY_SCOPE, userId, idempotencyKey, requestHash,
+					String.valueOf(replay.getReplayId()));
+			}
+		}).thenApply(replay -> null);
+	}
+
+	private String contentHashOf(MultipartFile videoFile) {
+		if (videoFile == null) {
+			throw new IllegalArgumentException("영상 파일이 필요합니다.");
+		}
+		try {
+			return ContentHashes.sha256(videoFile);
+		} catch (IOException e) {
+			throw new FileUploadException("영상 파일을 읽을 수 없습니다.", e);
+		}
+	}
+
+	// 요청 필드와 영상 내용 SHA-256 의 SHA-256 (같은 멱등 키로 다른 요청을 보냈는지 확인)
+	private String requestHashOf(ReplayCreateRequestDto requestDto, String contentHash) {
+		return ContentHashes.sha256(requestDto.getSongId() + "|" + requestDto.getScore() + "|"
+			+ requestDto.getMode() + "|" + requestDto.getVideoTime() + "|" + contentHash);
+	}
+
+	@Override
+	public PresignedUrlResponseDto createUploadSlot(Integer userId, ReplayUploadSlotRequestDto requestDto) {
+		return replayService.createUploadSlot(userId, requestDto.getContentType(), requestDto.getContentLength());
+	}
+
+	@Override
+	public void confirmReplay(Integer userId, ReplayConfirmRequestDto requestDto) {
+		replayService.confirmReplay(userId, requestDto);
 	}
 
 	@Override
 	public void deleteReplay(Integer replayId, Integer userId) {
 		replayService.deleteReplay(replayId, userId);
 	}
+
+	@Override
+	public StoredFile getReplayVideo(Integer replayId, Integer userId) {
+		StoredFile video = storageService.stat(replayService.getReplayVideoKey(replayId, userId));
+		if (video == null) {
+			throw new NotFoundException("리플레이 영상을 찾을 수 없습니다.");
+		}
+		return video;
+	}
+
+	@Override
+	public InputStream openReplayVideo(StoredFile video, long start, long end) throws IOException {
+		return storageService.openRange(video.getFileKey(), start, end);
+	}
 }
@@ -0,0 +1,18 @@
+package com.ssafy.ddingga.facade.uploadfile.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUrlBatchRequestDto {
+	@Schema(description = "Presigned URL 을 발급받을 파일 키 목록 (최대 100개)", example = "[\"replays/1/a.mp4\", \"profileImages/b.png\"]")
+	private List<String> fileKeys;
+}
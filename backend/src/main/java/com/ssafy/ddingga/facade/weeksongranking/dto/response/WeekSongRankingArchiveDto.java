@@ -0,0 +1,24 @@
+package com.ssafy.ddingga.facade.weeksongranking.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeekSongRankingArchiveDto {
+	private Integer weekId;
+	private Integer songId;
+	private String songTitle;
+	private String songImage;
+	private LocalDateTime startDate;
+	private LocalDateTime endDate;
+	private Integer participantCount;      // 해당 주에 이 곡을 연습한 유저 수
+	private List<WeekSongUserInfo> userInfo;   // 최종 상위 랭킹 (점수 내림차순)
+}
@@ -0,0 +1,18 @@
+package com.ssafy.ddingga.facade.weeksongranking.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeekSongRankingArchivePageResponse {
+	private List<WeekSongRankingArchiveDto> archives;  // 최신 주부터 지난 주 랭킹 목록
+	private Integer nextCursor;                        // 다음 페이지 요청 시 넘길 커서 (마지막 페이지면 null)
+	private Boolean hasNext;                           // 다음 페이지 존재 여부
+}
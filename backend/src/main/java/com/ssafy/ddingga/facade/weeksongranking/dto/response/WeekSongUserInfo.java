@@ -13,5 +13,5 @@ import lombok.Setter;
 @Builder
 public class WeekSongUserInfo {
 	private String username;
-	private int score;
+	private Integer score;  // 이번 주 해당 곡 최고 점수
 }
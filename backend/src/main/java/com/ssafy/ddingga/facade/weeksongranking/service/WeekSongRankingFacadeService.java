@@ -1,7 +1,10 @@
 package com.ssafy.ddingga.facade.weeksongranking.service;
 
 import com.ssafy.ddingga.facade.weeksongranking.dto.response.GetWeekSongRankingResponseDto;
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongRankingArchivePageResponse;
 
 public interface WeekSongRankingFacadeService {
 	GetWeekSongRankingResponseDto getWeekSongRanking();
+
+	WeekSongRankingArchivePageResponse getWeekSongRankingArchives(Integer cursor, int size);
 }
@@ -11,14 +11,20 @@ import org.springframework.context.annotation.Configuration;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 @Slf4j
 public class S3Config {
 	private static final Logger logger = LoggerFactory.getLogger(S3Config.class);
+	private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
 
 	@Value("${spring.cloud.aws.credentials.access-key}")
 	private String accessKey;
@@ -29,6 +35,21 @@ public class S3Config {
 	@Value("${spring.cloud.aws.region.static}")
 	private String region;
 
+	@Value("${s3.async.max-in-flight:32}")
+	private int asyncMaxConcurrency;
+
+	@Value("${s3.multipart.threshold-bytes:16777216}")
+	private long multipartThresholdBytes;
+
+	@Value("${s3.multipart.part-size-bytes:8388608}")
+	private long multipartPartSizeBytes;
+
+	@Value("${s3.multipart.concurrency:4}")
+	private int multipartConcurrency;
+
+	@Value("${s3.multipart.max-retries:3}")
+	private int multipartMaxRetries;
+
 	@Bean
 	public S3Client s3Client() {
 		AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
@@ -40,4 +61,45 @@ public class S3Config {
 				.connectionTimeout(Duration.ofMinutes(1)))  // 연결 타임아웃 1분
 			.build();
 	}
+
+	// 비동기 업로드/삭제용 클라이언트, Netty 이벤트 루프에서 처리해서 요청 스레드를 붙잡지 않음
+	// 동기 업로드(S3MultipartUploader)와 같은 기준으로 큰 파일은 멀티파트로 올리고, 실패한 파트 요청만 다시 시도함
+	@Bean(destroyMethod = "close")
+	public S3AsyncClient s3AsyncClient() {
+		AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+		return S3AsyncClient.builder()
+			.region(Region.of(region))
+			.credentialsProvider(StaticCredentialsProvider.create(credentials))
+			.httpClientBuilder(NettyNioAsyncHttpClient.builder()
+				.maxConcurrency(asyncMaxConcurrency)
+				.readTimeout(Duration.ofMinutes(5))
+				.connectionTimeout(Duration.ofMinutes(1)))
+			.overrideConfiguration(override -> override
+				.retryPolicy(RetryPolicy.builder().numRetries(multipartMaxRetries).build()))
+			.multipartEnabled(true)
+			.multipartConfiguration(multipartConfiguration(multipartThresholdBytes, multipartPartSizeBytes,
+				multipartConcurrency))
+			.build();
+	}
+
+	// 한 업로드가 메모리에 들고 있는 파트는 동시에 올리는 파트 수 만큼으로 제한 (S3 최소 파트 크기 5MB)
+	public static MultipartConfiguration multipartConfiguration(long thresholdBytes, long partSizeBytes,
+		int concurrency) {
+		long partSize = Math.max(partSizeBytes, MIN_PART_SIZE);
+		return MultipartConfiguration.builder()
+			.thresholdInBytes(Math.max(thresholdBytes, partSize))
+			.minimumPartSizeInBytes(partSize)
+			.apiCallBufferSizeInBytes(partSize * Math.max(concurrency, 1))
+			.build();
+	}
+
+	// presigner 는 생성 비용이 커서 하나를 만들어 재사용하고, 종료 시 close
+	@Bean(destroyMethod = "close")
+	public S3Presigner s3Presigner() {
+		AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+		return S3Presigner.builder()
+			.region(Region.of(region))
+			.credentialsProvider(StaticCredentialsProvider.create(credentials))
+			.build();
+	}
 }
\ No newline at end of file
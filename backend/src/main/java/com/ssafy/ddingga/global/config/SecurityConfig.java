@@ -1,5 +1,8 @@
 package com.ssafy.ddingga.global.config;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -18,10 +21,23 @@ import com.ssafy.ddingga.global.security.jwt.JwtAuthenticationFilter;
 // WebSecurity 활성화 아노테이션
 @EnableWebSecurity
 public class SecurityConfig {
+	private static final String LOCAL_FILE_PATH = "/api/storage/files/";
+
+	// 인증 없이 볼 수 있는 저장소 경로 (프로필 이미지)
+	@Value("${storage.presign.public-prefixes:profile/,profileImages/}")
+	private List<String> publicPrefixes;
+
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws
 		Exception {
 
+		// 로컬 저장소 파일은 공개 경로만 인증 없이 허용 (빈 패턴으로 부르면 모든 GET 이 열리므로 경로가 있을 때만)
+		String[] publicFilePatterns = publicLocalFilePatterns();
+		if (publicFilePatterns.length > 0) {
+			http.authorizeHttpRequests((auth) -> auth
+				.requestMatchers(HttpMethod.GET, publicFilePatterns).permitAll());
+		}
+
 		http
 			.cors(cors -> cors.configure(http))
 			.csrf(csrf -> csrf.disable())
@@ -43,6 +59,7 @@ public class SecurityConfig {
 					"/api/weekSong/ranking"
 				).permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/article", "/api/article/**").permitAll()  // GET 요청만 허용
+				.requestMatchers("/api/rank/index/verify").hasRole("ADMIN")  // 전체 인덱스 검사는 관리자만
 				.anyRequest().authenticated()
 			);
 		http
@@ -54,6 +71,15 @@ public class SecurityConfig {
 		return http.build();
 	}
 
+	// 공개 경로마다 /api/storage/files/{경로}** (리플레이 영상 등 나머지는 인증 후 컨트롤러가 다시 확인)
+	private String[] publicLocalFilePatterns() {
+		return publicPrefixes.stream()
+			.map(String::trim)
+			.filter(prefix -> !prefix.isEmpty())
+			.map(prefix -> LOCAL_FILE_PATH + (prefix.endsWith("/") ? prefix : prefix + "/") + "**")
+			.toArray(String[]::new);
+	}
+
 	// 비밀번호 암호화
 	@Bean
 	public PasswordEncoder passwordEncoder() {
@@ -1,16 +1,59 @@
 package com.ssafy.ddingga.global.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
 @Configuration
 public class WebMVCConfig implements WebMvcConfigurer {
 
 	@Value("${spring.profiles.active}")
 	private String activeProfile;
 
+	@Value("${spring.mvc.async.request-timeout:120s}")
+	private Duration asyncRequestTimeout;
+
+	@Value("${streaming.executor.pool-size:16}")
+	private int streamingPoolSize;
+
+	@Value("${streaming.executor.queue-capacity:32}")
+	private int streamingQueueCapacity;
+
+	// StreamingResponseBody(리플레이 영상 스트리밍) 전용 실행기
+	// 빈으로 등록하면 스프링 부트 기본 작업 실행기가 만들어지지 않으므로 여기서 직접 생성하고 종료함
+	private ThreadPoolTaskExecutor streamingExecutor;
+
+	@PostConstruct
+	public void initStreamingExecutor() {
+		// 스레드와 대기열이 모두 차면 바로 거절해서 느린 클라이언트가 서버 스레드를 무한정 점유하지 못하게 함
+		streamingExecutor = new ThreadPoolTaskExecutor();
+		streamingExecutor.setThreadNamePrefix("mvc-streaming-");
+		streamingExecutor.setCorePoolSize(streamingPoolSize);
+		streamingExecutor.setMaxPoolSize(streamingPoolSize);
+		streamingExecutor.setQueueCapacity(streamingQueueCapacity);
+		streamingExecutor.setWaitForTasksToCompleteOnShutdown(false);
+		streamingExecutor.initialize();
+	}
+
+	@PreDestroy
+	public void shutdownStreamingExecutor() {
+		streamingExecutor.shutdown();
+	}
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setTaskExecutor(streamingExecutor);
+		configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+	}
+
 	@Override
 	public void addCorsMappings(CorsRegistry registry) {
 		registry.addMapping("/**")
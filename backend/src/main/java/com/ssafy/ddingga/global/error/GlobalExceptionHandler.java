@@ -14,6 +14,7 @@ import com.ssafy.ddingga.global.error.dto.ErrorResponse;
 import com.ssafy.ddingga.global.error.exception.DatabaseException;
 import com.ssafy.ddingga.global.error.exception.DuplicateException;
 import com.ssafy.ddingga.global.error.exception.FileUploadException;
+import com.ssafy.ddingga.global.error.exception.IdempotencyKeyMismatchException;
 import com.ssafy.ddingga.global.error.exception.InvalidPasswordException;
 import com.ssafy.ddingga.global.error.exception.InvalidTokenException;
 import com.ssafy.ddingga.global.error.exception.NotFoundException;
@@ -81,6 +82,19 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
 	}
 
+	/**
+	 * 같은 멱등 키로 다른 요청을 보낸 경우 (422 Unprocessable Entity)
+	 */
+	@ExceptionHandler(IdempotencyKeyMismatchException.class)
+	public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException e) {
+		ErrorResponse response = new ErrorResponse(
+			e.getMessage(),
+			"Unprocessable Entity",
+			HttpStatus.UNPROCESSABLE_ENTITY.value()
+		);
+		return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+	}
+
 	/**
 	 * 잘못된 요청 예외 처리 (400 Bad Request)
 	 */
@@ -0,0 +1,8 @@
+package com.ssafy.ddingga.global.error.exception;
+
+// 같은 Idempotency-Key 로 내용이 다른 요청을 보낸 경우
+public class IdempotencyKeyMismatchException extends RuntimeException {
+	public IdempotencyKeyMismatchException(String message) {
+		super(message);
+	}
+}
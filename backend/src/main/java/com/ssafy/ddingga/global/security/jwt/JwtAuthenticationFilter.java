@@ -1,15 +1,23 @@
 package com.ssafy.ddingga.global.security.jwt;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.ssafy.ddingga.domain.auth.entity.User;
 import com.ssafy.ddingga.domain.auth.repository.AuthRepository;
 
 import jakarta.servlet.FilterChain;
@@ -29,6 +37,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private final AuthRepository authRepository;
 	private final JwtProperties jwtProperties;
 
+	// 관리자 API 를 쓸 수 있는 로그인 ID (User 에 권한 컬럼이 생기기 전까지 설정으로 지정)
+	@Value("${security.admin-login-ids:}")
+	private Set<String> adminLoginIds;
+
 	private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
 	@Override
@@ -51,7 +63,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 							new UsernamePasswordAuthenticationToken(
 								user,
 								null,
-								user.getAuthorities()
+								authoritiesOf(user)
 							);
 						SecurityContextHolder.getContext().setAuthentication(authentication);
 					});
@@ -62,6 +74,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	private Collection<GrantedAuthority> authoritiesOf(User user) {
+		List<GrantedAuthority> authorities = new ArrayList<>(user.getAuthorities());
+		if (adminLoginIds.contains(user.getLoginId())) {
+			authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+		}
+		return authorities;
+	}
+
 	private String extractJwtFromRequest(HttpServletRequest request) {
 		String bearerToken = request.getHeader(jwtProperties.getHeaderString());
 		if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(jwtProperties.getTokenPrefix())) {
@@ -0,0 +1,232 @@
+package com.ssafy.ddingga.global.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ssafy.ddingga.common.util.ContentHashes;
+import com.ssafy.ddingga.domain.file.service.FileContentService;
+import com.ssafy.ddingga.domain.file.service.FileDeletionService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내용 기준 중복 제거 저장소 (StorageService 를 주입받는 곳에 기본으로 들어감)
+ * 업로드 파일의 SHA-256 을 구해서 같은 내용이 이미 있으면 업로드 없이 기존 파일 URL 을 돌려주고 참조 수만 늘림
+ * 호출한 쪽이 이미 SHA-256 을 구했으면 그 값을 받아서 파일을 다시 읽지 않음
+ * 새 파일은 {디렉토리}/{해시 앞 2자리}/{해시}.{확장자} 키로 저장하므로 동시에 같은 파일을 올려도 같은 객체를 덮어씀
+ * 삭제는 참조 수를 줄이고 마지막 참조일 때만 삭제 대기열에 넣음 (실제 삭제는 FileDeletionWorker)
+ * 참조 수는 업로드 즉시 커밋되므로, 호출한 쪽 트랜잭션이 롤백되면 그 참조를 다시 해제함
+ * 같은 내용의 파일을 저장소에서 지우는 중이면 인덱스에 올리지 않고 별도 키로 저장함 (참조 관리 없이 바로 삭제 대상)
+ */
+@Slf4j
+@Service
+@Primary
+public class ContentAddressedStorageService implements StorageService {
+	private final StorageService backend;
+	private final FileContentService fileContentService;
+	private final FileDeletionService fileDeletionService;
+
+	public ContentAddressedStorageService(@Qualifier(StorageService.BACKEND) StorageService backend,
+		FileContentService fileContentService, FileDeletionService fileDeletionService) {
+		this.backend = backend;
+		this.fileContentService = fileContentService;
+		this.fileDeletionService = fileDeletionService;
+	}
+
+	@Override
+	public String upload(MultipartFile file, String dirName) throws IOException {
+		String contentHash = ContentHashes.sha256(file);
+		String existingKey = fileContentService.acquire(contentHash);
+		if (existingKey != null) {
+			releaseOnRollback(existingKey);
+			return backend.getFileUrl(existingKey);
+		}
+
+		String fileKey = contentKey(dirName, contentHash, file.getOriginalFilename());
+		backend.uploadTo(file, fileKey);
+		String registeredKey = register(contentHash, fileKey, file);
+		releaseOnRollback(registeredKey);
+		return backend.getFileUrl(registeredKey);
+	}
+
+	@Override
+	public CompletableFuture<String> uploadAsync(MultipartFile file, String dirName) {
+		String contentHash;
+		try {
+			contentHash = ContentHashes.sha256(file);
+		} catch (IOException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		return uploadAsync(file, dirName, contentHash);
+	}
+
+	@Override
+	public CompletableFuture<String> uploadAsync(MultipartFile file, String dirName, String contentHash) {
+		String existingKey = fileContentService.acquire(contentHash);
+		if (existingKey != null) {
+			releaseOnRollback(existingKey);
+			return CompletableFuture.completedFuture(backend.getFileUrl(existingKey));
+		}
+
+		String fileKey = contentKey(dirName, contentHash, file.getOriginalFilename());
+		return backend.uploadToAsync(file, fileKey)
+			.thenApply(url -> backend.getFileUrl(register(contentHash, fileKey, file)));
+	}
+
+	// 키를 지정한 업로드는 중복 제거 대상이 아님
+	@Override
+	public String uploadTo(MultipartFile file, String fileKey) throws IOException {
+		return backend.uploadTo(file, fileKey);
+	}
+
+	@Override
+	public String uploadBytes(byte[] data, String contentType, String fileKey) throws IOException {
+		return backend.uploadBytes(data, contentType, fileKey);
+	}
+
+	@Override
+	public CompletableFuture<String> uploadToAsync(MultipartFile file, String fileKey) {
+		return backend.uploadToAsync(file, fileKey);
+	}
+
+	// 호출한 쪽 트랜잭션 안에서 참조 해제와 삭제 예약을 함께 기록하므로, 저장소 지연이나 실패가 트랜잭션에 영향을 주지 않음
+	@Override
+	public void delete(String fileKey) {
+		// 크기별 프로필 이미지는 DB 에 기본 크기 URL 만 있으므로 모든 크기를 함께 삭제
+		for (String key : ImageRenditionService.renditionKeysOf(fileKey)) {
+			if (fileContentService.release(key)) {
+				fileDeletionService.enqueue(key);
+			} else {
+				log.info("다른 곳에서 참조 중인 파일이라 삭제하지 않음: fileKey={}", key);
+			}
+		}
+	}
+
+	// 저장소에서 바로 지우지 않고 파일마다 참조를 해제 (다른 곳에서 쓰는 파일을 지우지 않도록)
+	// 실제 저장소 삭제는 FileDeletionWorker 가 저장소 구현체의 deleteAll 로 처리하므로 실패 목록은 항상 비어 있음
+	@Override
+	public List<String> deleteAll(List<String> fileKeys) {
+		for (String fileKey : fileKeys) {
+			delete(fileKey);
+		}
+		return List.of();
+	}
+
+	@Override
+	public StoredFile stat(String fileKey) {
+		return backend.stat(fileKey);
+	}
+
+	@Override
+	public InputStream openRange(String fileKey, long start, long end) throws IOException {
+		return backend.openRange(fileKey, start, end);
+	}
+
+	@Override
+	public String getFileUrl(String fileKey) {
+		return backend.getFileUrl(fileKey);
+	}
+
+	@Override
+	public String extractFileKey(String fileUrl) {
+		return backend.extractFileKey(fileUrl);
+	}
+
+	// 인덱스에 등록, 같은 내용이 다른 디렉토리로 먼저 등록됐으면 방금 올린 파일은 지우고 먼저 등록된 키 사용
+	private String register(String contentHash, String fileKey, MultipartFile file) {
+		String registeredKey = fileContentService.register(contentHash, fileKey, file.getSize(),
+			file.getContentType());
+		if (registeredKey == null) {
+			return uploadDetached(fileKey, file);
+		}
+		if (!registeredKey.equals(fileKey)) {
+			fileDeletionService.enqueue(fileKey);
+			return registeredKey;
+		}
+
+		// 업로드와 등록 사이에 같은 키의 예전 삭제 예약이 처리됐으면 방금 올린 파일이 지워졌을 수 있음
+		// 등록이 커밋된 뒤로는 삭제 작업이 이 파일을 건너뛰므로, 지금 없으면 한 번 더 올림
+		try {
+			if (backend.stat(fileKey) == null) {
+				log.warn("업로드 직후 삭제된 파일 다시 업로드: fileKey={}", fileKey);
+				backend.uploadTo(file, fileKey);
+			}
+		} catch (IOException e) {
+			fileContentService.releaseUnused(fileKey);
+			throw new UncheckedIOException(e);
+		}
+		return registeredKey;
+	}
+
+	// 같은 파일을 저장소에서 지우는 중이라 등록하지 못했으면, 인덱스 없이 별도 키로 다시 올림 (삭제는 바로 지우는 대상)
+	// 방금 내용 키로 올린 파일은 진행 중인 삭제가 지우지 못했을 수 있으므로 한 번 더 삭제 예약
+	private String uploadDetached(String fileKey, MultipartFile file) {
+		fileDeletionService.enqueue(fileKey);
+		String detachedKey = detachedKey(fileKey);
+		log.warn("삭제 중인 파일과 같은 내용, 별도 키로 업로드: fileKey={}, detachedKey={}", fileKey, detachedKey);
+		try {
+			backend.uploadTo(file, detachedKey);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return detachedKey;
+	}
+
+	// 호출한 쪽 트랜잭션이 롤백되면 이미 커밋된 참조를 해제 (트랜잭션 밖이면 호출한 쪽이 직접 delete 해야 함)
+	private void releaseOnRollback(String fileKey) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_ROLLED_BACK) {
+					return;
+				}
+				try {
+					fileContentService.releaseUnused(fileKey);
+				} catch (Exception e) {
+					log.error("롤백된 업로드의 파일 참조 해제 실패: fileKey={}, error={}", fileKey, e.getMessage());
+				}
+			}
+		});
+	}
+
+	private String contentKey(String dirName, String contentHash, String originalFilename) {
+		return dirName + "/" + contentHash.substring(0, 2) + "/" + contentHash + extensionOf(originalFilename);
+	}
+
+	// {디렉토리}/{해시 앞 2자리}/{해시}-{UUID}.{확장자}
+	private String detachedKey(String fileKey) {
+		int dot = fileKey.lastIndexOf('.');
+		if (dot < fileKey.lastIndexOf('/')) {
+			dot = -1;
+		}
+		String suffix = "-" + UUID.randomUUID();
+		return dot < 0 ? fileKey + suffix : fileKey.substring(0, dot) + suffix + fileKey.substring(dot);
+	}
+
+	// 원래 파일명의 확장자 (영문, 숫자가 아니면 생략)
+	private String extensionOf(String originalFilename) {
+		if (originalFilename == null) {
+			return "";
+		}
+		int dot = originalFilename.lastIndexOf('.');
+		if (dot < 0) {
+			return "";
+		}
+		String extension = originalFilename.substring(dot + 1);
+		return extension.matches("[a-zA-Z0-9]{1,10}") ? "." + extension.toLowerCase() : "";
+	}
+}
@@ -0,0 +1,121 @@
+package com.ssafy.ddingga.global.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ssafy.ddingga.domain.file.dto.FilePurgeResult;
+import com.ssafy.ddingga.domain.file.entity.FileDeletion;
+import com.ssafy.ddingga.domain.file.service.FileDeletionService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제 대기열(FileDeletion)을 주기적으로 비우는 작업
+ * 최대 1000개씩 모아서 저장소에 한 번에 삭제 요청하고, 실패한 항목만 재시도 간격을 늘려 다시 예약함
+ * 지울 키를 짧은 트랜잭션으로 선점한 뒤 트랜잭션 밖에서 저장소를 호출하므로, 그동안 같은 파일을 다시 올리는 요청은 새 파일로 처리됨
+ * 여러 서버가 같은 항목을 동시에 지워도 삭제는 멱등이라 문제 없음
+ */
+@Slf4j
+@Component
+public class FileDeletionWorker {
+	private static final int BATCH_SIZE = 1000;  // S3 DeleteObjects 한 번에 지울 수 있는 최대 개수
+	private static final int MAX_BATCHES_PER_RUN = 10;
+
+	private final StorageService backend;
+	private final FileDeletionService fileDeletionService;
+
+	private final Counter deletedCounter;
+	private final Counter failedCounter;
+	private final Counter skippedCounter;
+	private final Timer batchTimer;
+
+	private volatile long pendingCount;
+
+	public FileDeletionWorker(@Qualifier(StorageService.BACKEND) StorageService backend,
+		FileDeletionService fileDeletionService, MeterRegistry meterRegistry) {
+		this.backend = backend;
+		this.fileDeletionService = fileDeletionService;
+		this.deletedCounter = meterRegistry.counter("storage.deletion.deleted");
+		this.failedCounter = meterRegistry.counter("storage.deletion.failed");
+		this.skippedCounter = meterRegistry.counter("storage.deletion.skipped");
+		this.batchTimer = meterRegistry.timer("storage.deletion.batch");
+		Gauge.builder("storage.deletion.pending", this, worker -> worker.pendingCount).register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${storage.deletion.interval-ms:10000}")
+	public void drain() {
+		try {
+			for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+				List<FileDeletion> batch = fileDeletionService.findReady(BATCH_SIZE);
+				if (batch.isEmpty()) {
+					break;
+				}
+				batchTimer.record(() -> process(batch));
+				if (batch.size() < BATCH_SIZE) {
+					break;
+				}
+			}
+			pendingCount = fileDeletionService.countPending();
+		} catch (Exception e) {
+			log.error("파일 삭제 대기열 처리 실패: error={}", e.getMessage());
+		}
+	}
+
+	private void process(List<FileDeletion> batch) {
+		// 같은 파일이 여러 번 예약될 수 있으므로 키는 한 번만 요청
+		Set<String> fileKeys = new LinkedHashSet<>();
+		for (FileDeletion deletion : batch) {
+			fileKeys.add(deletion.getFileKey());
+		}
+
+		// 예약 후 같은 내용이 다시 올라와 참조된 파일은 지우지 않음
+		// 선점한 동안에는 인덱스 행이 되살아나거나 같은 키로 새로 등록되지 않으므로 그런 파일을 지우지 않음
+		Set<String> referencedKeys;
+		Set<String> failedKeys;
+		try {
+			FilePurgeResult result = fileDeletionService.purge(fileKeys, this::deleteFromStorage);
+			referencedKeys = result.getReferencedKeys();
+			failedKeys = result.getFailedKeys();
+		} catch (Exception e) {
+			log.error("파일 일괄 삭제 실패: count={}, error={}", fileKeys.size(), e.getMessage());
+			referencedKeys = Set.of();
+			failedKeys = fileKeys;
+		}
+
+		List<Long> completedIds = new ArrayList<>();
+		List<FileDeletion> failed = new ArrayList<>();
+		for (FileDeletion deletion : batch) {
+			if (failedKeys.contains(deletion.getFileKey())) {
+				failed.add(deletion);
+			} else {
+				completedIds.add(deletion.getFileDeletionId());
+			}
+		}
+		fileDeletionService.complete(completedIds);
+		if (!failed.isEmpty()) {
+			fileDeletionService.fail(failed);
+		}
+
+		int requested = fileKeys.size() - referencedKeys.size();
+		deletedCounter.increment(requested - failedKeys.size());
+		failedCounter.increment(failedKeys.size());
+		skippedCounter.increment(referencedKeys.size());
+		log.info("파일 삭제 대기열 처리: requested={}, failed={}, skipped={}", requested, failedKeys.size(),
+			referencedKeys.size());
+	}
+
+	// 저장소 오류는 예외로 던짐 (선점한 키는 지우는 중으로 남고 재시도 때 다시 선점됨)
+	private List<String> deleteFromStorage(List<String> fileKeys) {
+		return backend.deleteAll(fileKeys);
+	}
+}
@@ -0,0 +1,118 @@
+package com.ssafy.ddingga.global.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.ssafy.ddingga.global.error.exception.DuplicateException;
+import com.ssafy.ddingga.global.error.exception.IdempotencyKeyMismatchException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 헤더 처리 (Redis 에 키 -> 결과를 TTL 과 함께 저장)
+ * 처음 온 요청이 SETNX 로 PENDING 을 선점하고, 끝나면 결과로 바꿔서 재시도 요청은 같은 결과를 받음
+ * 실패하면 키를 지워서 클라이언트가 같은 키로 다시 시도할 수 있게 함
+ * 값은 {요청 해시}:{PENDING 또는 결과} 형태로 저장해서, 같은 키로 내용이 다른 요청이 오면 422 로 거절함
+ * Redis 장애 시에는 요청을 막지 않고 멱등 처리 없이 진행함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+	public static final String HEADER = "Idempotency-Key";
+
+	private static final String KEY_PREFIX = "idempotency:";
+	private static final String PENDING = "PENDING";
+	private static final int MAX_KEY_LENGTH = 100;
+
+	private final RedisTemplate<String, Object> redisTemplate;
+
+	@Value("${idempotency.pending-ttl-minutes:10}")
+	private long pendingTtlMinutes;
+
+	@Value("${idempotency.result-ttl-hours:24}")
+	private long resultTtlHours;
+
+	/**
+	 * 요청 시작, 처음 온 요청이면 null
+	 * @param requestHash 요청 내용의 해시 (같은 키의 재요청이 같은 내용인지 확인)
+	 * @return 이미 끝난 요청이면 저장된 결과
+	 * @throws DuplicateException 같은 키의 요청이 아직 처리 중인 경우
+	 * @throws IdempotencyKeyMismatchException 같은 키로 내용이 다른 요청을 보낸 경우
+	 */
+	public String begin(String scope, Integer userId, String idempotencyKey, String requestHash) {
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new IllegalArgumentException(HEADER + " 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+		}
+		String key = redisKey(scope, userId, idempotencyKey);
+		String pending = requestHash + ":" + PENDING;
+		try {
+			Boolean acquired = redisTemplate.opsForValue()
+				.setIfAbsent(key, pending, Duration.ofMinutes(pendingTtlMinutes));
+			if (Boolean.TRUE.equals(acquired)) {
+				return null;
+			}
+			Object stored = redisTemplate.opsForValue().get(key);
+			if (stored == null) {
+				// 확인 사이에 만료됨, 한 번만 다시 선점 시도
+				acquired = redisTemplate.opsForValue().setIfAbsent(key, pending, Duration.ofMinutes(pendingTtlMinutes));
+				if (Boolean.TRUE.equals(acquired)) {
+					return null;
+				}
+				stored = redisTemplate.opsForValue().get(key);
+			}
+			if (stored == null) {
+				log.info("멱등 요청 처리 중 재요청: key={}", key);
+				throw new DuplicateException("같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+			}
+
+			String value = stored.toString();
+			int separator = value.indexOf(':');
+			if (separator < 0 || !value.substring(0, separator).equals(requestHash)) {
+				log.warn("멱등 키 재사용 - 요청 내용이 다름: key={}", key);
+				throw new IdempotencyKeyMismatchException(HEADER + " 가 다른 요청에 이미 사용되었습니다.");
+			}
+			String result = value.substring(separator + 1);
+			if (PENDING.equals(result)) {
+				log.info("멱등 요청 처리 중 재요청: key={}", key);
+				throw new DuplicateException("같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+			}
+			log.info("멱등 요청 재요청 - 저장된 결과 반환: key={}, result={}", key, result);
+			return result;
+		} catch (DuplicateException | IdempotencyKeyMismatchException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("멱등 키 확인 실패 - 멱등 처리 없이 진행: key={}, error={}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	// 요청 성공, 결과를 저장해서 이후 재요청에 돌려줌
+	public void complete(String scope, Integer userId, String idempotencyKey, String requestHash, String result) {
+		String key = redisKey(scope, userId, idempotencyKey);
+		try {
+			redisTemplate.opsForValue().set(key, requestHash + ":" + result, Duration.ofHours(resultTtlHours));
+		} catch (Exception e) {
+			log.error("멱등 결과 저장 실패: key={}, error={}", key, e.getMessage());
+		}
+	}
+
+	// 요청 실패, 같은 키로 다시 시도할 수 있도록 선점을 풂
+	public void release(String scope, Integer userId, String idempotencyKey) {
+		String key = redisKey(scope, userId, idempotencyKey);
+		try {
+			redisTemplate.delete(key);
+		} catch (Exception e) {
+			log.error("멱등 키 해제 실패: key={}, error={}", key, e.getMessage());
+		}
+	}
+
+	// 키는 유저별로 나눠서 다른 유저의 키와 겹치지 않게 함
+	private String redisKey(String scope, Integer userId, String idempotencyKey) {
+		return KEY_PREFIX + scope + ":" + userId + ":" + idempotencyKey;
+	}
+}
@@ -0,0 +1,356 @@
+package com.ssafy.ddingga.global.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ssafy.ddingga.global.error.exception.ServiceException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 이미지를 정해진 크기(정사각형 JPEG)로 줄여서 여러 벌 만듦
+ * 원본은 한 번만 디코딩하고, CPU 를 많이 쓰는 작업이라 크기가 정해진 전용 스레드 풀에서 처리함
+ * 키는 profile/ 아래 {기본 키}_{크기}.jpg 로 정해져 있어서 한 크기의 URL 로 다른 크기의 URL 을 만들 수 있음
+ * DB 에는 기본 크기 URL 만 저장하므로 삭제, 고아 파일 정리는 renditionKeysOf 로 모든 크기를 함께 다룸
+ * 휴대폰 사진은 픽셀을 돌리지 않고 EXIF Orientation 으로 방향을 표시하므로, 변환한 JPEG 에는 그 방향을 적용해서 저장함
+ */
+@Slf4j
+@Service
+public class ImageRenditionService {
+	public static final List<Integer> SIZES = List.of(64, 128, 512);
+	public static final int DEFAULT_SIZE = 128;  // 응답에 기본으로 쓰는 크기
+	public static final String CONTENT_TYPE = "image/jpeg";
+	public static final String KEY_PREFIX = "profile/";
+
+	private static final int MAX_SOURCE_PIXELS = 40_000_000;  // 디코딩 전에 막는 원본 크기 (약 6300x6300)
+	private static final float JPEG_QUALITY = 0.85f;
+	private static final long TIMEOUT_SECONDS = 30;
+	private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+	@Value("${image.rendition.pool-size:2}")
+	private int poolSize;
+
+	@Value("${image.rendition.queue-size:16}")
+	private int queueSize;
+
+	private ThreadPoolExecutor executor;
+
+	@PostConstruct
+	public void init() {
+		AtomicInteger threadCount = new AtomicInteger();
+		executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueSize),
+			runnable -> {
+				Thread thread = new Thread(runnable, "image-rendition-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * 크기별 JPEG (크기 -> 바이트)
+	 * @throws IllegalArgumentException 이미지가 아니거나 너무 큰 경우
+	 */
+	public Map<Integer, byte[]> createRenditions(MultipartFile file) throws IOException {
+		Future<Map<Integer, byte[]>> future;
+		try {
+			future = executor.submit(() -> render(file));
+		} catch (RejectedExecutionException e) {
+			log.warn("이미지 처리 대기열 초과: poolSize={}, queueSize={}", poolSize, queueSize);
+			throw new ServiceException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.", e);
+		}
+
+		try {
+			return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new ServiceException("이미지 처리가 중단되었습니다.", e);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new ServiceException("이미지 처리 시간이 초과되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IllegalArgumentException illegalArgument) {
+				throw illegalArgument;
+			}
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new ServiceException("이미지 처리에 실패했습니다.", cause);
+		}
+	}
+
+	// {기본 키}_{크기}.jpg
+	public static String renditionKey(String baseKey, int size) {
+		return baseKey + "_" + size + ".jpg";
+	}
+
+	// 크기별 키 중 하나에서 기본 키를 구함, 규칙에 맞지 않으면 null
+	public static String baseKeyOf(String renditionKey) {
+		if (!renditionKey.startsWith(KEY_PREFIX)) {
+			return null;
+		}
+		for (int size : SIZES) {
+			String suffix = "_" + size + ".jpg";
+			if (renditionKey.endsWith(suffix)) {
+				return renditionKey.substring(0, renditionKey.length() - suffix.length());
+			}
+		}
+		return null;
+	}
+
+	// 크기별 키 중 하나이면 모든 크기의 키, 아니면 그 키 하나
+	public static List<String> renditionKeysOf(String fileKey) {
+		String baseKey = baseKeyOf(fileKey);
+		if (baseKey == null) {
+			return List.of(fileKey);
+		}
+		List<String> keys = new ArrayList<>(SIZES.size());
+		for (int size : SIZES) {
+			keys.add(renditionKey(baseKey, size));
+		}
+		return keys;
+	}
+
+	private Map<Integer, byte[]> render(MultipartFile file) throws IOException {
+		int orientation = readExifOrientation(file);
+		BufferedImage source = decode(file);
+		BufferedImage square = cropSquare(source);
+
+		// 큰 크기부터 만들고 다음 크기는 바로 앞 결과에서 줄여서 계산량을 줄임
+		// 가운데 정사각형 자르기는 회전/뒤집기와 순서를 바꿔도 같으므로, 방향은 가장 큰 결과에만 한 번 적용
+		Map<Integer, byte[]> renditions = new LinkedHashMap<>();
+		BufferedImage previous = square;
+		for (int i = SIZES.size() - 1; i >= 0; i--) {
+			int size = SIZES.get(i);
+			BufferedImage resized = resize(previous, size);
+			if (previous == square) {
+				resized = orient(resized, orientation);
+			}
+			renditions.put(size, encodeJpeg(resized));
+			previous = resized;
+		}
+		return renditions;
+	}
+
+	// JPEG 의 APP1(Exif) 세그먼트에서 Orientation(1~8) 값을 읽음, 없거나 JPEG 이 아니면 1 (그대로)
+	private int readExifOrientation(MultipartFile file) throws IOException {
+		try (InputStream inputStream = file.getInputStream()) {
+			if (readUnsignedShort(inputStream) != 0xFFD8) {
+				return 1;
+			}
+			while (true) {
+				int marker = readUnsignedShort(inputStream);
+				// 마커가 아니거나 영상 데이터(SOS), 파일 끝(EOI)에 도달하면 EXIF 가 없는 것
+				if (marker < 0 || (marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+					return 1;
+				}
+				int length = readUnsignedShort(inputStream) - 2;
+				if (length < 0) {
+					return 1;
+				}
+				if (marker == 0xFFE1) {
+					int orientation = parseOrientation(inputStream.readNBytes(length));
+					if (orientation > 0) {
+						return orientation;
+					}
+				} else {
+					inputStream.skipNBytes(length);
+				}
+			}
+		} catch (java.io.EOFException e) {
+			return 1;
+		}
+	}
+
+	// "Exif\0\0" 뒤의 TIFF 헤더와 첫 번째 IFD 에서 Orientation 태그를 찾음, 없으면 0
+	private int parseOrientation(byte[] segment) {
+		byte[] exifHeader = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+		if (segment.length < exifHeader.length + 8) {
+			return 0;
+		}
+		for (int i = 0; i < exifHeader.length; i++) {
+			if (segment[i] != exifHeader[i]) {
+				return 0;
+			}
+		}
+
+		ByteBuffer tiff = ByteBuffer.wrap(segment, exifHeader.length, segment.length - exifHeader.length).slice();
+		if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+			tiff.order(ByteOrder.LITTLE_ENDIAN);
+		} else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+			return 0;
+		}
+		long ifdOffset = Integer.toUnsignedLong(tiff.getInt(4));
+		if (ifdOffset + 2 > tiff.limit()) {
+			return 0;
+		}
+		int entryCount = Short.toUnsignedInt(tiff.getShort((int)ifdOffset));
+		for (int i = 0; i < entryCount; i++) {
+			int entry = (int)ifdOffset + 2 + i * 12;
+			if (entry + 12 > tiff.limit()) {
+				return 0;
+			}
+			if (Short.toUnsignedInt(tiff.getShort(entry)) == EXIF_ORIENTATION_TAG) {
+				int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+				return orientation >= 1 && orientation <= 8 ? orientation : 0;
+			}
+		}
+		return 0;
+	}
+
+	private int readUnsignedShort(InputStream inputStream) throws IOException {
+		int high = inputStream.read();
+		int low = inputStream.read();
+		if (high < 0 || low < 0) {
+			return -1;
+		}
+		return (high << 8) | low;
+	}
+
+	// 정사각형 이미지에 EXIF 방향 적용 (2: 좌우 반전, 3: 180도, 4: 상하 반전, 5~8: 90도 단위 회전 + 반전)
+	private BufferedImage orient(BufferedImage image, int orientation) {
+		if (orientation <= 1) {
+			return image;
+		}
+		int n = image.getWidth();
+		int[] source = image.getRGB(0, 0, n, n, null, 0, n);
+		int[] target = new int[source.length];
+		for (int y = 0; y < n; y++) {
+			for (int x = 0; x < n; x++) {
+				int sourceX;
+				int sourceY;
+				switch (orientation) {
+					case 2 -> { sourceX = n - 1 - x; sourceY = y; }
+					case 3 -> { sourceX = n - 1 - x; sourceY = n - 1 - y; }
+					case 4 -> { sourceX = x; sourceY = n - 1 - y; }
+					case 5 -> { sourceX = y; sourceY = x; }
+					case 6 -> { sourceX = y; sourceY = n - 1 - x; }
+					case 7 -> { sourceX = n - 1 - y; sourceY = n - 1 - x; }
+					default -> { sourceX = n - 1 - y; sourceY = x; }
+				}
+				target[y * n + x] = source[sourceY * n + sourceX];
+			}
+		}
+		BufferedImage oriented = new BufferedImage(n, n, BufferedImage.TYPE_INT_RGB);
+		oriented.setRGB(0, 0, n, n, target, 0, n);
+		return oriented;
+	}
+
+	// 헤더로 크기를 먼저 확인한 뒤에 디코딩 (아주 큰 이미지로 메모리를 다 쓰는 것을 막음)
+	private BufferedImage decode(MultipartFile file) throws IOException {
+		try (InputStream inputStream = file.getInputStream();
+			 ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+			Iterator<ImageReader> readers = imageInputStream != null ? ImageIO.getImageReaders(imageInputStream) : null;
+			if (readers == null || !readers.hasNext()) {
+				throw new IllegalArgumentException("이미지 파일만 업로드할 수 있습니다.");
+			}
+
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(imageInputStream, true, true);
+				long pixels = (long)reader.getWidth(0) * reader.getHeight(0);
+				if (pixels > MAX_SOURCE_PIXELS) {
+					throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
+				}
+				return reader.read(0);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// 가운데 기준 정사각형으로 자름 (프로필은 원형/정사각형으로 보여줌)
+	private BufferedImage cropSquare(BufferedImage image) {
+		int side = Math.min(image.getWidth(), image.getHeight());
+		int x = (image.getWidth() - side) / 2;
+		int y = (image.getHeight() - side) / 2;
+		return image.getSubimage(x, y, side, side);
+	}
+
+	// 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄이다가 마지막에 목표 크기로 맞춤
+	private BufferedImage resize(BufferedImage image, int size) {
+		BufferedImage current = image;
+		int currentSize = image.getWidth();
+		while (currentSize / 2 >= size) {
+			currentSize /= 2;
+			current = draw(current, currentSize);
+		}
+		if (currentSize != size || current == image) {
+			current = draw(current, size);
+		}
+		return current;
+	}
+
+	// JPEG 은 투명도가 없으므로 흰 배경 위에 그림
+	private BufferedImage draw(BufferedImage image, int size) {
+		BufferedImage target = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, size, size);
+			graphics.drawImage(image, 0, 0, size, size, null);
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	private byte[] encodeJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+			writer.setOutput(imageOutputStream);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(JPEG_QUALITY);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return outputStream.toByteArray();
+	}
+}
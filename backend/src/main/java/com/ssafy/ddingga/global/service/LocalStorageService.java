@@ -0,0 +1,203 @@
+package com.ssafy.ddingga.global.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 디스크 저장소 (storage.type=local)
+ * S3 없이 한 서버에서 운영하거나 테스트할 때 사용, 파일은 LocalFileController 가 직접 내려줌
+ * 한 디렉토리에 파일이 몰리지 않도록 {디렉토리}/{uuid 앞 2자리}/{uuid 다음 2자리}/{uuid}_{파일명} 으로 저장
+ */
+@Slf4j
+@Service(StorageService.BACKEND)
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageService implements StorageService {
+	@Value("${storage.local.root-dir:./uploads}")
+	private String rootDir;
+
+	@Value("${storage.local.base-url:/api/storage/files}")
+	private String baseUrl;
+
+	private Path root;
+
+	@PostConstruct
+	public void init() throws IOException {
+		root = Paths.get(rootDir).toAbsolutePath().normalize();
+		Files.createDirectories(root);
+		log.info("로컬 저장소 사용: root={}", root);
+	}
+
+	@Override
+	public String upload(MultipartFile file, String dirName) throws IOException {
+		String uuid = UUID.randomUUID().toString().replace("-", "");
+		return uploadTo(file, dirName + "/" + uuid.substring(0, 2) + "/" + uuid.substring(2, 4) + "/" + uuid + "_"
+			+ sanitize(file.getOriginalFilename()));
+	}
+
+	@Override
+	public String uploadTo(MultipartFile file, String fileKey) throws IOException {
+		try (InputStream inputStream = file.getInputStream()) {
+			write(inputStream, fileKey);
+		}
+		return getFileUrl(fileKey);
+	}
+
+	@Override
+	public String uploadBytes(byte[] data, String contentType, String fileKey) throws IOException {
+		write(new ByteArrayInputStream(data), fileKey);
+		return getFileUrl(fileKey);
+	}
+
+	// 로컬 디스크 쓰기는 짧아서 호출 스레드에서 바로 처리
+	@Override
+	public CompletableFuture<String> uploadAsync(MultipartFile file, String dirName) {
+		try {
+			return CompletableFuture.completedFuture(upload(file, dirName));
+		} catch (IOException | RuntimeException e) {
+			log.error("로컬 저장소 업로드 실패: dirName={}, error={}", dirName, e.getMessage());
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	@Override
+	public CompletableFuture<String> uploadToAsync(MultipartFile file, String fileKey) {
+		try {
+			return CompletableFuture.completedFuture(uploadTo(file, fileKey));
+		} catch (IOException | RuntimeException e) {
+			log.error("로컬 저장소 업로드 실패: fileKey={}, error={}", fileKey, e.getMessage());
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	@Override
+	public void delete(String fileKey) {
+		Path path = resolve(fileKey);
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.error("로컬 저장소 삭제 실패: fileKey={}, error={}", fileKey, e.getMessage());
+		}
+	}
+
+	@Override
+	public List<String> deleteAll(List<String> fileKeys) {
+		List<String> failedKeys = new ArrayList<>();
+		for (String fileKey : fileKeys) {
+			Path path = resolve(fileKey);
+			if (path == null) {
+				continue;
+			}
+			try {
+				Files.deleteIfExists(path);
+			} catch (IOException e) {
+				log.error("로컬 저장소 삭제 실패: fileKey={}, error={}", fileKey, e.getMessage());
+				failedKeys.add(fileKey);
+			}
+		}
+		return failedKeys;
+	}
+
+	@Override
+	public StoredFile stat(String fileKey) {
+		Path path = resolve(fileKey);
+		if (path == null || !Files.isRegularFile(path)) {
+			return null;
+		}
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			long length = attributes.size();
+			long modified = attributes.lastModifiedTime().toMillis();
+			// 저장한 파일은 덮어쓰지 않으므로 크기와 수정 시각으로 충분히 구분됨
+			String eTag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(modified) + "\"";
+			return new StoredFile(fileKey, length, Instant.ofEpochMilli(modified), eTag, Files.probeContentType(path));
+		} catch (IOException e) {
+			log.error("로컬 저장소 파일 조회 실패: fileKey={}, error={}", fileKey, e.getMessage());
+			return null;
+		}
+	}
+
+	@Override
+	public InputStream openRange(String fileKey, long start, long end) throws IOException {
+		Path path = resolve(fileKey);
+		if (path == null) {
+			throw new IOException("잘못된 파일 키입니다: " + fileKey);
+		}
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		channel.position(start);
+		return Channels.newInputStream(channel);
+	}
+
+	@Override
+	public String getFileUrl(String fileKey) {
+		return baseUrl + "/" + fileKey;
+	}
+
+	@Override
+	public String extractFileKey(String fileUrl) {
+		String prefix = baseUrl + "/";
+		if (fileUrl == null || !fileUrl.startsWith(prefix)) {
+			return null;
+		}
+		return fileUrl.substring(prefix.length());
+	}
+
+	/**
+	 * 파일 키를 저장소 안의 경로로 변환
+	 * @return 저장소 밖을 가리키는 키면 null
+	 */
+	public Path resolve(String fileKey) {
+		Path path = root.resolve(fileKey).normalize();
+		return path.startsWith(root) && !path.equals(root) ? path : null;
+	}
+
+	// 임시 파일에 다 쓴 뒤 옮겨서, 쓰는 중인 파일이 내려가지 않게 함
+	private void write(InputStream inputStream, String fileKey) throws IOException {
+		Path target = resolve(fileKey);
+		if (target == null) {
+			throw new IllegalArgumentException("잘못된 파일 키입니다: " + fileKey);
+		}
+		Files.createDirectories(target.getParent());
+
+		Path temp = Files.createTempFile(target.getParent(), "upload", ".part");
+		try {
+			Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	// 경로 구분자나 특수문자가 파일 키에 들어가지 않도록 정리
+	private String sanitize(String originalFilename) {
+		if (originalFilename == null || originalFilename.isBlank()) {
+			return "file";
+		}
+		String name = Paths.get(originalFilename).getFileName().toString();
+		return name.replaceAll("[^a-zA-Z0-9._-]", "_");
+	}
+}
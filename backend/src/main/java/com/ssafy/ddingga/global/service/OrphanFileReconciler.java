@@ -0,0 +1,177 @@
+package com.ssafy.ddingga.global.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ssafy.ddingga.common.util.BloomFilter;
+import com.ssafy.ddingga.domain.file.dto.OrphanReconcileReport;
+import com.ssafy.ddingga.domain.file.service.FileContentService;
+import com.ssafy.ddingga.domain.file.service.FileReferenceService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * S3 고아 파일 정리
+ * 업로드는 됐지만 DB 저장이 실패해서 아무도 참조하지 않는 객체를 찾아 삭제 대기열에 넣음
+ * DB 참조 키는 Bloom filter 에 담아 메모리를 고정하고, 객체 목록은 ListObjectsV2 페이지 단위로 순회함
+ * Bloom filter 에 없는 객체만 후보가 되며, 삭제 전에 후보를 DB 에서 한 번 더 정확히 확인함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class OrphanFileReconciler {
+	private static final String LOCK_KEY = "storage:reconcile:lock";
+	private static final int CHECK_BATCH_SIZE = 1000;
+	private static final int SAMPLE_SIZE = 50;
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+
+	private final S3Service s3Service;
+	private final FileReferenceService fileReferenceService;
+	private final FileContentService fileContentService;
+	private final RedisLockService redisLockService;
+
+	@Value("${storage.reconcile.enabled:true}")
+	private boolean enabled;
+
+	@Value("${storage.reconcile.dry-run:true}")
+	private boolean dryRun;
+
+	@Value("${storage.reconcile.grace-hours:24}")
+	private long graceHours;
+
+	@Value("${storage.reconcile.prefixes:replays/,profile/,profileImages/,others/}")
+	private List<String> prefixes;
+
+	private volatile OrphanReconcileReport lastReport;
+
+	@Scheduled(cron = "${storage.reconcile.cron:0 30 4 * * *}")
+	public void scheduledReconcile() {
+		if (!enabled) {
+			return;
+		}
+		// 여러 서버 중 한 곳에서만 실행
+		String lockToken = redisLockService.tryLock(LOCK_KEY, Duration.ofHours(1));
+		if (lockToken == null) {
+			log.info("고아 파일 정리 - 다른 서버에서 실행 중이라 건너뜀");
+			return;
+		}
+		try {
+			reconcile(dryRun);
+		} catch (Exception e) {
+			log.error("고아 파일 정리 실패: error={}", e.getMessage());
+		} finally {
+			redisLockService.unlock(LOCK_KEY, lockToken);
+		}
+	}
+
+	public OrphanReconcileReport reconcile(boolean dryRun) {
+		LocalDateTime startedAt = LocalDateTime.now();
+
+		// 1. DB 참조 키를 Bloom filter 에 담음 (참조 키는 절대 후보가 되지 않음)
+		long referenceCount = fileReferenceService.countReferences();
+		BloomFilter referenced = new BloomFilter(referenceCount, FALSE_POSITIVE_RATE);
+		fileReferenceService.forEachReferencedKey(s3Service::extractFileKey, referenced::put);
+
+		// 2. 목록 조회가 시작된 시점 기준으로 유예 기간 안의 객체는 업로드 진행 중일 수 있으므로 제외
+		// 중복 제거로 오래된 객체를 재사용한 경우도 있으므로 유예 기간 안에 참조 수가 늘어난 파일도 제외
+		Instant cutoff = Instant.now().minus(Duration.ofHours(graceHours));
+		LocalDateTime referencedSince = LocalDateTime.now().minusHours(graceHours);
+		long scanned = 0;
+		long recent = 0;
+		long orphans = 0;
+		long orphanBytes = 0;
+		long scheduled = 0;
+		List<String> samples = new ArrayList<>();
+		List<S3Object> candidates = new ArrayList<>(CHECK_BATCH_SIZE);
+
+		for (String prefix : prefixes) {
+			for (S3Object object : s3Service.listFiles(prefix)) {
+				scanned++;
+				if (object.lastModified().isAfter(cutoff)) {
+					recent++;
+					continue;
+				}
+				if (referenced.mightContain(object.key())) {
+					continue;
+				}
+				candidates.add(object);
+				if (candidates.size() >= CHECK_BATCH_SIZE) {
+					long[] result = processCandidates(candidates, referencedSince, dryRun, samples);
+					orphans += result[0];
+					orphanBytes += result[1];
+					scheduled += result[2];
+					candidates.clear();
+				}
+			}
+		}
+		if (!candidates.isEmpty()) {
+			long[] result = processCandidates(candidates, referencedSince, dryRun, samples);
+			orphans += result[0];
+			orphanBytes += result[1];
+			scheduled += result[2];
+		}
+
+		OrphanReconcileReport report = OrphanReconcileReport.builder()
+			.dryRun(dryRun)
+			.startedAt(startedAt)
+			.finishedAt(LocalDateTime.now())
+			.referenceCount(referenceCount)
+			.bloomFilterBytes(referenced.sizeInBytes())
+			.scannedObjects(scanned)
+			.recentObjects(recent)
+			.orphanObjects(orphans)
+			.orphanBytes(orphanBytes)
+			.scheduledDeletions(scheduled)
+			.sampleOrphanKeys(samples)
+			.build();
+		lastReport = report;
+		log.info("고아 파일 정리 완료: {}", report);
+		return report;
+	}
+
+	public OrphanReconcileReport getLastReport() {
+		return lastReport;
+	}
+
+	// 후보를 DB 에서 정확히 확인하고 고아만 삭제 예약, [고아 수, 고아 용량, 예약 수]
+	// 파일 내용 인덱스에 참조 수가 남아 있는 고아는 참조 수를 0 으로 맞춘 뒤 예약 (그대로 두면 삭제 작업이 건너뜀)
+	private long[] processCandidates(List<S3Object> candidates, LocalDateTime referencedSince, boolean dryRun,
+		List<String> samples) {
+		List<String> keys = new ArrayList<>(candidates.size());
+		for (S3Object candidate : candidates) {
+			keys.add(candidate.key());
+		}
+		Set<String> stillReferenced = fileReferenceService.findReferencedKeys(keys, s3Service::getFileUrl);
+
+		List<String> orphanKeys = new ArrayList<>();
+		long orphanBytes = 0;
+		for (S3Object candidate : candidates) {
+			if (stillReferenced.contains(candidate.key())) {
+				continue;
+			}
+			orphanKeys.add(candidate.key());
+			orphanBytes += candidate.size() != null ? candidate.size() : 0;
+			if (samples.size() < SAMPLE_SIZE) {
+				samples.add(candidate.key());
+			}
+		}
+
+		long scheduled = 0;
+		if (!dryRun && !orphanKeys.isEmpty()) {
+			scheduled = fileContentService.releaseOrphans(orphanKeys, referencedSince).size();
+		}
+		return new long[] {orphanKeys.size(), orphanBytes, scheduled};
+	}
+}
@@ -0,0 +1,55 @@
+package com.ssafy.ddingga.global.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 서버 중 한 곳에서만 실행할 작업용 Redis 잠금
+ * 잠금 값으로 획득한 쪽의 토큰을 저장하고, 해제할 때 토큰이 같을 때만 지움
+ * 작업이 TTL 보다 오래 걸려 다른 서버가 잠금을 새로 잡은 경우에도 그 잠금을 지우지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisLockService {
+	// 값이 내 토큰일 때만 삭제 (GET 과 DEL 사이에 다른 서버가 끼어들지 못하게 한 번에 실행)
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+
+	/**
+	 * 잠금 획득 시도
+	 * @return 획득하면 해제할 때 넘길 토큰, 다른 곳에서 잡고 있으면 null
+	 */
+	public String tryLock(String key, Duration ttl) {
+		String token = UUID.randomUUID().toString();
+		Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+		return Boolean.TRUE.equals(locked) ? token : null;
+	}
+
+	/**
+	 * 내가 잡은 잠금만 해제, 이미 만료되어 다른 곳이 잡았으면 그대로 둠
+	 */
+	public void unlock(String key, String token) {
+		try {
+			Long deleted = redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+			if (deleted == null || deleted == 0) {
+				log.warn("잠금 해제 - 만료되었거나 다른 서버가 잡은 잠금이라 지우지 않음: key={}", key);
+			}
+		} catch (Exception e) {
+			// 해제에 실패해도 TTL 이 지나면 풀림
+			log.error("잠금 해제 실패: key={}, error={}", key, e.getMessage());
+		}
+	}
+}
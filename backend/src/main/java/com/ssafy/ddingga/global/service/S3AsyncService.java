@@ -0,0 +1,176 @@
+package com.ssafy.ddingga.global.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ssafy.ddingga.global.error.exception.ServiceException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * S3AsyncClient 를 쓰는 비동기 S3 업로드/삭제
+ * 요청 스레드를 S3 응답까지 붙잡지 않고 CompletableFuture 로 결과를 돌려줌
+ * 동시에 진행하는 S3 요청 수를 max-in-flight 로 제한하고, 넘치는 요청은 max-pending 까지 대기열에 둠
+ * 멀티파트 기준 이상인 파일은 클라이언트가 파트로 나눠 올림 (S3Config.s3AsyncClient 의 multipartEnabled)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3AsyncService {
+	private final S3AsyncClient s3AsyncClient;
+	private final S3Service s3Service;
+
+	@Value("${s3.async.max-in-flight:32}")
+	private int maxInFlight;
+
+	@Value("${s3.async.max-pending:256}")
+	private int maxPending;
+
+	private Semaphore inFlight;
+	private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	// 업로드 파일 스트림을 읽어 SDK 에 넘기는 스레드 (동시 업로드 수를 넘지 않음)
+	private ExecutorService streamReader;
+
+	@PostConstruct
+	public void init() {
+		inFlight = new Semaphore(maxInFlight);
+		AtomicInteger threadCount = new AtomicInteger();
+		streamReader = Executors.newFixedThreadPool(maxInFlight, runnable -> {
+			Thread thread = new Thread(runnable, "s3-async-reader-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		streamReader.shutdown();
+	}
+
+	// 파일 업로드 (지정된 디렉토리), 완료되면 파일 URL
+	public CompletableFuture<String> uploadFile(MultipartFile file, String dirName) {
+		return uploadFileTo(file, dirName + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename());
+	}
+
+	// 파일 업로드 (지정된 파일 키), 완료되면 파일 URL
+	public CompletableFuture<String> uploadFileTo(MultipartFile file, String fileKey) {
+		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+			.bucket(s3Service.getBucket())
+			.key(fileKey)
+			.contentType(file.getContentType())
+			.build();
+
+		return submit(() -> {
+			InputStream inputStream;
+			try {
+				inputStream = file.getInputStream();
+			} catch (IOException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+			return s3AsyncClient.putObject(putObjectRequest,
+					AsyncRequestBody.fromInputStream(inputStream, file.getSize(), streamReader))
+				.whenComplete((response, error) -> closeQuietly(inputStream));
+		}).handle((response, error) -> {
+			if (error != null) {
+				log.error("S3 비동기 업로드 실패: fileKey={}, error={}", fileKey, error.getMessage());
+				throw new ServiceException("파일 업로드에 실패했습니다.", error);
+			}
+			return s3Service.getFileUrl(fileKey);
+		});
+	}
+
+	// 파일 삭제
+	public CompletableFuture<Void> deleteFile(String fileKey) {
+		DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+			.bucket(s3Service.getBucket())
+			.key(fileKey)
+			.build();
+
+		return submit(() -> s3AsyncClient.deleteObject(deleteObjectRequest)).handle((response, error) -> {
+			if (error != null) {
+				log.error("S3 비동기 삭제 실패: fileKey={}, error={}", fileKey, error.getMessage());
+				throw new ServiceException("파일 삭제에 실패했습니다.", error);
+			}
+			return null;
+		});
+	}
+
+	// 자리가 있으면 바로 시작하고, 없으면 대기열에 넣었다가 앞선 요청이 끝날 때 시작
+	private <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> operation) {
+		if (inFlight.tryAcquire()) {
+			return run(operation);
+		}
+		if (pendingCount.incrementAndGet() > maxPending) {
+			pendingCount.decrementAndGet();
+			log.warn("S3 비동기 요청 대기열 초과: maxInFlight={}, maxPending={}", maxInFlight, maxPending);
+			return CompletableFuture.failedFuture(new ServiceException("S3 요청이 많아 처리할 수 없습니다."));
+		}
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		pending.add(() -> run(operation).whenComplete((value, error) -> {
+			if (error != null) {
+				result.completeExceptionally(error);
+			} else {
+				result.complete(value);
+			}
+		}));
+		drain();
+		return result;
+	}
+
+	private <T> CompletableFuture<T> run(Supplier<CompletableFuture<T>> operation) {
+		CompletableFuture<T> future;
+		try {
+			future = operation.get();
+		} catch (RuntimeException e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+		return future.whenComplete((value, error) -> {
+			inFlight.release();
+			drain();
+		});
+	}
+
+	private void drain() {
+		while (!pending.isEmpty() && inFlight.tryAcquire()) {
+			Runnable task = pending.poll();
+			if (task == null) {
+				// 다른 스레드가 먼저 꺼내 감, 새로 들어오는 요청은 스스로 drain 함
+				inFlight.release();
+				return;
+			}
+			pendingCount.decrementAndGet();
+			task.run();
+		}
+	}
+
+	private void closeQuietly(InputStream inputStream) {
+		try {
+			inputStream.close();
+		} catch (IOException e) {
+			log.warn("S3 비동기 업로드 - 스트림 닫기 실패: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package com.ssafy.ddingga.global.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * 큰 파일을 여러 파트로 나눠 병렬로 올리는 S3 멀티파트 업로더
+ * 파트는 공용 스레드 풀에서 올리고, 실패한 파트만 다시 시도하며, 끝내 실패하면 업로드를 abort 해서 미완성 파트를 남기지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3MultipartUploader {
+	private static final long MIN_PART_SIZE = 5L * 1024 * 1024;  // S3 최소 파트 크기 (마지막 파트 제외)
+	private static final long RETRY_BACKOFF_MS = 200;
+
+	private final S3Client s3Client;
+
+	@Value("${s3.multipart.threshold-bytes:16777216}")
+	private long thresholdBytes;
+
+	@Value("${s3.multipart.part-size-bytes:8388608}")
+	private long partSizeBytes;
+
+	@Value("${s3.multipart.concurrency:4}")
+	private int concurrency;
+
+	@Value("${s3.multipart.max-retries:3}")
+	private int maxRetries;
+
+	private ThreadPoolExecutor executor;
+
+	@PostConstruct
+	public void init() {
+		partSizeBytes = Math.max(partSizeBytes, MIN_PART_SIZE);
+		concurrency = Math.max(concurrency, 1);
+
+		AtomicInteger threadCount = new AtomicInteger();
+		// 큐가 가득 차면 요청 스레드가 직접 올리도록 해서 대기 파트가 끝없이 쌓이지 않게 함
+		executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(concurrency * 4),
+			runnable -> {
+				Thread thread = new Thread(runnable, "s3-multipart-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * 멀티파트 업로드 대상인지 (작은 파일은 단일 PUT 이 더 빠름)
+	 */
+	public boolean shouldUseMultipart(long size) {
+		return size >= thresholdBytes;
+	}
+
+	/**
+	 * 스트림을 파트 크기만큼 읽어 병렬로 업로드
+	 * 한 업로드가 동시에 메모리에 들고 있는 파트는 concurrency 개를 넘지 않음
+	 */
+	public void upload(String bucket, String fileKey, String contentType, InputStream inputStream, long size)
+		throws IOException {
+		String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+			.bucket(bucket)
+			.key(fileKey)
+			.contentType(contentType)
+			.build()).uploadId();
+
+		Semaphore inFlight = new Semaphore(concurrency);
+		List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+		try {
+			long remaining = size;
+			int partNumber = 1;
+			while (remaining > 0) {
+				int length = (int)Math.min(partSizeBytes, remaining);
+				inFlight.acquire();
+				// 이미 실패한 파트가 있으면 나머지는 읽지 않고 중단
+				if (futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+					inFlight.release();
+					break;
+				}
+
+				byte[] buffer = inputStream.readNBytes(length);
+				if (buffer.length != length) {
+					inFlight.release();
+					throw new IOException("업로드 파일이 예상보다 짧습니다: fileKey=" + fileKey);
+				}
+
+				int currentPart = partNumber;
+				futures.add(CompletableFuture
+					.supplyAsync(() -> uploadPart(bucket, fileKey, uploadId, currentPart, buffer), executor)
+					.whenComplete((part, error) -> inFlight.release()));
+				remaining -= length;
+				partNumber++;
+			}
+
+			List<CompletedPart> parts = new ArrayList<>(futures.size());
+			for (CompletableFuture<CompletedPart> future : futures) {
+				parts.add(future.join());
+			}
+			parts.sort(Comparator.comparing(CompletedPart::partNumber));
+
+			s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(fileKey)
+				.uploadId(uploadId)
+				.multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+				.build());
+			log.info("S3 멀티파트 업로드 완료: fileKey={}, size={}, parts={}", fileKey, size, parts.size());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			abort(bucket, fileKey, uploadId, futures);
+			throw new IOException("멀티파트 업로드가 중단되었습니다: fileKey=" + fileKey, e);
+		} catch (CompletionException e) {
+			abort(bucket, fileKey, uploadId, futures);
+			throw new IOException("멀티파트 업로드에 실패했습니다: fileKey=" + fileKey, e.getCause());
+		} catch (IOException | RuntimeException e) {
+			abort(bucket, fileKey, uploadId, futures);
+			throw e;
+		}
+	}
+
+	// 파트 하나를 올리고, 실패하면 이 파트만 점점 간격을 늘려 다시 시도
+	private CompletedPart uploadPart(String bucket, String fileKey, String uploadId, int partNumber, byte[] buffer) {
+		for (int attempt = 0; ; attempt++) {
+			try {
+				String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+					.bucket(bucket)
+					.key(fileKey)
+					.uploadId(uploadId)
+					.partNumber(partNumber)
+					.contentLength((long)buffer.length)
+					.build(), RequestBody.fromBytes(buffer)).eTag();
+				return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+			} catch (SdkException e) {
+				if (attempt >= maxRetries) {
+					log.error("S3 멀티파트 - 파트 업로드 실패: fileKey={}, part={}, error={}", fileKey, partNumber,
+						e.getMessage());
+					throw e;
+				}
+				log.warn("S3 멀티파트 - 파트 업로드 재시도: fileKey={}, part={}, attempt={}", fileKey, partNumber,
+					attempt + 1);
+				try {
+					Thread.sleep(RETRY_BACKOFF_MS << attempt);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+			}
+		}
+	}
+
+	// 진행 중인 파트가 끝난 뒤 abort 해야 업로드된 파트가 남지 않음
+	private void abort(String bucket, String fileKey, String uploadId, List<CompletableFuture<CompletedPart>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(error -> null).join();
+			s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(fileKey)
+				.uploadId(uploadId)
+				.build());
+			log.warn("S3 멀티파트 업로드 취소: fileKey={}, uploadId={}", fileKey, uploadId);
+		} catch (Exception e) {
+			log.error("S3 멀티파트 업로드 취소 실패: fileKey={}, uploadId={}, error={}", fileKey, uploadId, e.getMessage());
+		}
+	}
+}
@@ -1,8 +1,14 @@
 package com.ssafy.ddingga.global.service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -11,9 +17,29 @@ import org.springframework.web.multipart.MultipartFile;
 import lombok.RequiredArgsConstructor;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.BucketLifecycleConfiguration;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ExpirationStatus;
+import software.amazon.awssdk.services.s3.model.GetBucketLifecycleConfigurationRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.LifecycleRule;
+import software.amazon.awssdk.services.s3.model.LifecycleRuleAndOperator;
+import software.amazon.awssdk.services.s3.model.LifecycleRuleFilter;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutBucketLifecycleConfigurationRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.Transition;
+import software.amazon.awssdk.services.s3.model.TransitionStorageClass;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
@@ -21,7 +47,26 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 @Service
 @RequiredArgsConstructor
 public class S3Service {
+	private static final Duration PRESIGN_DURATION = Duration.ofHours(1);
+	private static final Duration GET_URL_REUSE_MARGIN = Duration.ofMinutes(5);  // 만료 5분 전부터는 새로 발급
+	private static final int GET_URL_CACHE_MAX_SIZE = 10_000;
+
 	private final S3Client s3Client;
+	private final S3Presigner s3Presigner;
+	private final S3MultipartUploader multipartUploader;
+
+	// 파일 키별로 발급한 GET Presigned URL
+	private final Map<String, CachedUrl> getUrlCache = new ConcurrentHashMap<>();
+
+	private static final class CachedUrl {
+		private final String url;
+		private final long reusableUntil;
+
+		private CachedUrl(String url, long reusableUntil) {
+			this.url = url;
+			this.reusableUntil = reusableUntil;
+		}
+	}
 
 	@Value("${spring.cloud.aws.s3.bucket}")
 	private String bucket;
@@ -43,7 +88,18 @@ public class S3Service {
 	//파일 업로드 (지정된 디렉토리) - 파일과 디렉토리 이름을 받음
 	public String uploadFile(MultipartFile file, String dirName) throws IOException {
 		String fileName = createFileName(file.getOriginalFilename());
-		String fileKey = dirName + "/" + fileName;
+		return uploadFileTo(file, dirName + "/" + fileName);
+	}
+
+	// 파일 업로드 (지정된 파일 키)
+	public String uploadFileTo(MultipartFile file, String fileKey) throws IOException {
+		// 큰 파일은 파트로 나눠 병렬 업로드
+		if (multipartUploader.shouldUseMultipart(file.getSize())) {
+			try (InputStream inputStream = file.getInputStream()) {
+				multipartUploader.upload(bucket, fileKey, file.getContentType(), inputStream, file.getSize());
+			}
+			return getFileUrl(fileKey);
+		}
 
 		// 업로드 로직
 		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
@@ -58,6 +114,18 @@ public class S3Service {
 		return getFileUrl(fileKey); // 파일 URL을 반환
 	}
 
+	// 메모리에 있는 데이터 업로드 (지정된 파일 키)
+	public String uploadBytes(byte[] data, String contentType, String fileKey) {
+		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+			.bucket(bucket)
+			.key(fileKey)
+			.contentType(contentType)
+			.build();
+
+		s3Client.putObject(putObjectRequest, RequestBody.fromBytes(data));
+		return getFileUrl(fileKey);
+	}
+
 	// 파일 삭제
 	public void deleteFile(String fileKey) {
 		DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
@@ -68,49 +136,163 @@ public class S3Service {
 		s3Client.deleteObject(deleteObjectRequest);
 	}
 
-	// GetObject를 위한 Presigned URL 생성
-	public String generateGetPresignedUrl(String fileKey) {
-		S3Presigner presigner = S3Presigner.builder()
-			.region(s3Client.serviceClientConfiguration().region())
+	// 여러 파일 삭제 (DeleteObjects, 최대 1000개), 실패한 파일 키 반환
+	public List<String> deleteFiles(List<String> fileKeys) {
+		List<ObjectIdentifier> objects = new ArrayList<>(fileKeys.size());
+		for (String fileKey : fileKeys) {
+			objects.add(ObjectIdentifier.builder().key(fileKey).build());
+		}
+
+		DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+			.bucket(bucket)
+			.delete(Delete.builder().objects(objects).quiet(true).build())
+			.build();
+
+		// quiet 모드라 응답에는 실패한 항목만 담김
+		DeleteObjectsResponse response = s3Client.deleteObjects(deleteObjectsRequest);
+		List<String> failedKeys = new ArrayList<>(response.errors().size());
+		for (S3Error error : response.errors()) {
+			failedKeys.add(error.key());
+		}
+		return failedKeys;
+	}
+
+	// 접두사 아래 객체 목록 (ListObjectsV2 페이지를 순회하면서 필요한 만큼만 가져옴)
+	public Iterable<S3Object> listFiles(String prefix) {
+		ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
+			.bucket(bucket)
+			.prefix(prefix)
 			.build();
 
+		return s3Client.listObjectsV2Paginator(listObjectsRequest).contents();
+	}
+
+	// 접두사 아래 minSize 보다 큰 객체를 days 일 뒤 storageClass 로 옮기는 수명 주기 규칙을 등록 (규칙 ID 로 구분)
+	// 객체를 다시 쓰지 않으므로 ETag, Last-Modified 가 바뀌지 않음, 이미 같은 규칙이 있으면 아무것도 하지 않음
+	// @return 규칙을 새로 등록하거나 바꿨으면 true
+	public boolean ensureTransitionRule(String ruleId, String prefix, int days, TransitionStorageClass storageClass,
+		long minSize) {
+		LifecycleRule rule = LifecycleRule.builder()
+			.id(ruleId)
+			.status(ExpirationStatus.ENABLED)
+			.filter(LifecycleRuleFilter.builder()
+				.and(LifecycleRuleAndOperator.builder().prefix(prefix).objectSizeGreaterThan(minSize).build())
+				.build())
+			.transitions(Transition.builder().days(days).storageClass(storageClass).build())
+			.build();
+
+		// 버킷의 수명 주기 설정은 통째로 바뀌므로 다른 규칙은 그대로 두고 같은 ID 의 규칙만 교체
+		List<LifecycleRule> rules = new ArrayList<>();
+		try {
+			rules.addAll(s3Client.getBucketLifecycleConfiguration(
+				GetBucketLifecycleConfigurationRequest.builder().bucket(bucket).build()).rules());
+		} catch (S3Exception e) {
+			if (!"NoSuchLifecycleConfiguration".equals(e.awsErrorDetails().errorCode())) {
+				throw e;
+			}
+		}
+		if (rules.contains(rule)) {
+			return false;
+		}
+		rules.removeIf(existing -> ruleId.equals(existing.id()));
+		rules.add(rule);
+
+		s3Client.putBucketLifecycleConfiguration(PutBucketLifecycleConfigurationRequest.builder()
+			.bucket(bucket)
+			.lifecycleConfiguration(BucketLifecycleConfiguration.builder().rules(rules).build())
+			.build());
+		return true;
+	}
+
+	// 업로드된 객체의 메타데이터 조회 (HEAD), 객체가 없으면 null
+	public HeadObjectResponse headFile(String fileKey) {
+		HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+			.bucket(bucket)
+			.key(fileKey)
+			.build();
+
+		try {
+			return s3Client.headObject(headObjectRequest);
+		} catch (NoSuchKeyException e) {
+			return null;
+		} catch (S3Exception e) {
+			if (e.statusCode() == 404) {
+				return null;
+			}
+			throw e;
+		}
+	}
+
+	// 파일의 일부 구간 조회 (Range GET), [start, end] 는 end 포함
+	public InputStream getFileRange(String fileKey, long start, long end) {
+		GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+			.bucket(bucket)
+			.key(fileKey)
+			.range("bytes=" + start + "-" + end)
+			.build();
+
+		return s3Client.getObject(getObjectRequest);
+	}
+
+	// GetObject를 위한 Presigned URL 생성 (만료 직전까지는 이미 발급한 URL 재사용)
+	public String generateGetPresignedUrl(String fileKey) {
+		long now = System.currentTimeMillis();
+		CachedUrl cached = getUrlCache.get(fileKey);
+		if (cached != null && cached.reusableUntil > now) {
+			return cached.url;
+		}
+
 		GetObjectRequest getObjectRequest = GetObjectRequest.builder()
 			.bucket(bucket)
 			.key(fileKey)
 			.build();
 
 		GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-			.signatureDuration(Duration.ofHours(1))
+			.signatureDuration(PRESIGN_DURATION)
 			.getObjectRequest(getObjectRequest)
 			.build();
 
-		String presignedUrl = presigner.presignGetObject(presignRequest).url().toString();
-		presigner.close();
+		String presignedUrl = s3Presigner.presignGetObject(presignRequest).url().toString();
 
+		if (getUrlCache.size() >= GET_URL_CACHE_MAX_SIZE) {
+			getUrlCache.values().removeIf(entry -> entry.reusableUntil <= now);
+		}
+		if (getUrlCache.size() < GET_URL_CACHE_MAX_SIZE) {
+			getUrlCache.put(fileKey,
+				new CachedUrl(presignedUrl, now + PRESIGN_DURATION.minus(GET_URL_REUSE_MARGIN).toMillis()));
+		}
 		return presignedUrl;
 	}
 
+	// 여러 파일의 GET Presigned URL 을 한 번에 생성 (요청 순서 유지)
+	public Map<String, String> generateGetPresignedUrls(List<String> fileKeys) {
+		Map<String, String> presignedUrls = new LinkedHashMap<>();
+		for (String fileKey : fileKeys) {
+			presignedUrls.computeIfAbsent(fileKey, this::generateGetPresignedUrl);
+		}
+		return presignedUrls;
+	}
+
 	// PutObject를 위한 Presigned URL 생성
 	public String generatePutPresignedUrl(String fileKey, String contentType) {
-		S3Presigner presigner = S3Presigner.builder()
-			.region(s3Client.serviceClientConfiguration().region())
-			.build();
+		return generatePutPresignedUrl(fileKey, contentType, null);
+	}
 
+	// PutObject를 위한 Presigned URL 생성, contentLength 를 주면 서명에 포함되어 다른 크기로는 올릴 수 없음
+	public String generatePutPresignedUrl(String fileKey, String contentType, Long contentLength) {
 		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
 			.bucket(bucket)
 			.key(fileKey)
 			.contentType(contentType)
+			.contentLength(contentLength)
 			.build();
 
 		PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-			.signatureDuration(Duration.ofHours(1))
+			.signatureDuration(PRESIGN_DURATION)
 			.putObjectRequest(putObjectRequest)
 			.build();
 
-		String presignedUrl = presigner.presignPutObject(presignRequest).url().toString();
-		presigner.close();
-
-		return presignedUrl;
+		return s3Presigner.presignPutObject(presignRequest).url().toString();
 	}
 
 	// 파일 URL 생성
@@ -118,22 +300,21 @@ public class S3Service {
 		return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, fileKey);
 	}
 
+	// 파일 URL 에서 파일 키 추출, 이 버킷의 URL 이 아니면 null
+	public String extractFileKey(String fileUrl) {
+		String prefix = getFileUrl("");
+		if (fileUrl == null || !fileUrl.startsWith(prefix)) {
+			return null;
+		}
+		return fileUrl.substring(prefix.length());
+	}
+
 	private String createFileName(String originalFileName) {
 		return UUID.randomUUID().toString() + "_" + originalFileName;
 	}
 
 	// ContentType에 따른 디렉토리 구분
-	private String getDirectoryByContentType(String contentType) {
-		if (contentType == null) {
-			return "others";
-		}
-
-		if (contentType.startsWith("image/")) {
-			return "profileImages";
-		} else if (contentType.startsWith("video/")) {
-			return "replays";
-		} else {
-			return "others";
-		}
+	public String getDirectoryByContentType(String contentType) {
+		return StorageService.directoryOf(contentType);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.ssafy.ddingga.global.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * S3 저장소 (storage.type=s3, 기본값)
+ */
+@Service(StorageService.BACKEND)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3StorageService implements StorageService {
+	private final S3Service s3Service;
+	private final S3AsyncService s3AsyncService;
+
+	@Override
+	public String upload(MultipartFile file, String dirName) throws IOException {
+		return s3Service.uploadFile(file, dirName);
+	}
+
+	@Override
+	public CompletableFuture<String> uploadAsync(MultipartFile file, String dirName) {
+		return s3AsyncService.uploadFile(file, dirName);
+	}
+
+	@Override
+	public String uploadTo(MultipartFile file, String fileKey) throws IOException {
+		return s3Service.uploadFileTo(file, fileKey);
+	}
+
+	@Override
+	public String uploadBytes(byte[] data, String contentType, String fileKey) {
+		return s3Service.uploadBytes(data, contentType, fileKey);
+	}
+
+	@Override
+	public CompletableFuture<String> uploadToAsync(MultipartFile file, String fileKey) {
+		return s3AsyncService.uploadFileTo(file, fileKey);
+	}
+
+	@Override
+	public void delete(String fileKey) {
+		s3Service.deleteFile(fileKey);
+	}
+
+	@Override
+	public List<String> deleteAll(List<String> fileKeys) {
+		return s3Service.deleteFiles(fileKeys);
+	}
+
+	@Override
+	public StoredFile stat(String fileKey) {
+		HeadObjectResponse head = s3Service.headFile(fileKey);
+		if (head == null) {
+			return null;
+		}
+		return new StoredFile(fileKey, head.contentLength(), head.lastModified(), head.eTag(), head.contentType());
+	}
+
+	@Override
+	public InputStream openRange(String fileKey, long start, long end) {
+		return s3Service.getFileRange(fileKey, start, end);
+	}
+
+	@Override
+	public String getFileUrl(String fileKey) {
+		return s3Service.getFileUrl(fileKey);
+	}
+
+	@Override
+	public String extractFileKey(String fileUrl) {
+		return s3Service.extractFileKey(fileUrl);
+	}
+}
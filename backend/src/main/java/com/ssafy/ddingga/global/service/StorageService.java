@@ -0,0 +1,76 @@
+package com.ssafy.ddingga.global.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드 파일 저장소
+ * storage.type 설정에 따라 S3(s3, 기본값) 또는 로컬 디스크(local) 구현체가 등록됨
+ */
+public interface StorageService {
+	// 실제 저장소 구현체의 빈 이름 (기본으로 주입되는 것은 중복 제거를 하는 ContentAddressedStorageService)
+	String BACKEND = "storageBackend";
+
+	// 파일 저장 (지정된 디렉토리), 저장된 파일의 URL 반환
+	String upload(MultipartFile file, String dirName) throws IOException;
+
+	// 파일 저장 (ContentType 에 따라 디렉토리 구분)
+	default String upload(MultipartFile file) throws IOException {
+		return upload(file, directoryOf(file.getContentType()));
+	}
+
+	// 요청 스레드를 저장 완료까지 붙잡지 않는 파일 저장
+	CompletableFuture<String> uploadAsync(MultipartFile file, String dirName);
+
+	// 호출한 쪽에서 이미 계산한 내용 SHA-256 을 함께 넘기는 비동기 저장 (중복 제거 저장소가 파일을 다시 읽지 않음)
+	default CompletableFuture<String> uploadAsync(MultipartFile file, String dirName, String contentHash) {
+		return uploadAsync(file, dirName);
+	}
+
+	// 지정된 파일 키로 저장
+	String uploadTo(MultipartFile file, String fileKey) throws IOException;
+
+	// 메모리에 있는 데이터를 지정된 파일 키로 저장 (서버에서 만든 썸네일 등)
+	String uploadBytes(byte[] data, String contentType, String fileKey) throws IOException;
+
+	// 지정된 파일 키로 비동기 저장
+	CompletableFuture<String> uploadToAsync(MultipartFile file, String fileKey);
+
+	// 파일 삭제
+	void delete(String fileKey);
+
+	// 여러 파일 삭제 후 실패한 파일 키 반환
+	// 기본(@Primary) 저장소는 delete 와 같이 참조를 해제하고 삭제 예약만 함, BACKEND 구현체만 저장소에서 바로 지움
+	List<String> deleteAll(List<String> fileKeys);
+
+	// 파일 메타데이터 조회, 파일이 없으면 null
+	StoredFile stat(String fileKey);
+
+	// 파일의 start 부터 읽는 스트림, end (포함) 뒤까지 나올 수 있으므로 호출 쪽에서 구간 길이만큼만 읽음
+	InputStream openRange(String fileKey, long start, long end) throws IOException;
+
+	// 파일 키로 접근 URL 생성
+	String getFileUrl(String fileKey);
+
+	// 이 저장소의 파일 URL 에서 파일 키 추출, 다른 곳의 URL 이면 null
+	String extractFileKey(String fileUrl);
+
+	// ContentType에 따른 디렉토리 구분
+	static String directoryOf(String contentType) {
+		if (contentType == null) {
+			return "others";
+		}
+
+		if (contentType.startsWith("image/")) {
+			return "profileImages";
+		} else if (contentType.startsWith("video/")) {
+			return "replays";
+		} else {
+			return "others";
+		}
+	}
+}
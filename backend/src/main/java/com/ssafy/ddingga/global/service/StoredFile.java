@@ -0,0 +1,19 @@
+package com.ssafy.ddingga.global.service;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장소에 있는 파일의 메타데이터 (스트리밍 응답의 길이, 캐시 검증용)
+ */
+@Getter
+@AllArgsConstructor
+public class StoredFile {
+	private final String fileKey;
+	private final long length;
+	private final Instant lastModified;
+	private final String eTag;          // 따옴표 포함 (예: "\"9b2cf535f27731c974343645a3985328\"")
+	private final String contentType;
+}
@@ -1,14 +1,26 @@
 package com.ssafy.ddingga.presentation.ranking;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ssafy.ddingga.domain.auth.entity.User;
+import com.ssafy.ddingga.domain.rank.cache.TopRankingSnapshot;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingAroundResponse;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingIndexVerifyResponse;
+import com.ssafy.ddingga.facade.rank.dto.response.RankingPageResponse;
 import com.ssafy.ddingga.facade.rank.dto.response.TopRankingResponse;
 import com.ssafy.ddingga.facade.rank.service.RankingFacadeService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,14 +33,75 @@ import lombok.RequiredArgsConstructor;
 public class RankController {
 	private final RankingFacadeService rankingFacadeService;
 
-	@Operation(summary = "전체 랭킹 TOP 10 조회", description = "플레이타임, 시도횟수, 점수 각각의 상위 10명을 조회합니다.")
+	@Operation(summary = "전체 랭킹 TOP 10 조회", description = "플레이타임, 시도횟수, 점수 각각의 상위 10명을 조회합니다. "
+		+ "period(daily, weekly, monthly, all)로 기간을 지정할 수 있습니다. "
+		+ "응답의 ETag를 If-None-Match로 보내면 랭킹이 바뀌지 않았을 때 304를 반환합니다.")
 	@ApiResponses({
-		@ApiResponse(responseCode = "200", description = "랭킹 조회 성공"),
+		@ApiResponse(responseCode = "200", description = "랭킹 조회 성공",
+			content = @Content(schema = @Schema(implementation = TopRankingResponse.class))),
+		@ApiResponse(responseCode = "304", description = "랭킹 변경 없음"),
+		@ApiResponse(responseCode = "400", description = "잘못된 기간"),
 		@ApiResponse(responseCode = "500", description = "서버 내부 오류")
 	})
 	@GetMapping("/top")
-	public ResponseEntity<TopRankingResponse> getTop5Rankings() {
-		TopRankingResponse response = rankingFacadeService.getTop10Rankings();
+	public ResponseEntity<byte[]> getTop5Rankings(
+		@RequestParam(defaultValue = "all") String period
+	) {
+		TopRankingSnapshot snapshot = rankingFacadeService.getTop10RankingSnapshot(period);
+		// ETag 가 If-None-Match 와 같으면 스프링이 본문 없이 304 로 응답함
+		return ResponseEntity.ok()
+			.eTag(snapshot.getEtag())
+			.cacheControl(CacheControl.noCache())
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(snapshot.getBody());
+	}
+
+	@Operation(summary = "항목별 랭킹 페이지 조회", description = "playTime, totalTry, score 항목의 랭킹을 커서 기반으로 페이지 조회합니다. "
+		+ "응답의 nextCursor를 다음 요청의 cursor로 넘기면 됩니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "랭킹 조회 성공"),
+		@ApiResponse(responseCode = "400", description = "잘못된 항목 또는 커서"),
+		@ApiResponse(responseCode = "500", description = "서버 내부 오류")
+	})
+	@GetMapping("/{metric}/page")
+	public ResponseEntity<RankingPageResponse> getRankingPage(
+		@PathVariable String metric,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		RankingPageResponse response = rankingFacadeService.getRankingPage(metric, cursor, size);
+		return ResponseEntity.ok(response);
+	}
+
+	@Operation(summary = "내 주변 랭킹 조회", description = "해당 항목에서 내 위아래 k명의 랭킹을 조회합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "랭킹 조회 성공"),
+		@ApiResponse(responseCode = "400", description = "잘못된 항목"),
+		@ApiResponse(responseCode = "500", description = "서버 내부 오류")
+	})
+	@GetMapping("/{metric}/around-me")
+	public ResponseEntity<RankingAroundResponse> getRankingsAroundMe(
+		@AuthenticationPrincipal User user,
+		@PathVariable String metric,
+		@RequestParam(defaultValue = "5") int k
+	) {
+		RankingAroundResponse response = rankingFacadeService.getRankingsAroundUser(metric, user.getUserId(), k);
+		return ResponseEntity.ok(response);
+	}
+
+	@Operation(summary = "랭킹 인덱스 정합성 검사", description = "메모리 랭킹 인덱스의 순위를 SQL 계산 결과와 비교합니다. "
+		+ "(배포 후 검증용, 관리자만 가능, sampleSize 최대 1000)")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "검사 완료"),
+		@ApiResponse(responseCode = "400", description = "sampleSize 가 1 미만"),
+		@ApiResponse(responseCode = "403", description = "관리자가 아님"),
+		@ApiResponse(responseCode = "500", description = "서버 내부 오류")
+	})
+	@GetMapping("/index/verify")
+	public ResponseEntity<RankingIndexVerifyResponse> verifyRankingIndex(
+		@RequestParam(defaultValue = "100") int sampleSize
+	) {
+		RankingIndexVerifyResponse response = rankingFacadeService.verifyRankingIndex(sampleSize);
 		return ResponseEntity.ok(response);
 	}
 }
\ No newline at end of file
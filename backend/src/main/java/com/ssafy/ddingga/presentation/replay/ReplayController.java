@@ -1,5 +1,14 @@
 package com.ssafy.ddingga.presentation.replay;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -7,13 +16,25 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.ssafy.ddingga.common.util.HttpRanges;
 import com.ssafy.ddingga.domain.auth.entity.User;
+import com.ssafy.ddingga.domain.file.dto.response.PresignedUrlResponseDto;
+import com.ssafy.ddingga.facade.replay.dto.request.ReplayConfirmRequestDto;
 import com.ssafy.ddingga.facade.replay.dto.request.ReplayCreateRequestDto;
+import com.ssafy.ddingga.facade.replay.dto.request.ReplayUploadSlotRequestDto;
+import com.ssafy.ddingga.facade.replay.dto.response.ReplayHistoryPageResponse;
 import com.ssafy.ddingga.facade.replay.dto.response.ReplayResponse;
 import com.ssafy.ddingga.facade.replay.service.ReplayFacadeService;
+import com.ssafy.ddingga.global.service.IdempotencyService;
+import com.ssafy.ddingga.global.service.StoredFile;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,6 +42,9 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/replay")
 @RequiredArgsConstructor
 public class ReplayController {
+	private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+	private static final long MAX_RANGE_BYTES = 8L * 1024 * 1024;  // 한 번의 206 응답으로 보내는 최대 크기
+
 	private final ReplayFacadeService replayFacadeService;
 
 	@GetMapping("")
@@ -31,12 +55,116 @@ public class ReplayController {
 		return ResponseEntity.ok(response);
 	}
 
+	// 리플레이 기록을 최근 연습한 것부터 페이지 단위로 조회 (응답의 nextCursorDate, nextCursorId 를 다음 요청에 넘김)
+	@GetMapping("/history")
+	public ResponseEntity<ReplayHistoryPageResponse> getReplayHistory(
+		@AuthenticationPrincipal User user,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+		@RequestParam(required = false) Integer cursorId,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		ReplayHistoryPageResponse response = replayFacadeService.getReplayHistory(user.getUserId(), cursorDate,
+			cursorId, size);
+		return ResponseEntity.ok(response);
+	}
+
+	// 본인 리플레이 영상을 Range 요청으로 필요한 구간만 스트리밍
+	@GetMapping("{replayId}/video")
+	public ResponseEntity<StreamingResponseBody> streamReplayVideo(
+		@AuthenticationPrincipal User user,
+		@PathVariable Integer replayId,
+		@RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+		@RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+		WebRequest webRequest
+	) {
+		StoredFile video = replayFacadeService.getReplayVideo(replayId, user.getUserId());
+
+		// If-None-Match / If-Modified-Since 가 맞으면 304 (ETag, Last-Modified 헤더도 여기서 설정됨)
+		if (webRequest.checkNotModified(video.getETag(), video.getLastModified().toEpochMilli())) {
+			return null;
+		}
+
+		long length = video.getLength();
+		long start = 0;
+		long end = length - 1;
+		HttpStatus status = HttpStatus.OK;
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+		headers.setCacheControl(CacheControl.noCache().cachePrivate());
+
+		// If-Range 가 현재 ETag 와 다르면 파일이 바뀐 것이므로 전체 전송
+		boolean rangeApplicable = range != null && !HttpRanges.isMultiRange(range)
+			&& (ifRange == null || ifRange.equals(video.getETag()));
+		if (rangeApplicable) {
+			long[] bounds = HttpRanges.parse(range, length);
+			if (bounds == null) {
+				headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+				return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+			}
+			start = bounds[0];
+			// 열린 구간(bytes=N-)도 일정 크기씩 나눠 보내서 스트리밍 스레드를 오래 붙잡지 않게 함 (플레이어가 다음 구간을 다시 요청)
+			end = Math.min(bounds[1], start + MAX_RANGE_BYTES - 1);
+			status = HttpStatus.PARTIAL_CONTENT;
+			headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+		}
+
+		long rangeStart = start;
+		long rangeEnd = end;
+		long contentLength = length == 0 ? 0 : end - start + 1;
+		StreamingResponseBody body = outputStream -> {
+			if (contentLength == 0) {
+				return;
+			}
+			// 고정 크기 버퍼로 요청 구간만 복사
+			try (InputStream inputStream = replayFacadeService.openReplayVideo(video, rangeStart, rangeEnd)) {
+				byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+				long remaining = contentLength;
+				while (remaining > 0) {
+					int read = inputStream.read(buffer, 0, (int)Math.min(buffer.length, remaining));
+					if (read < 0) {
+						break;
+					}
+					outputStream.write(buffer, 0, read);
+					remaining -= read;
+				}
+			}
+		};
+
+		return ResponseEntity.status(status)
+			.headers(headers)
+			.contentType(video.getContentType() != null
+				? MediaType.parseMediaType(video.getContentType()) : MediaType.APPLICATION_OCTET_STREAM)
+			.contentLength(contentLength)
+			.body(body);
+	}
+
 	@PostMapping("")
-	public ResponseEntity<Void> createReplay(
+	public CompletableFuture<ResponseEntity<Void>> createReplay(
 		@AuthenticationPrincipal User user,
+		@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
 		@ModelAttribute ReplayCreateRequestDto requestDto
 	) {
-		replayFacadeService.createReplay(user.getUserId(), requestDto);
+		// 영상 업로드가 끝날 때까지 요청 스레드를 붙잡지 않고 비동기로 응답
+		// 타임아웃 후 재시도하는 클라이언트는 Idempotency-Key 를 같게 보내면 중복 업로드/랭킹 반영이 없음
+		return replayFacadeService.createReplay(user.getUserId(), idempotencyKey, requestDto)
+			.thenApply(result -> ResponseEntity.ok().build());
+	}
+
+	// 영상은 발급받은 presigned URL 로 S3 에 직접 올리고, 완료 후 confirm 으로 등록
+	@PostMapping("/upload-slot")
+	public ResponseEntity<PresignedUrlResponseDto> createUploadSlot(
+		@AuthenticationPrincipal User user,
+		@RequestBody ReplayUploadSlotRequestDto requestDto
+	) {
+		return ResponseEntity.ok(replayFacadeService.createUploadSlot(user.getUserId(), requestDto));
+	}
+
+	@PostMapping("/confirm")
+	public ResponseEntity<Void> confirmReplay(
+		@AuthenticationPrincipal User user,
+		@RequestBody ReplayConfirmRequestDto requestDto
+	) {
+		replayFacadeService.confirmReplay(user.getUserId(), requestDto);
 		return ResponseEntity.ok().build();
 	}
 
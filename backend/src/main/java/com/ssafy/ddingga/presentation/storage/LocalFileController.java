@@ -0,0 +1,112 @@
+package com.ssafy.ddingga.presentation.storage;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ssafy.ddingga.common.util.HttpRanges;
+import com.ssafy.ddingga.domain.file.service.FileAccessService;
+import com.ssafy.ddingga.global.error.exception.NotFoundException;
+import com.ssafy.ddingga.global.service.LocalStorageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로컬 저장소 파일 제공 (storage.type=local 일 때만 등록)
+ * 파일 내용을 힙에 올리지 않고 Tomcat sendfile 또는 FileChannel.transferTo 로 바로 소켓에 씀
+ * Range 요청(bytes=시작-끝, 시작-, -마지막 길이)을 지원해서 영상 탐색이 가능함
+ * 인증 없이 열려 있으므로 공개 경로(프로필 이미지)만 제공, 리플레이 영상은 /api/replay/{id}/video 로만 조회
+ */
+@RestController
+@RequestMapping(LocalFileController.PATH)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalFileController {
+	static final String PATH = "/api/storage/files";
+
+	// Tomcat 이 sendfile 을 지원하면 요청 속성으로 파일을 넘겨 커넥터가 직접 전송하게 함
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private final LocalStorageService localStorageService;
+	private final FileAccessService fileAccessService;
+
+	@GetMapping("/**")
+	public void getFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		String fileKey = URLDecoder.decode(
+			request.getRequestURI().substring((request.getContextPath() + PATH + "/").length()),
+			StandardCharsets.UTF_8);
+		if (!fileAccessService.isPublic(fileKey)) {
+			throw new NotFoundException("파일을 찾을 수 없습니다.");
+		}
+		Path path = localStorageService.resolve(fileKey);
+		if (path == null || !Files.isRegularFile(path)) {
+			throw new NotFoundException("파일을 찾을 수 없습니다.");
+		}
+
+		long length = Files.size(path);
+		long start = 0;
+		long end = length - 1;
+
+		String contentType = Files.probeContentType(path);
+		response.setContentType(contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+		String range = request.getHeader(HttpHeaders.RANGE);
+		if (range != null && !HttpRanges.isMultiRange(range)) {  // 여러 구간 요청은 무시하고 전체 전송
+			long[] bounds = HttpRanges.parse(range, length);
+			if (bounds == null) {
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+				response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+				return;
+			}
+			start = bounds[0];
+			end = bounds[1];
+			response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+			response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+		}
+		response.setContentLengthLong(end - start + 1);
+		if (length == 0) {
+			return;
+		}
+
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, path.toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, end + 1);
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			long position = start;
+			long remaining = end - start + 1;
+			while (remaining > 0) {
+				long sent = channel.transferTo(position, remaining, out);
+				if (sent <= 0) {
+					break;
+				}
+				position += sent;
+				remaining -= sent;
+			}
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.ssafy.ddingga.presentation.uploadfile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,6 +18,9 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.ssafy.ddingga.domain.auth.entity.User;
+import com.ssafy.ddingga.domain.file.dto.response.PresignedUrlResponseDto;
+import com.ssafy.ddingga.domain.file.service.FileAccessService;
+import com.ssafy.ddingga.facade.uploadfile.dto.request.PresignedUrlBatchRequestDto;
 import com.ssafy.ddingga.facade.uploadfile.dto.response.CreateUploadFileResponseDto;
 import com.ssafy.ddingga.facade.uploadfile.dto.response.GetUploadFileResponseDto;
 import com.ssafy.ddingga.facade.uploadfile.service.UploadFileFacadeService;
@@ -23,8 +28,6 @@ import com.ssafy.ddingga.global.service.S3Service;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.Content;
-import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,19 +38,11 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
 public class FileController {
+	private static final int MAX_PRESIGN_BATCH_SIZE = 100;
+
 	private final S3Service s3Service;
 	private final UploadFileFacadeService uploadFileFacadeService;
-
-	@PostMapping(value = "/TEST", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-	public String uploadFile(@RequestPart(value = "file", required = false)
-	// multipart/form-data에서 profileImage 파일을 받음
-	@Parameter(description = "이미지, 동영상 파일", content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE, schema = @Schema(type = "string", format = "binary"))) MultipartFile file) {
-		try {
-			return s3Service.uploadFile(file);
-		} catch (IOException e) {
-			throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드 실패", e);
-		}
-	}
+	private final FileAccessService fileAccessService;
 
 	@Operation(summary = "쇼츠 업로드 파일 조회", description = "쇼츠에 업로드 된 파일들을 조회합니다.")
 	@ApiResponses({@ApiResponse(responseCode = "200", description = "파일 조회 성공"),
@@ -73,4 +68,26 @@ public class FileController {
 			throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드 실패", e);
 		}
 	}
+
+	@Operation(summary = "Presigned URL 일괄 발급", description = "여러 파일의 조회용 Presigned URL 을 한 번에 발급합니다.")
+	@ApiResponses({@ApiResponse(responseCode = "200", description = "발급 성공"),
+		@ApiResponse(responseCode = "400", description = "잘못된 요청"),
+		@ApiResponse(responseCode = "403", description = "공개 경로나 본인 파일이 아닌 키가 포함됨")})
+	@PostMapping(value = "/presigned-urls")
+	public ResponseEntity<List<PresignedUrlResponseDto>> getPresignedUrls(@AuthenticationPrincipal User user,
+		@RequestBody PresignedUrlBatchRequestDto requestDto) {
+		List<String> fileKeys = requestDto.getFileKeys();
+		if (fileKeys == null || fileKeys.isEmpty() || fileKeys.size() > MAX_PRESIGN_BATCH_SIZE) {
+			throw new IllegalArgumentException("파일 키는 1개 이상 " + MAX_PRESIGN_BATCH_SIZE + "개 이하로 요청해야 합니다.");
+		}
+		if (fileKeys.stream().anyMatch(fileKey -> fileKey == null || fileKey.isBlank())) {
+			throw new IllegalArgumentException("빈 파일 키가 포함되어 있습니다.");
+		}
+		fileAccessService.checkReadable(user.getUserId(), fileKeys, s3Service::getFileUrl);
+
+		List<PresignedUrlResponseDto> response = new ArrayList<>(fileKeys.size());
+		s3Service.generateGetPresignedUrls(fileKeys)
+			.forEach((fileKey, presignedUrl) -> response.add(new PresignedUrlResponseDto(presignedUrl, fileKey)));
+		return ResponseEntity.ok(response);
+	}
 }
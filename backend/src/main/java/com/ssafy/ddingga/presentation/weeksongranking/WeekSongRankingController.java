@@ -3,9 +3,11 @@ package com.ssafy.ddingga.presentation.weeksongranking;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ssafy.ddingga.facade.weeksongranking.dto.response.GetWeekSongRankingResponseDto;
+import com.ssafy.ddingga.facade.weeksongranking.dto.response.WeekSongRankingArchivePageResponse;
 import com.ssafy.ddingga.facade.weeksongranking.service.WeekSongRankingFacadeService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -45,5 +47,20 @@ public class WeekSongRankingController {
 
 		return ResponseEntity.ok().body(responseDto);
 	}
-}
 
+	@Operation(summary = "지난 이주의 랭킹 조회", description = "끝난 주의 최종 랭킹을 최신 주부터 조회합니다. "
+		+ "응답의 nextCursor를 다음 요청의 cursor로 넘기면 됩니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "지난 이주의 랭킹 조회 성공"),
+		@ApiResponse(responseCode = "500", description = "서버 내부 오류")
+	})
+	@GetMapping(value = "/archive")
+	public ResponseEntity<WeekSongRankingArchivePageResponse> getArchives(
+		@RequestParam(required = false) Integer cursor,
+		@RequestParam(defaultValue = "10") int size
+	) {
+		WeekSongRankingArchivePageResponse response = weekSongRankingFacadeService.getWeekSongRankingArchives(cursor,
+			size);
+		return ResponseEntity.ok(response);
+	}
+}
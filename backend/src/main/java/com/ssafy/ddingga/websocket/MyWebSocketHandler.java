@@ -67,6 +67,7 @@ public class MyWebSocketHandler implements WebSocketHandler {
 	@Override
 	public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
 		// 연결이 종료되었을 때 호출됩니다.
+		sessions.remove(session.getId());
 		System.out.println("WebSocket connection closed with session ID: " + session.getId());
 	}
 
@@ -75,6 +76,17 @@ public class MyWebSocketHandler implements WebSocketHandler {
 		return false; // 부분 메시지 처리 여부 설정
 	}
 
+	// 연결된 모든 클라이언트에게 JSON 메시지 전송
+	public void broadcast(Map<String, Object> messageMap) {
+		String message = createJsonMessage(messageMap);
+		if (message == null) {
+			return;
+		}
+		for (WebSocketSession session : sessions.values()) {
+			sendMessageSafely(session, message);
+		}
+	}
+
 	private void sendMessageSafely(WebSocketSession session, String message) {
 		synchronized (session) {
 			if (session.isOpen()) {
@@ -87,7 +99,8 @@ public class MyWebSocketHandler implements WebSocketHandler {
 		}
 	}
 
-	private Map<String, String> parseJson(String json) {
+	// 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+	Map<String, String> parseJson(String json) {
 		Map<String, String> map = new HashMap<>();
 		json = json.replaceAll("[{}\"]", "");
 		for (String pair : json.split(",")) {
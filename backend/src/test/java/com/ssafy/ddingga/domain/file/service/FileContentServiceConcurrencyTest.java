@@ -0,0 +1,287 @@
+package com.ssafy.ddingga.domain.file.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ssafy.ddingga.domain.file.dto.FilePurgeResult;
+import com.ssafy.ddingga.domain.file.entity.FileContent;
+import com.ssafy.ddingga.domain.file.repository.FileContentRepository;
+import com.ssafy.ddingga.domain.file.repository.FileDeletionRepository;
+
+/**
+ * 참조 수 관리의 동시성 검사 (행 잠금, ON DUPLICATE KEY 동작이 필요하므로 실제 MySQL 로 실행, Docker 가 없으면 건너뜀)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({FileContentServiceImpl.class, FileDeletionServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // 각 스레드의 트랜잭션이 실제로 커밋되어야 함
+@Testcontainers(disabledWithoutDocker = true)
+class FileContentServiceConcurrencyTest {
+	private static final int THREADS = 16;
+	private static final String HASH = "a".repeat(64);
+	private static final String FILE_KEY = "replays/aa/" + HASH + ".mp4";
+
+	@Container
+	static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysql::getJdbcUrl);
+		registry.add("spring.datasource.username", mysql::getUsername);
+		registry.add("spring.datasource.password", mysql::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+	}
+
+	@Autowired
+	private FileContentService fileContentService;
+
+	@Autowired
+	private FileDeletionService fileDeletionService;
+
+	@Autowired
+	private FileContentRepository fileContentRepository;
+
+	@Autowired
+	private FileDeletionRepository fileDeletionRepository;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+		fileDeletionRepository.deleteAll();
+		fileContentRepository.deleteAll();
+	}
+
+	@Test
+	void 동시에_acquire_해도_참조_수가_빠짐없이_늘어난다() throws Exception {
+		fileContentService.register(HASH, FILE_KEY, 10, "video/mp4");
+
+		List<String> keys = runConcurrently(THREADS * 10, () -> fileContentService.acquire(HASH));
+
+		assertThat(keys).containsOnly(FILE_KEY);
+		assertThat(refCount()).isEqualTo(1 + THREADS * 10);
+	}
+
+	@Test
+	void 동시에_register_하면_하나의_행으로_합쳐지고_먼저_등록된_키를_쓴다() throws Exception {
+		AtomicInteger sequence = new AtomicInteger();
+
+		List<String> keys = runConcurrently(THREADS, () -> fileContentService.register(HASH,
+			"dir" + sequence.incrementAndGet() + "/aa/" + HASH, 10, "video/mp4"));
+
+		assertThat(fileContentRepository.count()).isEqualTo(1);
+		assertThat(Set.copyOf(keys)).hasSize(1);
+		assertThat(refCount()).isEqualTo(THREADS);
+	}
+
+	@Test
+	void 동시에_release_하면_마지막_한_번만_삭제_대상이고_행은_참조_0으로_남는다() throws Exception {
+		fileContentService.register(HASH, FILE_KEY, 10, "video/mp4");
+		for (int i = 1; i < THREADS; i++) {
+			fileContentService.acquire(HASH);
+		}
+
+		List<Boolean> results = runConcurrently(THREADS, () -> fileContentService.release(FILE_KEY));
+
+		assertThat(results.stream().filter(Boolean::booleanValue).count()).isEqualTo(1);
+		assertThat(refCount()).isZero();
+	}
+
+	@Test
+	void acquire_와_release_가_섞여도_참조_수가_맞고_삭제_대상이_생기지_않는다() throws Exception {
+		fileContentService.register(HASH, FILE_KEY, 10, "video/mp4");
+		for (int i = 0; i < THREADS; i++) {
+			fileContentService.acquire(HASH);
+		}
+
+		List<Callable<Boolean>> tasks = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			tasks.add(() -> fileContentService.acquire(HASH) == null);
+			tasks.add(() -> fileContentService.release(FILE_KEY));
+		}
+		List<Boolean> results = runConcurrently(tasks);
+
+		assertThat(results).containsOnly(false);
+		assertThat(refCount()).isEqualTo(1 + THREADS);
+	}
+
+	@Test
+	void 삭제_대기_중인_파일을_acquire_하면_되살아나고_삭제되지_않는다() {
+		fileContentService.register(HASH, FILE_KEY, 10, "video/mp4");
+		assertThat(fileContentService.release(FILE_KEY)).isTrue();
+
+		assertThat(fileContentService.acquire(HASH)).isEqualTo(FILE_KEY);
+		FilePurgeResult result = fileDeletionService.purge(List.of(FILE_KEY), keys -> {
+			throw new AssertionError("다시 참조된 파일을 지우면 안 됨");
+		});
+
+		assertThat(result.getReferencedKeys()).containsExactly(FILE_KEY);
+		assertThat(refCount()).isEqualTo(1);
+	}
+
+	@Test
+	void 삭제_대기_중인_파일을_register_하면_되살아난다() {
+		fileContentService.register(HASH, FILE_KEY, 10, "video/mp4");
+		fileContentService.release(FILE_KEY);
+
+		assertThat(fileContentService.register(HASH, FILE_KEY, 10, "video/mp4")).isEqualTo(FILE_KEY);
+
+		assertThat(fileContentRepository.count()).isEqualTo(1);
+		assertThat(refCount()).isEqualTo(1);
+	}
+
+	@Test
+	void 저장소에서_지우는_동안의_acquire_는_기다리지_않고_새_업로드로_처리된다() throws Exception {
+		fileContentService.register(HASH, FILE_KEY, 10, "video/mp4");
+		fileContentService.release(FILE_KEY);
+
+		CountDownLatch deleting = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		Future<FilePurgeResult> purge = executor.submit(() -> fileDeletionService.purge(List.of(FILE_KEY), keys -> {
+			deleting.countDown();
+			await(proceed);
+			return List.of();
+		}));
+		assertThat(deleting.await(10, TimeUnit.SECONDS)).isTrue();
+
+		// 저장소 호출 동안에는 인덱스 행을 잠그지 않으므로 바로 끝나고, 지우는 중인 파일은 재사용하지 않음
+		assertThat(executor.submit(() -> fileContentService.acquire(HASH)).get(1, TimeUnit.SECONDS)).isNull();
+		assertThat(refCount()).isZero();
+
+		proceed.countDown();
+		assertThat(purge.get(10, TimeUnit.SECONDS).getDeletedKeys()).containsExactly(FILE_KEY);
+		assertThat(fileContentRepository.findByContentHash(HASH)).isEmpty();
+	}
+
+	@Test
+	void 저장소에서_지우는_동안의_register_는_등록되지_않는다() throws Exception {
+		fileContentService.register(HASH, FILE_KEY, 10, "video/mp4");
+		fileContentService.release(FILE_KEY);
+		fileDeletionService.enqueue(FILE_KEY);
+
+		CountDownLatch deleting = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		Future<FilePurgeResult> purge = executor.submit(() -> fileDeletionService.purge(List.of(FILE_KEY), keys -> {
+			deleting.countDown();
+			await(proceed);
+			return List.of();
+		}));
+		assertThat(deleting.await(10, TimeUnit.SECONDS)).isTrue();
+
+		// 같은 내용(행이 지우는 중), 같은 키(삭제 선점 중) 모두 등록하지 않음
+		String otherHash = "b".repeat(64);
+		assertThat(executor.submit(() -> fileContentService.register(HASH, FILE_KEY, 10, "video/mp4"))
+			.get(1, TimeUnit.SECONDS)).isNull();
+		assertThat(executor.submit(() -> fileContentService.register(otherHash, FILE_KEY, 10, "video/mp4"))
+			.get(1, TimeUnit.SECONDS)).isNull();
+		assertThat(fileContentRepository.findByContentHash(otherHash)).isEmpty();
+
+		proceed.countDown();
+		assertThat(purge.get(10, TimeUnit.SECONDS).getDeletedKeys()).containsExactly(FILE_KEY);
+		assertThat(fileContentRepository.count()).isZero();
+	}
+
+	@Test
+	void 저장소_삭제에_실패한_키는_다시_재사용된다() {
+		fileContentService.register(HASH, FILE_KEY, 10, "video/mp4");
+		fileContentService.release(FILE_KEY);
+
+		FilePurgeResult result = fileDeletionService.purge(List.of(FILE_KEY), keys -> keys);
+
+		assertThat(result.getFailedKeys()).containsExactly(FILE_KEY);
+		assertThat(fileContentService.acquire(HASH)).isEqualTo(FILE_KEY);
+		assertThat(refCount()).isEqualTo(1);
+	}
+
+	@Test
+	void 롤백된_참조를_해제하면_마지막_참조일_때_삭제가_예약된다() {
+		fileContentService.register(HASH, FILE_KEY, 10, "video/mp4");
+
+		fileContentService.releaseUnused(FILE_KEY);
+
+		assertThat(refCount()).isZero();
+		assertThat(fileDeletionRepository.findFileKeysIn(List.of(FILE_KEY))).containsExactly(FILE_KEY);
+	}
+
+	@Test
+	void 가리키는_곳_없는_파일은_참조_수를_0으로_맞추고_삭제_예약하되_최근_참조된_파일은_건너뛴다() {
+		fileContentService.register(HASH, FILE_KEY, 10, "video/mp4");
+		String untrackedKey = "replays/bb/" + "b".repeat(64) + ".mp4";
+
+		// 방금 참조 수가 늘어난 파일은 저장 중인 참조가 있을 수 있음
+		assertThat(fileContentService.releaseOrphans(List.of(FILE_KEY, untrackedKey),
+			LocalDateTime.now().minusHours(1))).containsExactly(untrackedKey);
+		assertThat(refCount()).isEqualTo(1);
+
+		assertThat(fileContentService.releaseOrphans(List.of(FILE_KEY), LocalDateTime.now().plusSeconds(1)))
+			.containsExactly(FILE_KEY);
+		assertThat(refCount()).isZero();
+		assertThat(fileDeletionRepository.findFileKeysIn(List.of(FILE_KEY, untrackedKey)))
+			.containsExactlyInAnyOrder(FILE_KEY, untrackedKey);
+	}
+
+	private int refCount() {
+		return fileContentRepository.findByContentHash(HASH).map(FileContent::getRefCount).orElseThrow();
+	}
+
+	private <T> List<T> runConcurrently(int count, Callable<T> task) throws Exception {
+		List<Callable<T>> tasks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			tasks.add(task);
+		}
+		return runConcurrently(tasks);
+	}
+
+	// 모든 작업을 한꺼번에 출발시켜 같은 행을 두고 경쟁하게 함
+	private <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<T>> futures = new ArrayList<>(tasks.size());
+		for (Callable<T> task : tasks) {
+			futures.add(executor.submit(() -> {
+				await(start);
+				return task.call();
+			}));
+		}
+		start.countDown();
+
+		List<T> results = new ArrayList<>(tasks.size());
+		for (Future<T> future : futures) {
+			results.add(future.get(30, TimeUnit.SECONDS));
+		}
+		return results;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(30, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
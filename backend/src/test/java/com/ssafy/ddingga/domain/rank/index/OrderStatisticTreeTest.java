@@ -0,0 +1,102 @@
+package com.ssafy.ddingga.domain.rank.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class OrderStatisticTreeTest {
+
+	@Test
+	void 값_내림차순_동점이면_ID_오름차순으로_정렬된다() {
+		OrderStatisticTree tree = new OrderStatisticTree();
+		tree.insert(50, 3);
+		tree.insert(80, 2);
+		tree.insert(50, 1);
+		tree.insert(10, 4);
+
+		assertThat(tree.size()).isEqualTo(4);
+		assertThat(tree.idAt(0)).isEqualTo(2);
+		assertThat(tree.idAt(1)).isEqualTo(1);
+		assertThat(tree.idAt(2)).isEqualTo(3);
+		assertThat(tree.idAt(3)).isEqualTo(4);
+		assertThat(tree.indexOf(50, 3)).isEqualTo(2);
+		assertThat(tree.indexOf(50, 99)).isEqualTo(-1);
+	}
+
+	@Test
+	void 동점은_같은_순위다() {
+		OrderStatisticTree tree = new OrderStatisticTree();
+		tree.insert(90, 1);
+		tree.insert(70, 2);
+		tree.insert(70, 3);
+		tree.insert(70, 4);
+		tree.insert(30, 5);
+
+		assertThat(tree.countGreater(90) + 1).isEqualTo(1);
+		assertThat(tree.countGreater(70) + 1).isEqualTo(2);
+		assertThat(tree.countGreater(30) + 1).isEqualTo(5);
+		assertThat(tree.countGreater(100)).isZero();
+		assertThat(tree.countGreater(0)).isEqualTo(5);
+	}
+
+	@Test
+	void 삭제하면_순위와_위치가_갱신된다() {
+		OrderStatisticTree tree = new OrderStatisticTree();
+		tree.insert(90, 1);
+		tree.insert(70, 2);
+		tree.insert(70, 3);
+
+		tree.remove(70, 2);
+		assertThat(tree.size()).isEqualTo(2);
+		assertThat(tree.indexOf(70, 2)).isEqualTo(-1);
+		assertThat(tree.indexOf(70, 3)).isEqualTo(1);
+		assertThat(tree.countGreater(70)).isEqualTo(1);
+
+		// 없는 항목 삭제는 아무것도 바꾸지 않음
+		tree.remove(70, 2);
+		tree.remove(55, 3);
+		assertThat(tree.size()).isEqualTo(2);
+	}
+
+	@Test
+	void 범위를_벗어난_위치는_예외() {
+		OrderStatisticTree tree = new OrderStatisticTree();
+		tree.insert(1, 1);
+
+		assertThatThrownBy(() -> tree.idAt(1)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Test
+	void 무작위_삽입_삭제_결과가_정렬_목록과_같다() {
+		Random random = new Random(42);
+		OrderStatisticTree tree = new OrderStatisticTree();
+		List<double[]> expected = new ArrayList<>();
+		Comparator<double[]> order = Comparator.<double[]>comparingDouble(entry -> -entry[0])
+			.thenComparingDouble(entry -> entry[1]);
+
+		for (int id = 0; id < 2000; id++) {
+			double value = random.nextInt(50);  // 동점이 많이 생기도록 범위를 좁게
+			tree.insert(value, id);
+			expected.add(new double[] {value, id});
+		}
+		for (int i = 0; i < 700; i++) {
+			double[] removed = expected.remove(random.nextInt(expected.size()));
+			tree.remove(removed[0], (int)removed[1]);
+		}
+		expected.sort(order);
+
+		assertThat(tree.size()).isEqualTo(expected.size());
+		for (int i = 0; i < expected.size(); i++) {
+			double[] entry = expected.get(i);
+			assertThat(tree.idAt(i)).isEqualTo((int)entry[1]);
+			assertThat(tree.indexOf(entry[0], (int)entry[1])).isEqualTo(i);
+			long greater = expected.stream().filter(other -> other[0] > entry[0]).count();
+			assertThat(tree.countGreater(entry[0])).isEqualTo((int)greater);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.ssafy.ddingga.global.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.ssafy.ddingga.global.config.S3Config;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * 비동기 업로드 경로 검사 (LocalStack S3 로 실행, Docker 가 없으면 건너뜀)
+ * 운영과 같은 멀티파트 설정(S3Config.multipartConfiguration)으로 클라이언트를 만들고 기준만 작게 줄임
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3AsyncServiceTest {
+	private static final String BUCKET = "ddingga-test";
+	private static final long PART_SIZE = 5L * 1024 * 1024;  // S3 최소 파트 크기
+
+	@Container
+	static LocalStackContainer localstack = new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.0"))
+		.withServices(LocalStackContainer.Service.S3);
+
+	private S3AsyncClient s3AsyncClient;
+	private S3AsyncService s3AsyncService;
+
+	@BeforeAll
+	static void createBucket() {
+		try (S3AsyncClient client = newClient()) {
+			client.createBucket(request -> request.bucket(BUCKET)).join();
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		s3AsyncClient = newClient();
+
+		S3Service s3Service = new S3Service(null, null, null);
+		ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+		ReflectionTestUtils.setField(s3Service, "region", localstack.getRegion());
+
+		s3AsyncService = new S3AsyncService(s3AsyncClient, s3Service);
+		ReflectionTestUtils.setField(s3AsyncService, "maxInFlight", 4);
+		ReflectionTestUtils.setField(s3AsyncService, "maxPending", 16);
+		s3AsyncService.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		s3AsyncService.shutdown();
+		s3AsyncClient.close();
+	}
+
+	@Test
+	void 멀티파트_기준_이상인_파일은_파트로_나눠_올린다() throws Exception {
+		byte[] data = randomBytes(PART_SIZE * 2 + 1024);
+		MockMultipartFile file = new MockMultipartFile("videoFile", "replay.mp4", "video/mp4", data);
+
+		String url = s3AsyncService.uploadFileTo(file, "replays/large.mp4").get(60, TimeUnit.SECONDS);
+
+		assertThat(url).endsWith("/replays/large.mp4");
+		HeadObjectResponse head = headObject("replays/large.mp4");
+		assertThat(head.contentLength()).isEqualTo(data.length);
+		// 멀티파트로 올린 객체의 ETag 는 "{해시}-{파트 수}"
+		assertThat(head.eTag()).contains("-3");
+		assertThat(download("replays/large.mp4")).isEqualTo(data);
+	}
+
+	@Test
+	void 멀티파트_기준보다_작은_파일은_한_번에_올린다() throws Exception {
+		byte[] data = randomBytes(1024 * 1024);
+		MockMultipartFile file = new MockMultipartFile("videoFile", "replay.mp4", "video/mp4", data);
+
+		s3AsyncService.uploadFileTo(file, "replays/small.mp4").get(60, TimeUnit.SECONDS);
+
+		HeadObjectResponse head = headObject("replays/small.mp4");
+		assertThat(head.contentLength()).isEqualTo(data.length);
+		assertThat(head.eTag()).doesNotContain("-");
+		assertThat(download("replays/small.mp4")).isEqualTo(data);
+	}
+
+	private static S3AsyncClient newClient() {
+		return S3AsyncClient.builder()
+			.endpointOverride(localstack.getEndpointOverride(LocalStackContainer.Service.S3))
+			.region(Region.of(localstack.getRegion()))
+			.credentialsProvider(StaticCredentialsProvider.create(
+				AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey())))
+			.forcePathStyle(true)
+			.multipartEnabled(true)
+			.multipartConfiguration(S3Config.multipartConfiguration(PART_SIZE * 2, PART_SIZE, 2))
+			.build();
+	}
+
+	private HeadObjectResponse headObject(String fileKey) {
+		return s3AsyncClient.headObject(request -> request.bucket(BUCKET).key(fileKey)).join();
+	}
+
+	private byte[] download(String fileKey) {
+		return s3AsyncClient.getObject(request -> request.bucket(BUCKET).key(fileKey),
+			AsyncResponseTransformer.toBytes()).join().asByteArray();
+	}
+
+	private static byte[] randomBytes(long size) {
+		byte[] data = new byte[(int)size];
+		new Random(42).nextBytes(data);
+		return data;
+	}
+}